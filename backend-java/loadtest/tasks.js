@@ -0,0 +1,57 @@
+// k6 load test for the task API, used to compare the servlet and the reactive build.
+//
+//   k6 run -e BASE_URL=http://localhost:3000 -e VUS=200 loadtest/tasks.js
+//
+// Each virtual user creates a user once, then loops over create, list, read,
+// status update and delete of its own tasks. Run it against both builds with
+// the same database and VUS values and compare http_req_duration (p95/p99),
+// http_reqs (throughput) and http_req_failed.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:3000';
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export const options = {
+    scenarios: {
+        tasks: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: Number(__ENV.VUS || 100) },
+                { duration: __ENV.DURATION || '2m', target: Number(__ENV.VUS || 100) },
+                { duration: '15s', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+let userId;
+
+export default function () {
+    if (userId === undefined) {
+        const user = http.post(`${BASE_URL}/api/users`, JSON.stringify({
+            email: `load-${__VU}-${Date.now()}@example.com`,
+            name: `Load Test ${__VU}`,
+        }), JSON_HEADERS);
+        check(user, { 'user created': (r) => r.status === 201 });
+        userId = user.json('id');
+    }
+
+    const created = http.post(`${BASE_URL}/api/tasks`, JSON.stringify({
+        title: `Task ${__ITER}`,
+        description: 'Load test task',
+        userId: userId,
+    }), JSON_HEADERS);
+    check(created, { 'task created': (r) => r.status === 201 });
+    const taskId = created.json('id');
+
+    check(http.get(`${BASE_URL}/api/tasks?userId=${userId}`), { 'tasks listed': (r) => r.status === 200 });
+    check(http.get(`${BASE_URL}/api/tasks/${taskId}`), { 'task read': (r) => r.status === 200 });
+    check(http.patch(`${BASE_URL}/api/tasks/${taskId}/status`, JSON.stringify({ status: 'COMPLETED' }), JSON_HEADERS),
+        { 'status updated': (r) => r.status === 200 });
+    check(http.del(`${BASE_URL}/api/tasks/${taskId}`), { 'task deleted': (r) => r.status === 204 });
+}
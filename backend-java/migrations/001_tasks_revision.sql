@@ -0,0 +1,2 @@
+-- Revision counter of tasks, checked by the write-behind flush of status updates.
+ALTER TABLE tasks ADD COLUMN revision INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,14 @@
+-- Archive of old completed tasks, filled by the task archiver.
+CREATE TABLE tasks_archive (
+    id BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    description TEXT,
+    due_at TIMESTAMP,
+    status VARCHAR(255) NOT NULL CHECK (status IN ('PENDING', 'IN_PROGRESS', 'COMPLETED', 'STALE', 'EXPIRED')),
+    title VARCHAR(255) NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    user_id BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+CREATE INDEX idx_tasks_archive_user_id ON tasks_archive (user_id);
@@ -0,0 +1,12 @@
+-- Due date of tasks, used by the deadline timers.
+ALTER TABLE tasks ADD COLUMN due_at TIMESTAMP;
+CREATE INDEX idx_tasks_due_at ON tasks (due_at);
+
+-- The STALE and EXPIRED statuses are missing from the status check constraint
+-- that Hibernate created with the table. SQLite cannot alter a constraint; the
+-- application rebuilds the tasks table with the current statuses at startup.
+-- On PostgreSQL, replace the constraint instead:
+--
+-- ALTER TABLE tasks DROP CONSTRAINT IF EXISTS tasks_status_check;
+-- ALTER TABLE tasks ADD CONSTRAINT tasks_status_check
+--     CHECK (status IN ('PENDING', 'IN_PROGRESS', 'COMPLETED', 'STALE', 'EXPIRED'));
@@ -0,0 +1,24 @@
+-- Bulk import jobs with their checkpoint, and the rejected rows reported per job.
+CREATE TABLE import_jobs (
+    id INTEGER,
+    byte_offset BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    failure VARCHAR(1000),
+    file_name VARCHAR(255) NOT NULL,
+    format VARCHAR(255) NOT NULL CHECK (format IN ('CSV', 'NDJSON')),
+    rows_failed BIGINT NOT NULL,
+    rows_imported BIGINT NOT NULL,
+    rows_read BIGINT NOT NULL,
+    status VARCHAR(255) NOT NULL CHECK (status IN ('QUEUED', 'RUNNING', 'COMPLETED', 'FAILED')),
+    type VARCHAR(255) NOT NULL CHECK (type IN ('USERS', 'TASKS')),
+    updated_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (id)
+);
+CREATE TABLE import_job_errors (
+    job_id BIGINT NOT NULL,
+    error_index INTEGER NOT NULL,
+    failed_row BIGINT NOT NULL,
+    message VARCHAR(1000) NOT NULL,
+    PRIMARY KEY (job_id, error_index),
+    FOREIGN KEY (job_id) REFERENCES import_jobs (id)
+);
@@ -0,0 +1,140 @@
+package com.webapp.validation;
+
+import com.webapp.dto.UserDto;
+import com.webapp.exception.ValidationFailedException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the validation pipeline of the user DTO with the bean validation it replaced.
+ *
+ * <p>{@link AnnotatedUser} carries the constraints {@code UserDto} had before
+ * the pipeline. Both sides validate a valid body and one with every field
+ * invalid, and both report all invalid fields. Run with
+ * {@code mvn -Pbenchmark test-compile exec:exec}.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ValidationBenchmark {
+
+    private static final String LONG_NAME = "x".repeat(300);
+
+    private final UserDto validUser = new UserDto("jane.doe@example.com", "Jane Doe");
+    private final UserDto invalidUser = new UserDto("not-an-email", LONG_NAME);
+    private final AnnotatedUser validAnnotatedUser = new AnnotatedUser("jane.doe@example.com", "Jane Doe");
+    private final AnnotatedUser invalidAnnotatedUser = new AnnotatedUser("not-an-email", LONG_NAME);
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    /**
+     * Bean validation constraints of the user DTO before the pipeline.
+     *
+     * @param email User's email address
+     * @param name User's full name
+     */
+    public record AnnotatedUser(
+            @NotBlank(message = "Email is required")
+            @Email(message = "Invalid email format")
+            @Size(max = 255, message = "Email must not exceed 255 characters")
+            String email,
+
+            @NotBlank(message = "Name is required")
+            @Size(max = 255, message = "Name must not exceed 255 characters")
+            String name) {
+    }
+
+    /**
+     * Creates the bean validator, as the application did at startup.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    /**
+     * Closes the bean validator factory.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    /**
+     * Validates a valid body with the pipeline.
+     *
+     * @return Error message per invalid field
+     */
+    @Benchmark
+    public Map<String, String> pipelineValid() {
+        return pipeline(validUser);
+    }
+
+    /**
+     * Validates a body with every field invalid with the pipeline.
+     *
+     * @return Error message per invalid field
+     */
+    @Benchmark
+    public Map<String, String> pipelineInvalid() {
+        return pipeline(invalidUser);
+    }
+
+    /**
+     * Validates a valid body with bean validation.
+     *
+     * @return Violations
+     */
+    @Benchmark
+    public Set<ConstraintViolation<AnnotatedUser>> beanValidationValid() {
+        return validator.validate(validAnnotatedUser);
+    }
+
+    /**
+     * Validates a body with every field invalid with bean validation.
+     *
+     * @return Violations
+     */
+    @Benchmark
+    public Set<ConstraintViolation<AnnotatedUser>> beanValidationInvalid() {
+        return validator.validate(invalidAnnotatedUser);
+    }
+
+    private static Map<String, String> pipeline(UserDto user) {
+        try {
+            DtoValidation.USER.validate(user);
+            return Map.of();
+        } catch (ValidationFailedException ex) {
+            return ex.getErrors();
+        }
+    }
+}
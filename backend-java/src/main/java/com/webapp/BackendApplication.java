@@ -1,7 +1,10 @@
 package com.webapp;
 
+import com.webapp.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 /**
  * Main Spring Boot application class.
@@ -17,10 +20,17 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * </ul>
  * </p>
  * 
+ * <p>In a build with the Maven profile {@code reactive}, the Spring profile of
+ * the same name serves the API with WebFlux and R2DBC instead; that build adds
+ * {@code src/reactive}, whose {@code ReactiveStackConfiguration} is registered
+ * as an auto-configuration.</p>
+ * 
  * @author Web Application Team
  * @version 1.0.0
  */
-@SpringBootApplication
+@SpringBootApplication(scanBasePackages = {"com.webapp.exception", "com.webapp.json"})
+@Import(ServletStackConfiguration.class)
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class BackendApplication {
 
     /**
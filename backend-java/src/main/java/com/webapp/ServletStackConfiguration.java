@@ -0,0 +1,31 @@
+package com.webapp;
+
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Servlet stack: Spring MVC controllers on Tomcat, backed by JPA.
+ * 
+ * <p>Active unless the {@code reactive} profile is selected.</p>
+ * 
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Configuration
+@Profile("!reactive")
+@ComponentScan({
+        "com.webapp.analytics",
+        "com.webapp.backup",
+        "com.webapp.config",
+        "com.webapp.controller",
+        "com.webapp.deadline",
+        "com.webapp.importer",
+        "com.webapp.service",
+        "com.webapp.sharding",
+        "com.webapp.snapshot"
+})
+@EnableJpaRepositories("com.webapp.repository")
+public class ServletStackConfiguration {
+}
@@ -0,0 +1,138 @@
+package com.webapp.analytics;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.TimeStampMilliVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.apache.arrow.vector.types.pojo.Schema;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Writes the rows of one partition to an Arrow IPC file.
+ *
+ * <p>Rows are collected in column vectors and written as a record batch
+ * once their estimated size reaches the batch budget, so memory use depends
+ * on the budget and not on the partition size.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+final class ArrowPartitionWriter implements Closeable {
+
+    private static final int FIXED_WIDTH_BYTES = 8;
+    private static final int OFFSET_BYTES = 4;
+
+    private final List<ExportColumn> columns;
+    private final long batchBytes;
+    private final FileChannel channel;
+    private final VectorSchemaRoot root;
+    private final ArrowFileWriter writer;
+    private int batchRows;
+    private long batchSize;
+
+    ArrowPartitionWriter(Path file, List<ExportColumn> columns, BufferAllocator allocator, long batchBytes)
+            throws IOException {
+        this.columns = columns;
+        this.batchBytes = batchBytes;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        Schema schema = new Schema(columns.stream().map(ExportColumn::toField).toList());
+        this.root = VectorSchemaRoot.create(schema, allocator);
+        this.writer = new ArrowFileWriter(root, null, channel);
+        this.writer.start();
+    }
+
+    /**
+     * Appends the current row of a result set whose columns are in export order.
+     *
+     * @param resultSet Result set positioned on a row
+     * @throws SQLException If a value cannot be read
+     * @throws IOException If a full batch cannot be written
+     */
+    void append(ResultSet resultSet) throws SQLException, IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            FieldVector vector = root.getVector(i);
+            int column = i + 1;
+            switch (columns.get(i).type()) {
+                case INT64 -> {
+                    long value = resultSet.getLong(column);
+                    if (resultSet.wasNull()) {
+                        ((BigIntVector) vector).setNull(batchRows);
+                    } else {
+                        ((BigIntVector) vector).setSafe(batchRows, value);
+                    }
+                    batchSize += FIXED_WIDTH_BYTES;
+                }
+                case UTF8 -> {
+                    String value = resultSet.getString(column);
+                    if (value == null) {
+                        ((VarCharVector) vector).setNull(batchRows);
+                    } else {
+                        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                        ((VarCharVector) vector).setSafe(batchRows, bytes);
+                        batchSize += bytes.length;
+                    }
+                    batchSize += OFFSET_BYTES;
+                }
+                case TIMESTAMP -> {
+                    Timestamp value = resultSet.getTimestamp(column);
+                    if (value == null) {
+                        ((TimeStampMilliVector) vector).setNull(batchRows);
+                    } else {
+                        ((TimeStampMilliVector) vector).setSafe(batchRows, value.getTime());
+                    }
+                    batchSize += FIXED_WIDTH_BYTES;
+                }
+            }
+        }
+        batchRows++;
+        if (batchSize >= batchBytes) {
+            writeBatch();
+        }
+    }
+
+    private void writeBatch() throws IOException {
+        if (batchRows == 0) {
+            return;
+        }
+        root.setRowCount(batchRows);
+        writer.writeBatch();
+        for (FieldVector vector : root.getFieldVectors()) {
+            vector.reset();
+        }
+        batchRows = 0;
+        batchSize = 0;
+    }
+
+    /**
+     * Writes the last batch and the file footer.
+     *
+     * @throws IOException If writing fails
+     */
+    void finish() throws IOException {
+        writeBatch();
+        writer.end();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            writer.close();
+        } finally {
+            root.close();
+            channel.close();
+        }
+    }
+}
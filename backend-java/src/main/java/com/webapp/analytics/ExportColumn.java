@@ -0,0 +1,54 @@
+package com.webapp.analytics;
+
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+
+import java.util.List;
+
+/**
+ * A column of an exported table.
+ *
+ * @param name Column name, the same in the database and in the export
+ * @param type Value type
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+record ExportColumn(String name, Type type) {
+
+    static final List<ExportColumn> USERS = List.of(
+            new ExportColumn("id", Type.INT64),
+            new ExportColumn("email", Type.UTF8),
+            new ExportColumn("name", Type.UTF8),
+            new ExportColumn("created_at", Type.TIMESTAMP),
+            new ExportColumn("updated_at", Type.TIMESTAMP));
+
+    static final List<ExportColumn> TASKS = List.of(
+            new ExportColumn("id", Type.INT64),
+            new ExportColumn("title", Type.UTF8),
+            new ExportColumn("description", Type.UTF8),
+            new ExportColumn("status", Type.UTF8),
+            new ExportColumn("user_id", Type.INT64),
+            new ExportColumn("due_at", Type.TIMESTAMP),
+            new ExportColumn("created_at", Type.TIMESTAMP),
+            new ExportColumn("updated_at", Type.TIMESTAMP));
+
+    Field toField() {
+        return Field.nullable(name, type.arrowType);
+    }
+
+    /**
+     * Supported value types and their Arrow representation.
+     */
+    enum Type {
+        INT64(new ArrowType.Int(64, true)),
+        UTF8(ArrowType.Utf8.INSTANCE),
+        TIMESTAMP(new ArrowType.Timestamp(TimeUnit.MILLISECOND, null));
+
+        private final ArrowType arrowType;
+
+        Type(ArrowType arrowType) {
+            this.arrowType = arrowType;
+        }
+    }
+}
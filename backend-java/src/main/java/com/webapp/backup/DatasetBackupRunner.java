@@ -0,0 +1,81 @@
+package com.webapp.backup;
+
+import com.webapp.backup.DatasetBackupService.BackupSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * Command line mode for dataset backups.
+ *
+ * <ul>
+ *   <li>{@code --backup.export=<file>} writes a backup and exits.</li>
+ *   <li>{@code --backup.restore=<file>} loads a backup into the empty database
+ *       before the application starts serving, so a new node can bootstrap
+ *       from a backup instead of a copied database file.</li>
+ * </ul>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Component
+public class DatasetBackupRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatasetBackupRunner.class);
+
+    private final DatasetBackupService backupService;
+    private final ConfigurableApplicationContext context;
+
+    /**
+     * Constructor with dependency injection.
+     *
+     * @param backupService Dataset backup service
+     * @param context Application context, closed after an export
+     */
+    @Autowired
+    public DatasetBackupRunner(DatasetBackupService backupService, ConfigurableApplicationContext context) {
+        this.backupService = backupService;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        List<String> restore = args.getOptionValues("backup.restore");
+        if (restore != null && !restore.isEmpty()) {
+            Path source = Paths.get(restore.get(0));
+            try (InputStream input = Files.newInputStream(source)) {
+                BackupSummary summary = backupService.restore(input);
+                logger.info("Restored {} users, {} tasks and {} archived tasks from {}",
+                        summary.users(), summary.tasks(), summary.archivedTasks(), source);
+            }
+        }
+
+        List<String> export = args.getOptionValues("backup.export");
+        if (export != null && !export.isEmpty()) {
+            Path target = Paths.get(export.get(0));
+            // Write next to the target and move it into place, so a failed export never leaves a partial file
+            Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+            try (OutputStream output = Files.newOutputStream(temporary)) {
+                BackupSummary summary = backupService.export(output);
+                logger.info("Exported {} users, {} tasks and {} archived tasks to {}",
+                        summary.users(), summary.tasks(), summary.archivedTasks(), target);
+            }
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+}
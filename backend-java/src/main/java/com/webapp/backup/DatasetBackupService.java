@@ -0,0 +1,459 @@
+package com.webapp.backup;
+
+import com.webapp.enums.TaskStatus;
+import com.webapp.exception.InvalidRequestException;
+import com.webapp.exception.ResourceConflictException;
+import com.webapp.repository.ArchivedTaskRepository;
+import com.webapp.repository.TaskRepository;
+import com.webapp.repository.UserRepository;
+import com.webapp.service.EmailIndex;
+import com.webapp.service.TaskIdIndex;
+import com.webapp.service.TaskStatusWriteBehind;
+import com.webapp.service.TaskTableUpgrade;
+import com.webapp.sharding.ShardedTaskStore;
+import com.webapp.snapshot.OffHeapSnapshotStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Binary backup and restore of the whole dataset.
+ *
+ * <p>The backup is a gzip-compressed stream of all users, all tasks and all
+ * archived tasks, each ordered by ID and written field by field. It is taken
+ * inside a single read-only, repeatable-read transaction, so it is consistent
+ * even while the application keeps writing. Restoring bulk-loads the rows into an empty
+ * database with batched inserts that keep the original IDs, in one transaction,
+ * and refreshes the in-memory indexes afterwards.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Service
+public class DatasetBackupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatasetBackupService.class);
+
+    private static final int MAGIC = 0x57424B50; // "WBKP"
+    private static final int FORMAT_VERSION = 4;
+    private static final int FIRST_VERSION_WITH_ARCHIVE = 2;
+    private static final int FIRST_VERSION_WITH_DUE_DATE = 3;
+    private static final int FIRST_VERSION_WITH_ARCHIVED_DUE_DATE = 4;
+    private static final byte ROW = 1;
+    private static final byte END_OF_SECTION = 0;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int BATCH_SIZE = 1000;
+    private static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+    // Far above the longest column (1000 characters of up to 4 UTF-8 bytes each)
+    private static final int MAX_STRING_BYTES = 64 * 1024;
+
+    private static final String INSERT_USER =
+            "INSERT INTO users (id, email, name, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_TASK =
+            "INSERT INTO tasks (id, title, description, status, user_id, created_at, updated_at, due_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ARCHIVED_TASK =
+            "INSERT INTO tasks_archive (id, title, description, status, user_id, created_at, updated_at, archived_at, "
+                    + "due_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate snapshotTransaction;
+    private final TransactionTemplate restoreTransaction;
+    private final EmailIndex emailIndex;
+    private final TaskIdIndex taskIdIndex;
+    private final TaskStatusWriteBehind statusWriteBehind;
+    private final TaskTableUpgrade taskTableUpgrade;
+    private final OffHeapSnapshotStore snapshotStore;
+    private final ShardedTaskStore shardedTasks;
+
+    /**
+     * Constructor with dependency injection.
+     *
+     * @param taskRepository Task repository
+     * @param userRepository User repository
+     * @param archivedTaskRepository Archived task repository
+     * @param jdbcTemplate JDBC template for bulk inserts
+     * @param transactionManager Transaction manager
+     * @param emailIndex In-memory email index, refreshed after a restore
+     * @param taskIdIndex In-memory task ID index, rebuilt after a restore
+     * @param statusWriteBehind Write-behind queue of task statuses, flushed before an export
+     * @param taskTableUpgrade Task table upgrade, advances the SQLite task ID sequence after a restore
+     * @param snapshotStore Read-only snapshot store, refreshed after a restore
+     * @param shardedTasks Sharded task store; backups only cover an unsharded database
+     */
+    @Autowired
+    public DatasetBackupService(TaskRepository taskRepository,
+                                UserRepository userRepository,
+                                ArchivedTaskRepository archivedTaskRepository,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                EmailIndex emailIndex,
+                                TaskIdIndex taskIdIndex,
+                                TaskStatusWriteBehind statusWriteBehind,
+                                TaskTableUpgrade taskTableUpgrade,
+                                OffHeapSnapshotStore snapshotStore,
+                                ShardedTaskStore shardedTasks) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.restoreTransaction = new TransactionTemplate(transactionManager);
+        this.emailIndex = emailIndex;
+        this.taskIdIndex = taskIdIndex;
+        this.statusWriteBehind = statusWriteBehind;
+        this.taskTableUpgrade = taskTableUpgrade;
+        this.snapshotStore = snapshotStore;
+        this.shardedTasks = shardedTasks;
+    }
+
+    /**
+     * Writes a consistent backup of all users and tasks.
+     *
+     * <p>The output stream is finished but not closed.</p>
+     *
+     * @param output Destination stream
+     * @return Number of exported rows
+     * @throws IOException If writing fails
+     */
+    public BackupSummary export(OutputStream output) throws IOException {
+        requireUnsharded();
+        long start = System.currentTimeMillis();
+        // Status updates acknowledged before the export must be in the backup
+        statusWriteBehind.flush();
+        GZIPOutputStream gzip = new GZIPOutputStream(output, BUFFER_SIZE);
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(gzip, BUFFER_SIZE));
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+        long[] counts = new long[3];
+        try {
+            snapshotTransaction.executeWithoutResult(status -> {
+                try (Stream<Object[]> rows = userRepository.streamSnapshotRows()) {
+                    rows.forEach(row -> {
+                        writeUser(data, row);
+                        counts[0]++;
+                    });
+                }
+                endSection(data);
+                try (Stream<Object[]> rows = taskRepository.streamSnapshotRows()) {
+                    rows.forEach(row -> {
+                        writeTaskWithTimestamp(data, row);
+                        counts[1]++;
+                    });
+                }
+                endSection(data);
+                try (Stream<Object[]> rows = archivedTaskRepository.streamSnapshotRows()) {
+                    rows.forEach(row -> {
+                        writeArchivedTask(data, row);
+                        counts[2]++;
+                    });
+                }
+                endSection(data);
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        data.flush();
+        gzip.finish();
+        BackupSummary summary = new BackupSummary(counts[0], counts[1], counts[2], System.currentTimeMillis() - start);
+        logger.info("Exported {} users, {} tasks and {} archived tasks in {} ms",
+                summary.users(), summary.tasks(), summary.archivedTasks(), summary.durationMillis());
+        return summary;
+    }
+
+    /**
+     * Loads a backup into an empty database.
+     *
+     * @param input Backup stream
+     * @return Number of restored rows
+     * @throws IOException If reading fails
+     * @throws ResourceConflictException If the database already contains data
+     * @throws InvalidRequestException If the stream is not a backup of a supported version
+     */
+    public BackupSummary restore(InputStream input) throws IOException {
+        requireUnsharded();
+        long start = System.currentTimeMillis();
+        DataInputStream data;
+        try {
+            data = new DataInputStream(new BufferedInputStream(new GZIPInputStream(input, BUFFER_SIZE), BUFFER_SIZE));
+        } catch (ZipException | EOFException ex) {
+            throw new InvalidRequestException("Not a dataset backup", ex);
+        }
+        int version = readHeader(data);
+        BackupSummary summary;
+        try {
+            summary = restoreTransaction.execute(status -> {
+                if (userRepository.count() > 0 || taskRepository.count() > 0 || archivedTaskRepository.count() > 0) {
+                    throw new ResourceConflictException("Restore requires an empty database");
+                }
+                long users = insertSection(data, INSERT_USER, DatasetBackupService::readUser);
+                long tasks = insertSection(data, INSERT_TASK, version >= FIRST_VERSION_WITH_DUE_DATE
+                        ? DatasetBackupService::readTaskWithTimestamp
+                        : DatasetBackupService::readTaskWithoutDueDate);
+                long archivedTasks = version >= FIRST_VERSION_WITH_ARCHIVE
+                        ? insertSection(data, INSERT_ARCHIVED_TASK, version >= FIRST_VERSION_WITH_ARCHIVED_DUE_DATE
+                                ? DatasetBackupService::readArchivedTask
+                                : DatasetBackupService::readArchivedTaskWithoutDueDate)
+                        : 0;
+                resetIdentitySequences();
+                return new BackupSummary(users, tasks, archivedTasks, System.currentTimeMillis() - start);
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        // Rows were appended in primary key order; refresh the planner statistics once at the end
+        jdbcTemplate.execute("ANALYZE");
+        emailIndex.warmUp();
+        taskIdIndex.rebuild();
+        snapshotStore.refresh();
+        logger.info("Restored {} users, {} tasks and {} archived tasks in {} ms",
+                summary.users(), summary.tasks(), summary.archivedTasks(), summary.durationMillis());
+        return summary;
+    }
+
+    private long insertSection(DataInputStream data, String sql, RowReader reader) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        long count = 0;
+        try {
+            while (data.readByte() == ROW) {
+                batch.add(reader.read(data));
+                if (batch.size() == BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate(sql, batch);
+                    count += batch.size();
+                    batch.clear();
+                }
+            }
+        } catch (EOFException ex) {
+            throw new InvalidRequestException("Backup is truncated", ex);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read backup", ex);
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+            count += batch.size();
+        }
+        return count;
+    }
+
+    /**
+     * Moves identity sequences past the restored IDs where the database keeps them separately.
+     */
+    private void resetIdentitySequences() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if ("PostgreSQL".equals(product)) {
+            jdbcTemplate.execute("SELECT setval(pg_get_serial_sequence('users', 'id'), COALESCE(MAX(id), 1)) FROM users");
+            // Archived tasks keep their IDs, so new tasks must not reuse them either
+            jdbcTemplate.execute("SELECT setval(pg_get_serial_sequence('tasks', 'id'), GREATEST("
+                    + "COALESCE((SELECT MAX(id) FROM tasks), 1), COALESCE((SELECT MAX(id) FROM tasks_archive), 1)))");
+        } else {
+            taskTableUpgrade.advanceIdSequence();
+        }
+    }
+
+    private void requireUnsharded() {
+        if (shardedTasks.isEnabled()) {
+            throw new IllegalStateException("Backups do not cover sharded tasks");
+        }
+    }
+
+    private static int readHeader(DataInputStream data) throws IOException {
+        try {
+            if (data.readInt() != MAGIC) {
+                throw new InvalidRequestException("Not a dataset backup");
+            }
+            int version = data.readInt();
+            if (version < 1 || version > FORMAT_VERSION) {
+                throw new InvalidRequestException("Unsupported backup format version " + version);
+            }
+            return version;
+        } catch (EOFException ex) {
+            throw new InvalidRequestException("Backup is truncated", ex);
+        }
+    }
+
+    private static void writeUser(DataOutputStream data, Object[] row) {
+        try {
+            data.writeByte(ROW);
+            data.writeLong((Long) row[0]);
+            writeString(data, (String) row[1]);
+            writeString(data, (String) row[2]);
+            data.writeLong(epochMillis((LocalDateTime) row[3]));
+            data.writeLong(epochMillis((LocalDateTime) row[4]));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void writeTask(DataOutputStream data, Object[] row) {
+        try {
+            data.writeByte(ROW);
+            data.writeLong((Long) row[0]);
+            data.writeLong((Long) row[1]);
+            // Statuses are stored by name, so backups survive changes to the enum order
+            writeString(data, ((TaskStatus) row[2]).name());
+            data.writeLong(epochMillis((LocalDateTime) row[3]));
+            data.writeLong(epochMillis((LocalDateTime) row[4]));
+            writeString(data, (String) row[5]);
+            writeString(data, (String) row[6]);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // row[7] is the due date of a task or the archiving time of an archived task
+    private static void writeTaskWithTimestamp(DataOutputStream data, Object[] row) {
+        writeTask(data, row);
+        try {
+            data.writeLong(epochMillis((LocalDateTime) row[7]));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // row[8] is the due date of an archived task
+    private static void writeArchivedTask(DataOutputStream data, Object[] row) {
+        writeTaskWithTimestamp(data, row);
+        try {
+            data.writeLong(epochMillis((LocalDateTime) row[8]));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void endSection(DataOutputStream data) {
+        try {
+            data.writeByte(END_OF_SECTION);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static Object[] readUser(DataInputStream data) throws IOException {
+        long id = data.readLong();
+        String email = readString(data);
+        String name = readString(data);
+        return new Object[] {id, email, name, timestamp(data.readLong()), timestamp(data.readLong())};
+    }
+
+    private static Object[] readTask(DataInputStream data) throws IOException {
+        long id = data.readLong();
+        long userId = data.readLong();
+        String status = readString(data);
+        Timestamp createdAt = timestamp(data.readLong());
+        Timestamp updatedAt = timestamp(data.readLong());
+        String title = readString(data);
+        String description = readString(data);
+        return new Object[] {id, title, description, status, userId, createdAt, updatedAt};
+    }
+
+    private static Object[] readTaskWithoutDueDate(DataInputStream data) throws IOException {
+        Object[] task = readTask(data);
+        return Arrays.copyOf(task, task.length + 1);
+    }
+
+    private static Object[] readTaskWithTimestamp(DataInputStream data) throws IOException {
+        Object[] task = readTask(data);
+        Object[] row = Arrays.copyOf(task, task.length + 1);
+        row[task.length] = timestamp(data.readLong());
+        return row;
+    }
+
+    private static Object[] readArchivedTaskWithoutDueDate(DataInputStream data) throws IOException {
+        Object[] task = readTaskWithTimestamp(data);
+        return Arrays.copyOf(task, task.length + 1);
+    }
+
+    private static Object[] readArchivedTask(DataInputStream data) throws IOException {
+        Object[] task = readTaskWithTimestamp(data);
+        Object[] row = Arrays.copyOf(task, task.length + 1);
+        row[task.length] = timestamp(data.readLong());
+        return row;
+    }
+
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        if (value == null) {
+            data.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private static String readString(DataInputStream data) throws IOException {
+        int length = data.readInt();
+        if (length == -1) {
+            return null;
+        }
+        if (length < 0 || length > MAX_STRING_BYTES) {
+            throw new InvalidRequestException("Backup contains an invalid string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long epochMillis(LocalDateTime timestamp) {
+        return timestamp == null ? NULL_TIMESTAMP : timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static Timestamp timestamp(long epochMillis) {
+        if (epochMillis == NULL_TIMESTAMP) {
+            return null;
+        }
+        return Timestamp.valueOf(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault()));
+    }
+
+    /**
+     * Reads one row of a backup section.
+     */
+    @FunctionalInterface
+    private interface RowReader {
+        Object[] read(DataInputStream data) throws IOException;
+    }
+
+    /**
+     * Outcome of a backup or restore.
+     *
+     * @param users Number of users
+     * @param tasks Number of tasks
+     * @param archivedTasks Number of archived tasks
+     * @param durationMillis Duration in milliseconds
+     */
+    public record BackupSummary(long users, long tasks, long archivedTasks, long durationMillis) {
+    }
+}
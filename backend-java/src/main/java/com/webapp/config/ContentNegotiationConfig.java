@@ -0,0 +1,47 @@
+package com.webapp.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Content negotiation configuration for binary formats.
+ *
+ * <p>Registers CBOR ({@code application/cbor}) and Smile
+ * ({@code application/x-jackson-smile}) message converters next to JSON.
+ * Clients select a format with the Accept and Content-Type headers; the
+ * controllers are unchanged. Both converters are built from the application's
+ * Jackson builder, so they share its modules and settings with JSON.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Configuration
+public class ContentNegotiationConfig {
+
+    /**
+     * Creates the CBOR message converter.
+     *
+     * @param builder Application Jackson builder
+     * @return CBOR message converter
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Creates the Smile message converter.
+     *
+     * @param builder Application Jackson builder
+     * @return Smile message converter
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
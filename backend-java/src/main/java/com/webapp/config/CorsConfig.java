@@ -1,17 +1,31 @@
 package com.webapp.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webapp.filter.AdaptiveConcurrencyLimit;
+import com.webapp.filter.RateLimitFilter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * CORS configuration for the application.
  * 
  * <p>Configures Cross-Origin Resource Sharing to allow the Angular frontend
- * to communicate with the backend API.</p>
+ * to communicate with the backend API, and registers the rate limiting filter
+ * that protects the API from misbehaving clients.</p>
+ * 
+ * <p>The CORS filter runs before the rate limiting filter, so rejected requests
+ * still carry the CORS headers and browsers can read the 429 response.</p>
  * 
  * @author Web Application Team
  * @version 1.0.0
@@ -19,6 +33,16 @@ import org.springframework.web.filter.CorsFilter;
 @Configuration
 public class CorsConfig {
 
+    /**
+     * Order of the CORS filter, right after the character encoding filter.
+     */
+    public static final int CORS_FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+    /**
+     * Order of the rate limiting filter, after the CORS filter.
+     */
+    public static final int RATE_LIMIT_FILTER_ORDER = CORS_FILTER_ORDER + 10;
+
     @Value("${spring.web.cors.allowed-origins}")
     private String allowedOrigins;
 
@@ -31,6 +55,36 @@ public class CorsConfig {
     @Value("${spring.web.cors.allow-credentials}")
     private boolean allowCredentials;
 
+    @Value("${app.rate-limit.api-key-header:X-API-Key}")
+    private String apiKeyHeader;
+
+    @Value("${app.rate-limit.api-keys:}")
+    private List<String> apiKeys;
+
+    @Value("${app.rate-limit.max-tracked-clients:10000}")
+    private int maxTrackedClients;
+
+    @Value("${app.rate-limit.read.requests-per-second:50}")
+    private double readRequestsPerSecond;
+
+    @Value("${app.rate-limit.read.burst:100}")
+    private int readBurst;
+
+    @Value("${app.rate-limit.write.requests-per-second:10}")
+    private double writeRequestsPerSecond;
+
+    @Value("${app.rate-limit.write.burst:20}")
+    private int writeBurst;
+
+    @Value("${app.rate-limit.read.max-concurrency:100}")
+    private int readMaxConcurrency;
+
+    @Value("${app.rate-limit.write.max-concurrency:20}")
+    private int writeMaxConcurrency;
+
+    @Value("${app.rate-limit.target-latency-ms:250}")
+    private long targetLatencyMillis;
+
     /**
      * Creates a CORS filter bean.
      * 
@@ -69,6 +123,62 @@ public class CorsConfig {
         
         return new CorsFilter(source);
     }
-}
 
+    /**
+     * Registers the CORS filter ahead of the other application filters.
+     * 
+     * @param corsFilter CORS filter
+     * @return Filter registration for all requests
+     */
+    @Bean
+    public FilterRegistrationBean<CorsFilter> corsFilterRegistration(CorsFilter corsFilter) {
+        FilterRegistrationBean<CorsFilter> registration = new FilterRegistrationBean<>(corsFilter);
+        registration.setOrder(CORS_FILTER_ORDER);
+        return registration;
+    }
+
+    /**
+     * Creates the rate limiting filter.
+     * 
+     * @param objectMapper Object mapper for error responses
+     * @return RateLimitFilter configured with application properties
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+    public RateLimitFilter rateLimitFilter(ObjectMapper objectMapper) {
+        return new RateLimitFilter(
+                objectMapper,
+                apiKeyHeader,
+                configuredApiKeys(),
+                maxTrackedClients,
+                new RateLimitFilter.RateLimit(readRequestsPerSecond, readBurst),
+                new RateLimitFilter.RateLimit(writeRequestsPerSecond, writeBurst),
+                new AdaptiveConcurrencyLimit(readMaxConcurrency / 2, 1, readMaxConcurrency, targetLatencyMillis),
+                new AdaptiveConcurrencyLimit(writeMaxConcurrency / 2, 1, writeMaxConcurrency, targetLatencyMillis));
+    }
+
+    private Set<String> configuredApiKeys() {
+        Set<String> keys = new HashSet<>();
+        for (String key : apiKeys) {
+            if (!key.isBlank()) {
+                keys.add(key.trim());
+            }
+        }
+        return keys;
+    }
 
+    /**
+     * Registers the rate limiting filter for the API endpoints.
+     * 
+     * @param rateLimitFilter Rate limiting filter
+     * @return Filter registration limited to /api/*, ordered after the CORS filter
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(RATE_LIMIT_FILTER_ORDER);
+        return registration;
+    }
+}
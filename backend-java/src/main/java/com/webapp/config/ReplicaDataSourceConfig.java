@@ -0,0 +1,117 @@
+package com.webapp.config;
+
+import com.webapp.datasource.ReplicaRoutingDataSource;
+import com.webapp.filter.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica configuration.
+ *
+ * <p>When {@code app.datasource.replicas.enabled} is set, the application data
+ * source routes read-only transactions to the configured replicas and all other
+ * work to the primary configured under {@code spring.datasource}. Clients that
+ * recently wrote keep reading from the primary for a short sticky window.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Value("${app.datasource.replicas.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${app.datasource.replicas.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${app.datasource.replicas.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${app.datasource.replicas.lag-query:}")
+    private String lagQuery;
+
+    @Value("${app.datasource.replicas.max-lag-ms:1000}")
+    private long maxLagMillis;
+
+    @Value("${app.datasource.replicas.probe-timeout-ms:1000}")
+    private long probeTimeoutMillis;
+
+    @Value("${app.datasource.replicas.sticky-window-ms:5000}")
+    private long stickyWindowMillis;
+
+    /**
+     * Creates the routing data source over the primary and the replicas.
+     *
+     * @param properties Primary data source properties
+     * @return Routing data source
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties properties) {
+        DataSource primary = properties.initializeDataSourceBuilder().build();
+        List<DataSource> replicas = new ArrayList<>();
+        List<DataSource> probes = new ArrayList<>();
+        for (String url : replicaUrls) {
+            replicas.add(replicaDataSource(properties, url).build());
+            HikariDataSource probe = replicaDataSource(properties, url).type(HikariDataSource.class).build();
+            probe.setPoolName("replica-probe-" + probes.size());
+            probe.setMaximumPoolSize(1);
+            // Hikari's lower bound for the connection timeout is 250 ms
+            probe.setConnectionTimeout(Math.max(250, probeTimeoutMillis));
+            probe.setValidationTimeout(Math.max(250, probeTimeoutMillis));
+            // Start without a connection, so that a replica that is down at startup is only reported unhealthy
+            probe.setInitializationFailTimeout(-1);
+            probes.add(probe);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, probes, lagQuery, maxLagMillis, probeTimeoutMillis);
+    }
+
+    private DataSourceBuilder<?> replicaDataSource(DataSourceProperties properties, String url) {
+        return DataSourceBuilder.create()
+                .driverClassName(properties.determineDriverClassName())
+                .url(url.trim())
+                .username(replicaUsername)
+                .password(replicaPassword);
+    }
+
+    /**
+     * Exposes the routing data source to JPA and JDBC.
+     *
+     * <p>The lazy proxy delays fetching a physical connection until the first
+     * statement, when the transaction's read-only flag is known.</p>
+     *
+     * @param routingDataSource Routing data source
+     * @return Application data source
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * Registers the read-your-writes filter for the API endpoints.
+     *
+     * @return Filter registration limited to /api/*
+     */
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilterRegistration() {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(stickyWindowMillis));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
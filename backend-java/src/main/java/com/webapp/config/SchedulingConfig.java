@@ -0,0 +1,50 @@
+package com.webapp.config;
+
+import com.webapp.analytics.ColumnarExportService;
+import com.webapp.deadline.TaskDeadlineScheduler;
+import com.webapp.service.TaskArchiver;
+import com.webapp.service.TaskStatusWriteBehind;
+import com.webapp.service.TaskTableUpgrade;
+import com.webapp.snapshot.OffHeapSnapshotStore;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling configuration for the application.
+ * 
+ * <p>Enables {@code @Scheduled} methods used by background jobs. They share
+ * Spring Boot's task scheduler, whose pool is sized by
+ * {@code spring.task.scheduling.pool.size} so that a slow job, such as a long
+ * export or a replica probe waiting for a connection, does not delay the
+ * others, in particular the frequent write-behind flush.</p>
+ * 
+ * <p>Scheduled methods and {@code @PostConstruct} work only run once their bean
+ * exists. Beans that nothing else may request, such as the archiver or the
+ * startup table upgrade, are therefore always created eagerly, also with
+ * {@code spring.main.lazy-initialization} (fast-startup profile).</p>
+ * 
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    /**
+     * Excludes background job beans from lazy initialization.
+     * 
+     * @return Filter matching the background job beans
+     */
+    @Bean
+    static LazyInitializationExcludeFilter backgroundJobsExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                TaskTableUpgrade.class,
+                TaskStatusWriteBehind.class,
+                TaskArchiver.class,
+                TaskDeadlineScheduler.class,
+                OffHeapSnapshotStore.class,
+                ColumnarExportService.class);
+    }
+}
@@ -0,0 +1,52 @@
+package com.webapp.controller;
+
+import com.webapp.analytics.ColumnarExportService;
+import com.webapp.analytics.ColumnarExportService.ExportSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for on-demand analytics exports.
+ *
+ * <p>Only registered when {@code app.analytics-export.enabled} is set.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/admin/analytics-export")
+@ConditionalOnProperty(name = "app.analytics-export.enabled", havingValue = "true")
+public class AnalyticsExportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsExportController.class);
+
+    private final ColumnarExportService exportService;
+
+    /**
+     * Constructor with dependency injection.
+     *
+     * @param exportService Columnar export service
+     */
+    @Autowired
+    public AnalyticsExportController(ColumnarExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    /**
+     * POST /admin/analytics-export
+     * Exports the users and tasks changed since the previous export.
+     *
+     * @return Number of exported rows and files
+     */
+    @PostMapping
+    public ResponseEntity<ExportSummary> export() {
+        logger.info("POST /admin/analytics-export - Exporting changed users and tasks");
+        return ResponseEntity.ok(exportService.export());
+    }
+}
@@ -0,0 +1,84 @@
+package com.webapp.controller;
+
+import com.webapp.backup.DatasetBackupService;
+import com.webapp.backup.DatasetBackupService.BackupSummary;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Controller for dataset backup and restore.
+ *
+ * <p>Only registered when {@code app.backup.endpoint.enabled} is set, since
+ * the endpoints expose and replace the whole dataset.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/admin/backup")
+@ConditionalOnProperty(name = "app.backup.endpoint.enabled", havingValue = "true")
+public class BackupController {
+
+    private static final Logger logger = LoggerFactory.getLogger(BackupController.class);
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final DatasetBackupService backupService;
+
+    /**
+     * Constructor with dependency injection.
+     *
+     * @param backupService Dataset backup service
+     */
+    @Autowired
+    public BackupController(DatasetBackupService backupService) {
+        this.backupService = backupService;
+    }
+
+    /**
+     * GET /admin/backup
+     * Streams a compressed backup of all users and tasks.
+     *
+     * @return Backup stream
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export() {
+        logger.info("GET /admin/backup - Exporting dataset");
+        String fileName = "dataset-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".bin.gz";
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(backupService::export);
+    }
+
+    /**
+     * POST /admin/backup/restore
+     * Loads a backup into an empty database.
+     * Request body: backup as produced by GET /admin/backup
+     *
+     * @param request HTTP request carrying the backup
+     * @return Number of restored rows
+     * @throws IOException If the backup cannot be read
+     */
+    @PostMapping(value = "/restore", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<BackupSummary> restore(HttpServletRequest request) throws IOException {
+        logger.info("POST /admin/backup/restore - Restoring dataset");
+        BackupSummary summary = backupService.restore(request.getInputStream());
+        return ResponseEntity.ok(summary);
+    }
+}
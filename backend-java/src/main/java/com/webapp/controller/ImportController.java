@@ -0,0 +1,104 @@
+package com.webapp.controller;
+
+import com.webapp.dto.ImportJobDto;
+import com.webapp.enums.ImportType;
+import com.webapp.importer.ImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * Controller for bulk imports of users and tasks.
+ * 
+ * <p>Uploads are accepted as CSV with a header row or as NDJSON and imported
+ * in the background; the returned job reports the progress.</p>
+ * 
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/import")
+@CrossOrigin(origins = "${spring.web.cors.allowed-origins}", allowCredentials = "true")
+public class ImportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportController.class);
+
+    private final ImportService importService;
+
+    /**
+     * Constructor with dependency injection.
+     * 
+     * @param importService Import service
+     */
+    @Autowired
+    public ImportController(ImportService importService) {
+        this.importService = importService;
+    }
+
+    /**
+     * POST /api/import/users
+     * Imports users.
+     * Request body: CSV or NDJSON with the fields email and name
+     * 
+     * @param request HTTP request carrying the upload
+     * @return Queued import job
+     * @throws IOException If the upload cannot be stored
+     */
+    @PostMapping(value = "/users", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ImportJobDto> importUsers(HttpServletRequest request) throws IOException {
+        logger.info("POST /api/import/users - Uploading user import");
+        return accepted(importService.submit(ImportType.USERS, request.getContentType(), request.getInputStream()));
+    }
+
+    /**
+     * POST /api/import/tasks
+     * Imports tasks.
+     * Request body: CSV or NDJSON with the fields title, description, status
+     * and either userId or userEmail
+     * 
+     * @param request HTTP request carrying the upload
+     * @return Queued import job
+     * @throws IOException If the upload cannot be stored
+     */
+    @PostMapping(value = "/tasks", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ImportJobDto> importTasks(HttpServletRequest request) throws IOException {
+        logger.info("POST /api/import/tasks - Uploading task import");
+        return accepted(importService.submit(ImportType.TASKS, request.getContentType(), request.getInputStream()));
+    }
+
+    /**
+     * GET /api/import/jobs/:id
+     * Retrieves the progress and the rejected rows of an import.
+     * 
+     * @param id Job ID
+     * @return Import job
+     */
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<ImportJobDto> getJob(@PathVariable Long id) {
+        logger.debug("GET /api/import/jobs/{} - Fetching import job", id);
+        return ResponseEntity.ok(importService.getJob(id));
+    }
+
+    /**
+     * POST /api/import/jobs/:id/resume
+     * Resumes a failed import after its last committed chunk.
+     * 
+     * @param id Job ID
+     * @return Queued import job
+     */
+    @PostMapping("/jobs/{id}/resume")
+    public ResponseEntity<ImportJobDto> resume(@PathVariable Long id) {
+        logger.info("POST /api/import/jobs/{}/resume - Resuming import", id);
+        return accepted(importService.resume(id));
+    }
+
+    private static ResponseEntity<ImportJobDto> accepted(ImportJobDto job) {
+        return ResponseEntity.accepted().location(URI.create("/api/import/jobs/" + job.id())).body(job);
+    }
+}
@@ -0,0 +1,116 @@
+package com.webapp.controller;
+
+import com.webapp.datasource.ReplicaRoutingDataSource;
+import com.webapp.deadline.TaskDeadlineScheduler;
+import com.webapp.filter.RateLimitFilter;
+import com.webapp.service.CoalescingReadService;
+import com.webapp.service.EmailIndex;
+import com.webapp.service.GroupCommitCoordinator;
+import com.webapp.service.ParallelTaskScanner;
+import com.webapp.service.TaskArchiver;
+import com.webapp.service.TaskIdIndex;
+import com.webapp.service.TaskStatusWriteBehind;
+import com.webapp.sharding.ShardedTaskStore;
+import com.webapp.snapshot.OffHeapSnapshotStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Controller for runtime metrics.
+ *
+ * <p>Exposes counters of the performance-related components of the backend.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@RestController
+@CrossOrigin(origins = "${spring.web.cors.allowed-origins}", allowCredentials = "true")
+public class MetricsController {
+
+    private final CoalescingReadService coalescingReadService;
+    private final ObjectProvider<RateLimitFilter> rateLimitFilter;
+    private final TaskStatusWriteBehind statusWriteBehind;
+    private final GroupCommitCoordinator groupCommit;
+    private final EmailIndex emailIndex;
+    private final TaskIdIndex taskIdIndex;
+    private final OffHeapSnapshotStore snapshotStore;
+    private final ObjectProvider<ReplicaRoutingDataSource> replicaRouting;
+    private final ShardedTaskStore shardedTasks;
+    private final ParallelTaskScanner parallelScanner;
+    private final TaskArchiver taskArchiver;
+    private final TaskDeadlineScheduler deadlineScheduler;
+
+    /**
+     * Constructor with dependency injection.
+     *
+     * @param coalescingReadService Coalescing read service
+     * @param rateLimitFilter Rate limiting filter, if enabled
+     * @param statusWriteBehind Write-behind queue for task status updates
+     * @param groupCommit Group commit coordinator
+     * @param emailIndex In-memory email index
+     * @param taskIdIndex In-memory task ID index
+     * @param snapshotStore Read-only snapshot store
+     * @param replicaRouting Read replica routing, if enabled
+     * @param shardedTasks Sharded task store
+     * @param parallelScanner Parallel scanner for unscoped task queries
+     * @param taskArchiver Archiver of completed tasks
+     * @param deadlineScheduler Scheduler of task due date transitions
+     */
+    @Autowired
+    public MetricsController(CoalescingReadService coalescingReadService,
+                             ObjectProvider<RateLimitFilter> rateLimitFilter,
+                             TaskStatusWriteBehind statusWriteBehind,
+                             GroupCommitCoordinator groupCommit,
+                             EmailIndex emailIndex,
+                             TaskIdIndex taskIdIndex,
+                             OffHeapSnapshotStore snapshotStore,
+                             ObjectProvider<ReplicaRoutingDataSource> replicaRouting,
+                             ShardedTaskStore shardedTasks,
+                             ParallelTaskScanner parallelScanner,
+                             TaskArchiver taskArchiver,
+                             TaskDeadlineScheduler deadlineScheduler) {
+        this.coalescingReadService = coalescingReadService;
+        this.rateLimitFilter = rateLimitFilter;
+        this.statusWriteBehind = statusWriteBehind;
+        this.groupCommit = groupCommit;
+        this.emailIndex = emailIndex;
+        this.taskIdIndex = taskIdIndex;
+        this.snapshotStore = snapshotStore;
+        this.replicaRouting = replicaRouting;
+        this.shardedTasks = shardedTasks;
+        this.parallelScanner = parallelScanner;
+        this.taskArchiver = taskArchiver;
+        this.deadlineScheduler = deadlineScheduler;
+    }
+
+    /**
+     * GET /metrics
+     * Returns runtime metrics.
+     *
+     * @return Metrics response
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<Map<String, Object>> metrics() {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("coalescing", coalescingReadService.getStatistics());
+        rateLimitFilter.ifAvailable(filter -> response.put("rateLimit", filter.getStatistics()));
+        response.put("statusWriteBehind", statusWriteBehind.getStatistics());
+        response.put("groupCommit", groupCommit.getStatistics());
+        response.put("emailIndex", emailIndex.getStatistics());
+        response.put("taskIndex", taskIdIndex.getStatistics());
+        response.put("snapshot", snapshotStore.getStatistics());
+        replicaRouting.ifAvailable(routing -> response.put("replicas", routing.getStatistics()));
+        response.put("shards", shardedTasks.getStatistics());
+        response.put("parallelScan", parallelScanner.getStatistics());
+        response.put("archive", taskArchiver.getStatistics());
+        response.put("deadlines", deadlineScheduler.getStatistics());
+        return ResponseEntity.ok(response);
+    }
+}
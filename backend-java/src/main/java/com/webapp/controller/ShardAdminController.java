@@ -0,0 +1,53 @@
+package com.webapp.controller;
+
+import com.webapp.sharding.ShardRebalancer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * Controller for shard maintenance.
+ *
+ * <p>Only registered when {@code app.sharding.enabled} is set.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/admin/shards")
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+public class ShardAdminController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardAdminController.class);
+
+    private final ShardRebalancer rebalancer;
+
+    /**
+     * Constructor with dependency injection.
+     *
+     * @param rebalancer Shard rebalancer
+     */
+    @Autowired
+    public ShardAdminController(ShardRebalancer rebalancer) {
+        this.rebalancer = rebalancer;
+    }
+
+    /**
+     * POST /admin/shards/rebalance
+     * Moves every task to the shard its owner maps to.
+     *
+     * @return Number of moved tasks per database
+     */
+    @PostMapping("/rebalance")
+    public ResponseEntity<Map<String, Long>> rebalance() {
+        logger.info("POST /admin/shards/rebalance - Rebalancing tasks");
+        return ResponseEntity.ok(rebalancer.rebalance());
+    }
+}
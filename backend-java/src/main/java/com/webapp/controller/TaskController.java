@@ -1,9 +1,11 @@
 package com.webapp.controller;
 
+import com.webapp.dto.MultiGetResponse;
 import com.webapp.dto.TaskDto;
 import com.webapp.dto.UpdateTaskStatusDto;
+import com.webapp.enums.TaskStatus;
+import com.webapp.service.CoalescingReadService;
 import com.webapp.service.TaskService;
-import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,32 +32,66 @@ public class TaskController {
     private static final Logger logger = LoggerFactory.getLogger(TaskController.class);
 
     private final TaskService taskService;
+    private final CoalescingReadService coalescingReadService;
 
     /**
      * Constructor with dependency injection.
      * 
      * @param taskService Task service
+     * @param coalescingReadService Coalescing read service for hot read paths
      */
     @Autowired
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, CoalescingReadService coalescingReadService) {
         this.taskService = taskService;
+        this.coalescingReadService = coalescingReadService;
     }
 
     /**
      * GET /api/tasks
-     * Retrieves all tasks, optionally filtered by user ID.
-     * Query parameter: ?userId=123
+     * Retrieves all tasks, optionally filtered by user ID and status.
+     * Query parameters: ?userId=123&status=PENDING&includeArchived=true
      * 
      * @param userId Optional user ID filter
+     * @param status Optional status filter
+     * @param includeArchived Whether archived tasks are included; requires a user ID
      * @return List of tasks
      */
     @GetMapping
-    public ResponseEntity<List<TaskDto>> getAllTasks(@RequestParam(required = false) Long userId) {
-        logger.debug("GET /api/tasks - Retrieving tasks with userId filter: {}", userId);
-        List<TaskDto> tasks = taskService.getAllTasks(userId);
+    public ResponseEntity<List<TaskDto>> getAllTasks(@RequestParam(required = false) Long userId,
+                                                     @RequestParam(required = false) TaskStatus status,
+                                                     @RequestParam(defaultValue = "false") boolean includeArchived) {
+        logger.debug("GET /api/tasks - Retrieving tasks with userId filter: {} and status filter: {}", userId, status);
+        List<TaskDto> tasks = coalescingReadService.getAllTasks(userId, status, includeArchived);
         return ResponseEntity.ok(tasks);
     }
 
+    /**
+     * GET /api/tasks?ids=1,2,3
+     * Retrieves several tasks by ID; IDs without a task are listed in missingIds.
+     * 
+     * @param ids Task IDs, at most 1000
+     * @return Found tasks and missing IDs
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponse<TaskDto>> getTasksByIds(@RequestParam List<Long> ids) {
+        logger.debug("GET /api/tasks?ids - Retrieving {} tasks by ID", ids.size());
+        return ResponseEntity.ok(taskService.getTasksByIds(ids));
+    }
+
+    /**
+     * POST /api/tasks/lookup
+     * Retrieves several tasks by ID, for ID lists too long for a URL.
+     * Request body: [1, 2, 3]
+     * 
+     * @param ids Task IDs, at most 1000
+     * @return Found tasks and missing IDs
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<MultiGetResponse<TaskDto>> lookupTasks(@RequestBody List<Long> ids) {
+        logger.debug("POST /api/tasks/lookup - Retrieving {} tasks by ID", ids.size());
+        return ResponseEntity.ok(taskService.getTasksByIds(ids));
+    }
+
     /**
      * GET /api/tasks/:id
      * Retrieves a task by ID.
@@ -78,8 +114,8 @@ public class TaskController {
      * @return Created task DTO
      */
     @PostMapping
-    public ResponseEntity<TaskDto> createTask(@Valid @RequestBody TaskDto taskDto) {
-        logger.debug("POST /api/tasks - Creating task with title: {}", taskDto.getTitle());
+    public ResponseEntity<TaskDto> createTask(@RequestBody TaskDto taskDto) {
+        logger.debug("POST /api/tasks - Creating task with title: {}", taskDto.title());
         TaskDto createdTask = taskService.createTask(taskDto);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdTask);
     }
@@ -93,7 +129,7 @@ public class TaskController {
      * @return Updated task DTO
      */
     @PutMapping("/{id}")
-    public ResponseEntity<TaskDto> updateTask(@PathVariable Long id, @Valid @RequestBody TaskDto taskDto) {
+    public ResponseEntity<TaskDto> updateTask(@PathVariable Long id, @RequestBody TaskDto taskDto) {
         logger.debug("PUT /api/tasks/{} - Updating task", id);
         TaskDto updatedTask = taskService.updateTask(id, taskDto);
         return ResponseEntity.ok(updatedTask);
@@ -110,8 +146,8 @@ public class TaskController {
     @PatchMapping("/{id}/status")
     public ResponseEntity<TaskDto> updateTaskStatus(
             @PathVariable Long id,
-            @Valid @RequestBody UpdateTaskStatusDto statusDto) {
-        logger.debug("PATCH /api/tasks/{}/status - Updating task status to: {}", id, statusDto.getStatus());
+            @RequestBody UpdateTaskStatusDto statusDto) {
+        logger.debug("PATCH /api/tasks/{}/status - Updating task status to: {}", id, statusDto.status());
         TaskDto updatedTask = taskService.updateTaskStatus(id, statusDto);
         return ResponseEntity.ok(updatedTask);
     }
@@ -1,8 +1,10 @@
 package com.webapp.controller;
 
+import com.webapp.dto.MultiGetResponse;
 import com.webapp.dto.UserDto;
+import com.webapp.dto.UserWithTasksDto;
+import com.webapp.service.CoalescingReadService;
 import com.webapp.service.UserService;
-import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,15 +31,18 @@ public class UserController {
     private static final Logger logger = LoggerFactory.getLogger(UserController.class);
 
     private final UserService userService;
+    private final CoalescingReadService coalescingReadService;
 
     /**
      * Constructor with dependency injection.
      * 
      * @param userService User service
+     * @param coalescingReadService Coalescing read service for hot read paths
      */
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService, CoalescingReadService coalescingReadService) {
         this.userService = userService;
+        this.coalescingReadService = coalescingReadService;
     }
 
     /**
@@ -53,6 +58,46 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
 
+    /**
+     * GET /api/users?include=tasks
+     * Retrieves all users together with their tasks.
+     * 
+     * @return List of all users with tasks
+     */
+    @GetMapping(params = "include=tasks")
+    public ResponseEntity<List<UserWithTasksDto>> getAllUsersWithTasks() {
+        logger.debug("GET /api/users?include=tasks - Retrieving all users with tasks");
+        List<UserWithTasksDto> users = userService.getAllUsersWithTasks();
+        return ResponseEntity.ok(users);
+    }
+
+    /**
+     * GET /api/users?ids=1,2,3
+     * Retrieves several users by ID; IDs without a user are listed in missingIds.
+     * 
+     * @param ids User IDs, at most 1000
+     * @return Found users and missing IDs
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponse<UserDto>> getUsersByIds(@RequestParam List<Long> ids) {
+        logger.debug("GET /api/users?ids - Retrieving {} users by ID", ids.size());
+        return ResponseEntity.ok(userService.getUsersByIds(ids));
+    }
+
+    /**
+     * POST /api/users/lookup
+     * Retrieves several users by ID, for ID lists too long for a URL.
+     * Request body: [1, 2, 3]
+     * 
+     * @param ids User IDs, at most 1000
+     * @return Found users and missing IDs
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<MultiGetResponse<UserDto>> lookupUsers(@RequestBody List<Long> ids) {
+        logger.debug("POST /api/users/lookup - Retrieving {} users by ID", ids.size());
+        return ResponseEntity.ok(userService.getUsersByIds(ids));
+    }
+
     /**
      * GET /api/users/:id
      * Retrieves a user by ID.
@@ -63,7 +108,21 @@ public class UserController {
     @GetMapping("/{id}")
     public ResponseEntity<UserDto> getUserById(@PathVariable Long id) {
         logger.debug("GET /api/users/{} - Retrieving user by ID", id);
-        UserDto user = userService.getUserById(id);
+        UserDto user = coalescingReadService.getUserById(id);
+        return ResponseEntity.ok(user);
+    }
+
+    /**
+     * GET /api/users/:id?include=tasks
+     * Retrieves a user by ID together with the user's tasks.
+     * 
+     * @param id User ID
+     * @return User DTO with tasks
+     */
+    @GetMapping(value = "/{id}", params = "include=tasks")
+    public ResponseEntity<UserWithTasksDto> getUserWithTasks(@PathVariable Long id) {
+        logger.debug("GET /api/users/{}?include=tasks - Retrieving user with tasks", id);
+        UserWithTasksDto user = userService.getUserWithTasks(id);
         return ResponseEntity.ok(user);
     }
 
@@ -75,8 +134,8 @@ public class UserController {
      * @return Created user DTO
      */
     @PostMapping
-    public ResponseEntity<UserDto> createUser(@Valid @RequestBody UserDto userDto) {
-        logger.debug("POST /api/users - Creating user with email: {}", userDto.getEmail());
+    public ResponseEntity<UserDto> createUser(@RequestBody UserDto userDto) {
+        logger.debug("POST /api/users - Creating user with email: {}", userDto.email());
         UserDto createdUser = userService.createUser(userDto);
         return ResponseEntity.status(HttpStatus.CREATED).body(createdUser);
     }
@@ -90,7 +149,7 @@ public class UserController {
      * @return Updated user DTO
      */
     @PutMapping("/{id}")
-    public ResponseEntity<UserDto> updateUser(@PathVariable Long id, @Valid @RequestBody UserDto userDto) {
+    public ResponseEntity<UserDto> updateUser(@PathVariable Long id, @RequestBody UserDto userDto) {
         logger.debug("PUT /api/users/{} - Updating user", id);
         UserDto updatedUser = userService.updateUser(id, userDto);
         return ResponseEntity.ok(updatedUser);
@@ -0,0 +1,77 @@
+package com.webapp.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-request flag pinning reads to the primary database.
+ *
+ * <p>Set for requests of a client that recently wrote, so that it reads its own
+ * writes even if the replicas have not caught up yet. Loads that fill in-memory
+ * structures treated as authoritative run pinned as well, through
+ * {@link #onPrimary(Supplier)}. The pin belongs to the current thread; work
+ * handed to other threads has to pass it on explicitly.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    /**
+     * Pins reads of the current thread to the primary.
+     */
+    public static void pinToPrimary() {
+        PRIMARY_PINNED.set(Boolean.TRUE);
+    }
+
+    /**
+     * Removes the pin of the current thread.
+     */
+    public static void clear() {
+        PRIMARY_PINNED.remove();
+    }
+
+    /**
+     * Runs an action with the reads of the current thread pinned to the primary.
+     *
+     * @param action Action to run
+     * @param <T> Result type
+     * @return Result of the action
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        boolean pinned = isPinnedToPrimary();
+        pinToPrimary();
+        try {
+            return action.get();
+        } finally {
+            if (!pinned) {
+                clear();
+            }
+        }
+    }
+
+    /**
+     * Runs an action with the reads of the current thread pinned to the primary.
+     *
+     * @param action Action to run
+     */
+    public static void runOnPrimary(Runnable action) {
+        onPrimary(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Checks whether reads of the current thread must go to the primary.
+     *
+     * @return true if pinned to the primary
+     */
+    public static boolean isPinnedToPrimary() {
+        return PRIMARY_PINNED.get() != null;
+    }
+}
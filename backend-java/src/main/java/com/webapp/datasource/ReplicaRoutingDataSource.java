@@ -0,0 +1,193 @@
+package com.webapp.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Routes read-only transactions to replica databases and everything else to the primary.
+ *
+ * <p>The routing key is taken from the transaction's read-only flag, so this data
+ * source must be wrapped in a lazy connection proxy: the physical connection is
+ * only fetched once the transaction has been set up. Healthy replicas are used
+ * round-robin. A replica is unhealthy while it cannot be reached or, if a lag
+ * query is configured, while it lags behind by more than the allowed time; when
+ * no replica is healthy, reads go to the primary. Requests pinned with
+ * {@link ReadYourWrites} always read from the primary.</p>
+ *
+ * <p>Replicas are probed through separate single-connection pools with a short
+ * timeout, so an unreachable replica neither blocks the probe for the full
+ * connection timeout of the replica pools nor competes with reads for their
+ * connections.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    private static final String PRIMARY = "primary";
+
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final List<DataSource> probes;
+    private final String lagQuery;
+    private final long maxLagMillis;
+    private final int probeTimeoutSeconds;
+    private volatile boolean[] healthy;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Map<String, LongAdder> routed = new LinkedHashMap<>();
+    private final LongAdder fallbacks = new LongAdder();
+
+    /**
+     * Creates the routing data source.
+     *
+     * @param primary Primary data source for writes
+     * @param replicas Replica data sources for read-only transactions
+     * @param probes Data sources for health probes, one per replica, with a short connection timeout
+     * @param lagQuery Query returning the replication lag in milliseconds; blank to only check reachability
+     * @param maxLagMillis Maximum tolerated replication lag
+     * @param probeTimeoutMillis Timeout of the validation or lag query of a probe
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, List<DataSource> probes,
+                                    String lagQuery, long maxLagMillis, long probeTimeoutMillis) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.probes = probes;
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLagMillis;
+        this.probeTimeoutSeconds = (int) Math.max(1, (probeTimeoutMillis + 999) / 1000);
+
+        boolean[] initialHealth = new boolean[replicas.size()];
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        routed.put(PRIMARY, new LongAdder());
+        for (int i = 0; i < replicas.size(); i++) {
+            String key = "replica-" + (i + 1);
+            replicaKeys.add(key);
+            targets.put(key, replicas.get(i));
+            routed.put(key, new LongAdder());
+            initialHealth[i] = true;
+        }
+        this.healthy = initialHealth;
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String key = route();
+        routed.get(key).increment();
+        return key;
+    }
+
+    /**
+     * Probes every replica and updates its health.
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.check-interval-ms:1000}")
+    public void checkReplicas() {
+        boolean[] previous = healthy;
+        boolean[] current = new boolean[replicas.size()];
+        for (int i = 0; i < current.length; i++) {
+            current[i] = probe(probes.get(i));
+            if (previous[i] != current[i]) {
+                logger.warn("Replica {} is now {}", replicaKeys.get(i), current[i] ? "healthy" : "unhealthy");
+            }
+        }
+        healthy = current;
+    }
+
+    /**
+     * Closes the connection pools of the primary and the replicas.
+     *
+     * @throws Exception If a pool cannot be closed
+     */
+    public void close() throws Exception {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        for (DataSource probe : probes) {
+            if (probe instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * Returns routing statistics.
+     *
+     * @return Map of statistics
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        Map<String, Object> connections = new LinkedHashMap<>();
+        routed.forEach((key, count) -> connections.put(key, count.sum()));
+        boolean[] current = healthy;
+        Map<String, Object> health = new LinkedHashMap<>();
+        for (int i = 0; i < replicaKeys.size(); i++) {
+            health.put(replicaKeys.get(i), current[i]);
+        }
+        statistics.put("connections", connections);
+        statistics.put("healthy", health);
+        statistics.put("fallbacks", fallbacks.sum());
+        return statistics;
+    }
+
+    private String route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReadYourWrites.isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+        boolean[] current = healthy;
+        int count = current.length;
+        if (count == 0) {
+            return PRIMARY;
+        }
+        int start = Math.floorMod(nextReplica.getAndIncrement(), count);
+        for (int i = 0; i < count; i++) {
+            int candidate = (start + i) % count;
+            if (current[candidate]) {
+                return replicaKeys.get(candidate);
+            }
+        }
+        fallbacks.increment();
+        return PRIMARY;
+    }
+
+    private boolean probe(DataSource probe) {
+        try (Connection connection = probe.getConnection()) {
+            if (lagQuery == null || lagQuery.isBlank()) {
+                return connection.isValid(probeTimeoutSeconds);
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(probeTimeoutSeconds);
+                try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                    return resultSet.next() && resultSet.getDouble(1) <= maxLagMillis;
+                }
+            }
+        } catch (SQLException | RuntimeException ex) {
+            logger.debug("Replica probe failed: {}", ex.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.webapp.deadline;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel for a large number of timers with coarse resolution.
+ *
+ * <p>Level 0 has one slot per tick; each slot of level n covers a whole
+ * revolution of level n - 1. A timer is put into the lowest level whose
+ * revolution reaches its expiration, and is moved down one or more levels when
+ * the clock reaches its slot, until it expires from level 0. Adding and
+ * cancelling a timer is O(1); advancing the clock costs O(1) per tick plus
+ * the number of timers moved or expired. Timers beyond the top level's range
+ * circulate in the top level until they come into range.</p>
+ *
+ * <p>Not thread-safe; callers synchronize.</p>
+ *
+ * @param <T> Payload type
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final Timer<T>[][] slots;
+    private final long[] ticksPerSlot;
+    private final List<T> overdue = new ArrayList<>();
+    private long currentTick;
+    private int size;
+
+    /**
+     * Creates an empty wheel.
+     *
+     * @param tickMillis Resolution in milliseconds
+     * @param wheelSize Number of slots per level
+     * @param levels Number of levels
+     * @param startMillis Current time in epoch milliseconds
+     */
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("Invalid timing wheel dimensions");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.slots = new Timer[levels][wheelSize];
+        this.ticksPerSlot = new long[levels];
+        long span = 1;
+        for (int level = 0; level < levels; level++) {
+            ticksPerSlot[level] = span;
+            for (int slot = 0; slot < wheelSize; slot++) {
+                slots[level][slot] = Timer.sentinel();
+            }
+            span = Math.multiplyExact(span, wheelSize);
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Adds a timer.
+     *
+     * <p>A timer whose expiration has already passed is returned by the next
+     * {@link #advance(long)}.</p>
+     *
+     * @param expirationMillis Expiration in epoch milliseconds
+     * @param payload Payload returned on expiration
+     * @return Handle for cancelling the timer
+     */
+    public Timer<T> add(long expirationMillis, T payload) {
+        Timer<T> timer = new Timer<>(Math.floorDiv(expirationMillis, tickMillis), payload);
+        size++;
+        place(timer);
+        return timer;
+    }
+
+    /**
+     * Cancels a timer that has not expired yet.
+     *
+     * @param timer Handle returned by {@link #add(long, Object)}
+     * @return true if the timer was still pending
+     */
+    public boolean cancel(Timer<T> timer) {
+        if (!timer.isPending()) {
+            return false;
+        }
+        timer.unlink();
+        size--;
+        return true;
+    }
+
+    /**
+     * Advances the clock and collects the payloads of all expired timers.
+     *
+     * @param nowMillis Current time in epoch milliseconds
+     * @return Payloads of the expired timers, in expiration order per tick
+     */
+    public List<T> advance(long nowMillis) {
+        List<T> expired = new ArrayList<>(overdue);
+        overdue.clear();
+        long targetTick = nowMillis / tickMillis;
+        if (size == 0 && targetTick > currentTick) {
+            currentTick = targetTick;
+        }
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = slots.length - 1; level > 0; level--) {
+                if (currentTick % ticksPerSlot[level] == 0) {
+                    cascade(slots[level][slotIndex(currentTick, level)], expired);
+                }
+            }
+            Timer<T> head = slots[0][slotIndex(currentTick, 0)];
+            for (Timer<T> timer = head.next; timer != head; timer = head.next) {
+                timer.unlink();
+                size--;
+                expired.add(timer.payload);
+            }
+            if (size == 0) {
+                currentTick = targetTick;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Returns the number of pending timers.
+     *
+     * @return Timer count
+     */
+    public int size() {
+        return size;
+    }
+
+    private void cascade(Timer<T> head, List<T> expired) {
+        Timer<T> timer = head.next;
+        while (timer != head) {
+            Timer<T> next = timer.next;
+            timer.unlink();
+            if (timer.tick <= currentTick) {
+                size--;
+                expired.add(timer.payload);
+            } else {
+                place(timer);
+            }
+            timer = next;
+        }
+    }
+
+    private void place(Timer<T> timer) {
+        long delta = timer.tick - currentTick;
+        if (delta <= 0) {
+            size--;
+            overdue.add(timer.payload);
+            return;
+        }
+        int level = 0;
+        while (level < slots.length - 1 && delta >= ticksPerSlot[level + 1]) {
+            level++;
+        }
+        slots[level][slotIndex(timer.tick, level)].append(timer);
+    }
+
+    private int slotIndex(long tick, int level) {
+        return (int) Math.floorMod(tick / ticksPerSlot[level], (long) wheelSize);
+    }
+
+    /**
+     * A timer, linked into the slot it currently waits in.
+     *
+     * @param <T> Payload type
+     */
+    public static final class Timer<T> {
+
+        private final long tick;
+        private final T payload;
+        private Timer<T> prev;
+        private Timer<T> next;
+
+        private Timer(long tick, T payload) {
+            this.tick = tick;
+            this.payload = payload;
+        }
+
+        private static <T> Timer<T> sentinel() {
+            Timer<T> head = new Timer<>(Long.MIN_VALUE, null);
+            head.prev = head;
+            head.next = head;
+            return head;
+        }
+
+        /**
+         * Returns the timer's payload.
+         *
+         * @return Payload
+         */
+        public T getPayload() {
+            return payload;
+        }
+
+        /**
+         * Checks whether the timer is still waiting in the wheel.
+         *
+         * @return false once the timer has expired or was cancelled
+         */
+        public boolean isPending() {
+            return prev != null;
+        }
+
+        private void append(Timer<T> timer) {
+            timer.prev = prev;
+            timer.next = this;
+            prev.next = timer;
+            prev = timer;
+        }
+
+        private void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+        }
+    }
+}
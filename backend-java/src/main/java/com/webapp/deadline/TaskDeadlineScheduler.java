@@ -0,0 +1,169 @@
+package com.webapp.deadline;
+
+import com.webapp.datasource.ReadYourWrites;
+import com.webapp.enums.TaskStatus;
+import com.webapp.repository.TaskRepository;
+import com.webapp.service.TaskService;
+import com.webapp.sharding.ShardedTaskStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Drives the task deadline timers and applies the overdue transitions.
+ *
+ * <p>A scheduled job advances the timing wheel once per tick
+ * ({@code app.deadlines.tick-ms}) and hands the expired tasks to
+ * {@link TaskService#expireOverdueTasks(List, LocalDateTime)} in batches. It also keeps the deadlines of the next window in memory: at
+ * startup it loads every open task due within the window, including overdue
+ * ones, and whenever half of the window has passed it loads the next part from
+ * the due date index. The table is never scanned, and the wheel only holds the
+ * near future.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Component
+public class TaskDeadlineScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskDeadlineScheduler.class);
+    private static final Set<TaskStatus> OPEN_STATUSES = EnumSet.of(TaskStatus.PENDING, TaskStatus.IN_PROGRESS);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final TaskDeadlineTimers timers;
+    private final TaskService taskService;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ShardedTaskStore shardedTasks;
+    private final Duration window;
+    private final int batchSize;
+
+    private final LongAdder loaded = new LongAdder();
+    private final LongAdder fired = new LongAdder();
+    private final LongAdder transitioned = new LongAdder();
+    private volatile boolean started;
+
+    /**
+     * Constructor with dependency injection.
+     *
+     * @param timers In-memory timers for task due dates
+     * @param taskService Task service applying the transitions
+     * @param taskRepository Task repository for loading upcoming deadlines
+     * @param transactionManager Transaction manager for the loads
+     * @param shardedTasks Sharded task store; due dates are not tracked for sharded tasks
+     * @param windowMillis How far ahead deadlines are kept in memory
+     * @param batchSize Maximum number of tasks transitioned per transaction
+     */
+    @Autowired
+    public TaskDeadlineScheduler(TaskDeadlineTimers timers,
+                                 TaskService taskService,
+                                 TaskRepository taskRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 ShardedTaskStore shardedTasks,
+                                 @Value("${app.deadlines.window-ms:3600000}") long windowMillis,
+                                 @Value("${app.deadlines.batch-size:500}") int batchSize) {
+        this.timers = timers;
+        this.taskService = taskService;
+        this.taskRepository = taskRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.shardedTasks = shardedTasks;
+        this.window = Duration.ofMillis(Math.max(timers.getTickMillis() * 2, windowMillis));
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Starts the ticks once the application is ready; the first one loads the first window.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!timers.isEnabled()) {
+            return;
+        }
+        if (shardedTasks.isEnabled()) {
+            logger.warn("Task deadlines are not tracked for sharded tasks");
+            return;
+        }
+        started = true;
+    }
+
+    /**
+     * Advances the timing wheel and transitions the expired tasks.
+     */
+    @Scheduled(fixedRateString = "${app.deadlines.tick-ms:1000}")
+    public void scheduledTick() {
+        if (started) {
+            tick();
+        }
+    }
+
+    /**
+     * Returns deadline statistics.
+     *
+     * @return Map of statistics
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = timers.getStatistics();
+        statistics.put("loaded", loaded.sum());
+        statistics.put("fired", fired.sum());
+        statistics.put("transitioned", transitioned.sum());
+        return statistics;
+    }
+
+    private void tick() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime horizon = timers.getHorizon();
+        if (horizon == null || !now.plus(window.dividedBy(2)).isBefore(horizon)) {
+            try {
+                load(horizon, now.plus(window));
+            } catch (RuntimeException ex) {
+                // The horizon stays where it was, so the next tick loads the window again
+                timers.setHorizon(horizon);
+                logger.error("Failed to load task deadlines", ex);
+            }
+        }
+        List<Long> due = timers.expire(System.currentTimeMillis());
+        fired.add(due.size());
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<Long> batch = due.subList(from, Math.min(due.size(), from + batchSize));
+            try {
+                transitioned.add(taskService.expireOverdueTasks(batch, now));
+            } catch (RuntimeException ex) {
+                logger.error("Failed to mark {} tasks as overdue, retrying in {}", batch.size(), RETRY_DELAY, ex);
+                LocalDateTime retryAt = now.plus(RETRY_DELAY);
+                batch.forEach(taskId -> timers.load(taskId, retryAt));
+            }
+        }
+    }
+
+    private void load(LocalDateTime from, LocalDateTime until) {
+        timers.setHorizon(until);
+        // Deadlines missing from a lagging replica would never be loaded again
+        ReadYourWrites.runOnPrimary(() -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = from == null
+                    ? taskRepository.streamDeadlinesUntil(until, OPEN_STATUSES)
+                    : taskRepository.streamDeadlinesBetween(from, until, OPEN_STATUSES)) {
+                rows.forEach(row -> {
+                    timers.load((Long) row[0], (LocalDateTime) row[1]);
+                    loaded.increment();
+                });
+            }
+        }));
+    }
+}
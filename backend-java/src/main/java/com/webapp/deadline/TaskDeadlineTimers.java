@@ -0,0 +1,206 @@
+package com.webapp.deadline;
+
+import com.webapp.enums.TaskStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory timers for the due dates of open tasks.
+ *
+ * <p>Only deadlines up to a loaded horizon are kept in the timing wheel; the
+ * {@link TaskDeadlineScheduler} moves the horizon forward by loading the next
+ * window from the due date index. Task writes keep the wheel current once
+ * their transaction commits: a due date within the horizon is (re)scheduled,
+ * and a task that is no longer open, or due beyond the horizon, loses its
+ * timer. Timers may still fire for tasks changed in the meantime, so the
+ * transition re-checks every task.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Component
+public class TaskDeadlineTimers {
+
+    private final boolean enabled;
+    private final long tickMillis;
+    private final HierarchicalTimingWheel<Long> wheel;
+    private final Map<Long, HierarchicalTimingWheel.Timer<Long>> timers = new HashMap<>();
+    private LocalDateTime horizon;
+
+    /**
+     * Constructor with dependency injection.
+     *
+     * @param enabled Whether due dates trigger status transitions
+     * @param tickMillis Resolution of the timing wheel in milliseconds
+     * @param wheelSize Number of slots per level of the timing wheel
+     * @param levels Number of levels of the timing wheel
+     */
+    @Autowired
+    public TaskDeadlineTimers(@Value("${app.deadlines.enabled:false}") boolean enabled,
+                              @Value("${app.deadlines.tick-ms:1000}") long tickMillis,
+                              @Value("${app.deadlines.wheel-size:64}") int wheelSize,
+                              @Value("${app.deadlines.levels:4}") int levels) {
+        this.enabled = enabled;
+        this.tickMillis = Math.max(1, tickMillis);
+        this.wheel = new HierarchicalTimingWheel<>(this.tickMillis, wheelSize, levels, System.currentTimeMillis());
+    }
+
+    /**
+     * Checks whether due dates trigger status transitions.
+     *
+     * @return true if enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the resolution of the timing wheel.
+     *
+     * @return Tick in milliseconds
+     */
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * Records the due date and status of a task once the current transaction commits.
+     *
+     * @param taskId Task ID
+     * @param dueAt Due date, or null
+     * @param status Task status
+     */
+    public void changed(Long taskId, LocalDateTime dueAt, TaskStatus status) {
+        if (enabled) {
+            afterCommit(() -> schedule(taskId, isOpen(status) ? dueAt : null));
+        }
+    }
+
+    /**
+     * Drops the timer of a deleted task once the current transaction commits.
+     *
+     * @param taskId Task ID
+     */
+    public void removed(Long taskId) {
+        if (enabled) {
+            afterCommit(() -> schedule(taskId, null));
+        }
+    }
+
+    /**
+     * Checks whether a task in the given status can become overdue.
+     *
+     * @param status Task status
+     * @return true for PENDING and IN_PROGRESS
+     */
+    public static boolean isOpen(TaskStatus status) {
+        return status == TaskStatus.PENDING || status == TaskStatus.IN_PROGRESS;
+    }
+
+    /**
+     * Returns the time up to which deadlines are loaded.
+     *
+     * @return Horizon, or null before the first load
+     */
+    synchronized LocalDateTime getHorizon() {
+        return horizon;
+    }
+
+    /**
+     * Moves the horizon, forward before the deadlines up to it are loaded so
+     * that tasks written during the load schedule themselves, or back if the
+     * load failed.
+     *
+     * @param horizon New horizon
+     */
+    synchronized void setHorizon(LocalDateTime horizon) {
+        this.horizon = horizon;
+    }
+
+    /**
+     * Adds a loaded deadline unless the task already has a timer, which was
+     * set by a write and is newer than the loaded row.
+     *
+     * @param taskId Task ID
+     * @param dueAt Due date
+     */
+    synchronized void load(Long taskId, LocalDateTime dueAt) {
+        if (!timers.containsKey(taskId)) {
+            schedule(taskId, dueAt);
+        }
+    }
+
+    /**
+     * Adds, moves or removes the timer of a task.
+     *
+     * @param taskId Task ID
+     * @param dueAt Due date, or null to remove the timer
+     */
+    synchronized void schedule(Long taskId, LocalDateTime dueAt) {
+        HierarchicalTimingWheel.Timer<Long> previous = timers.remove(taskId);
+        if (previous != null) {
+            wheel.cancel(previous);
+        }
+        if (dueAt != null && horizon != null && !dueAt.isAfter(horizon)) {
+            timers.put(taskId, wheel.add(epochMillis(dueAt), taskId));
+        }
+    }
+
+    /**
+     * Advances the wheel and returns the tasks whose timers expired.
+     *
+     * @param nowMillis Current time in epoch milliseconds
+     * @return IDs of the tasks due by now
+     */
+    synchronized List<Long> expire(long nowMillis) {
+        List<Long> due = wheel.advance(nowMillis);
+        for (Long taskId : due) {
+            // Keep the entry if the task was rescheduled while its previous timer was already due
+            HierarchicalTimingWheel.Timer<Long> timer = timers.get(taskId);
+            if (timer != null && !timer.isPending()) {
+                timers.remove(taskId);
+            }
+        }
+        return due;
+    }
+
+    /**
+     * Returns timer statistics.
+     *
+     * @return Map of statistics
+     */
+    synchronized Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("enabled", enabled);
+        statistics.put("timers", wheel.size());
+        statistics.put("horizon", horizon);
+        return statistics;
+    }
+
+    private static long epochMillis(LocalDateTime timestamp) {
+        return timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+}
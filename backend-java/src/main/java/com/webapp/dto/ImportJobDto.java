@@ -0,0 +1,48 @@
+package com.webapp.dto;
+
+import com.webapp.enums.ImportFormat;
+import com.webapp.enums.ImportJobStatus;
+import com.webapp.enums.ImportType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Progress and error report of a bulk import job.
+ * 
+ * @param id Job ID
+ * @param type Kind of imported rows
+ * @param format Format of the uploaded file
+ * @param status Job status
+ * @param rowsRead Number of rows read so far
+ * @param rowsImported Number of rows imported so far
+ * @param rowsFailed Number of rows rejected so far
+ * @param failure Reason the job failed, if it did
+ * @param errors The first rejected rows
+ * @param createdAt Creation time
+ * @param updatedAt Time of the last checkpoint or status change
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+public record ImportJobDto(
+        Long id,
+        ImportType type,
+        ImportFormat format,
+        ImportJobStatus status,
+        long rowsRead,
+        long rowsImported,
+        long rowsFailed,
+        String failure,
+        List<RowError> errors,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    /**
+     * A rejected row.
+     * 
+     * @param row Row number, counting from 1 after any header
+     * @param message Reason the row was rejected
+     */
+    public record RowError(long row, String message) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.webapp.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response of a lookup of several resources by ID.
+ * 
+ * <p>IDs without a resource are reported in {@code missingIds} instead of
+ * failing the whole request.</p>
+ * 
+ * @param items Found resources, in the order of the requested IDs
+ * @param missingIds Requested IDs without a resource
+ * @param <T> Resource DTO type
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+public record MultiGetResponse<T>(
+        List<T> items,
+        List<Long> missingIds) {
+
+    /**
+     * Builds the response for the requested IDs from the resources found.
+     * 
+     * @param ids Requested IDs, without duplicates
+     * @param found Found resources by ID
+     * @param <T> Resource DTO type
+     * @return Response listing the found resources in request order and the missing IDs
+     */
+    public static <T> MultiGetResponse<T> of(List<Long> ids, Map<Long, T> found) {
+        List<T> items = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            T item = found.get(id);
+            if (item != null) {
+                items.add(item);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new MultiGetResponse<>(items, missingIds);
+    }
+}
@@ -0,0 +1,23 @@
+package com.webapp.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a user together with the user's tasks.
+ * 
+ * <p>Response-only aggregate for {@code ?include=tasks}, so clients can load
+ * users and their tasks in one request.</p>
+ * 
+ * @param id User ID
+ * @param email User's email address
+ * @param name User's full name
+ * @param tasks User's tasks, newest first
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+public record UserWithTasksDto(
+        Long id,
+        String email,
+        String name,
+        List<TaskDto> tasks) {
+}
@@ -0,0 +1,163 @@
+package com.webapp.entity;
+
+import com.webapp.enums.TaskStatus;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Completed task moved out of the tasks table by the archiver.
+ * 
+ * <p>Keeps the task's ID and columns, plus the time it was archived. Rows are
+ * written with SQL by {@link com.webapp.service.TaskArchiver} and never changed
+ * afterwards, so the entity is read-only.
+ * Maps to the 'tasks_archive' table in the database.</p>
+ * 
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Entity
+@Immutable
+@Table(name = "tasks_archive", indexes = @Index(name = "idx_tasks_archive_user_id", columnList = "user_id"))
+public class ArchivedTask {
+
+    /**
+     * ID the task had in the tasks table.
+     */
+    @Id
+    private Long id;
+
+    /**
+     * Title of the task.
+     */
+    @Column(nullable = false)
+    private String title;
+
+    /**
+     * Detailed description of the task.
+     */
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    /**
+     * Status of the task; always COMPLETED when archived.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskStatus status;
+
+    /**
+     * ID of the user who owns this task.
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * Timestamp when the task was created.
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Timestamp when the task was last updated.
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Time by which the task was due, if any.
+     */
+    @Column(name = "due_at")
+    private LocalDateTime dueAt;
+
+    /**
+     * Timestamp when the task was archived.
+     */
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    /**
+     * Default constructor.
+     */
+    protected ArchivedTask() {
+    }
+
+    // Getters
+
+    /**
+     * Gets the task ID.
+     * 
+     * @return Task ID
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Gets the task title.
+     * 
+     * @return Task title
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Gets the task description.
+     * 
+     * @return Task description
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Gets the task status.
+     * 
+     * @return Task status
+     */
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Gets the user ID who owns this task.
+     * 
+     * @return User ID
+     */
+    public Long getUserId() {
+        return userId;
+    }
+
+    /**
+     * Gets the creation timestamp.
+     * 
+     * @return Creation timestamp
+     */
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Gets the last update timestamp.
+     * 
+     * @return Last update timestamp
+     */
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    /**
+     * Gets the archiving timestamp.
+     * 
+     * @return Archiving timestamp
+     */
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
@@ -0,0 +1,322 @@
+package com.webapp.entity;
+
+import com.webapp.enums.ImportFormat;
+import com.webapp.enums.ImportJobStatus;
+import com.webapp.enums.ImportType;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk import job with its progress and checkpoint.
+ * 
+ * <p>The checkpoint (byte offset into the uploaded file and the counters) is
+ * updated in the same transaction as each chunk of imported rows, so a
+ * resumed job continues exactly after the last committed chunk.
+ * Maps to the 'import_jobs' table in the database.</p>
+ * 
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "import_jobs")
+public class ImportJob {
+
+    /**
+     * Unique identifier for the job.
+     * Auto-generated primary key.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Kind of imported rows.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportType type;
+
+    /**
+     * Format of the uploaded file.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportFormat format;
+
+    /**
+     * Current state of the job.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportJobStatus status = ImportJobStatus.QUEUED;
+
+    /**
+     * Name of the uploaded file in the import directory.
+     */
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    /**
+     * Byte offset of the first row after the last committed chunk.
+     */
+    @Column(name = "byte_offset", nullable = false)
+    private long byteOffset;
+
+    /**
+     * Number of rows read up to the checkpoint.
+     */
+    @Column(name = "rows_read", nullable = false)
+    private long rowsRead;
+
+    /**
+     * Number of rows imported up to the checkpoint.
+     */
+    @Column(name = "rows_imported", nullable = false)
+    private long rowsImported;
+
+    /**
+     * Number of rows rejected up to the checkpoint.
+     */
+    @Column(name = "rows_failed", nullable = false)
+    private long rowsFailed;
+
+    /**
+     * Reason the job failed, if it did.
+     */
+    @Column(length = 1000)
+    private String failure;
+
+    /**
+     * The first rejected rows, up to the configured limit.
+     */
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "import_job_errors", joinColumns = @JoinColumn(name = "job_id"))
+    @OrderColumn(name = "error_index")
+    private List<ImportRowError> errors = new ArrayList<>();
+
+    /**
+     * Timestamp when the job was created.
+     * Automatically set on creation.
+     */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Timestamp when the job was last updated.
+     * Automatically updated on modification.
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Default constructor.
+     */
+    public ImportJob() {
+    }
+
+    /**
+     * Constructor for a newly uploaded file.
+     * 
+     * @param type Kind of imported rows
+     * @param format Format of the file
+     * @param fileName Name of the file in the import directory
+     */
+    public ImportJob(ImportType type, ImportFormat format, String fileName) {
+        this.type = type;
+        this.format = format;
+        this.fileName = fileName;
+    }
+
+    /**
+     * Pre-persist callback to set creation and update timestamps.
+     */
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Pre-update callback to update the modification timestamp.
+     */
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+
+    /**
+     * Gets the job ID.
+     * 
+     * @return Job ID
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Gets the kind of imported rows.
+     * 
+     * @return Import type
+     */
+    public ImportType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the format of the uploaded file.
+     * 
+     * @return Import format
+     */
+    public ImportFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Gets the job status.
+     * 
+     * @return Job status
+     */
+    public ImportJobStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Sets the job status.
+     * 
+     * @param status Job status
+     */
+    public void setStatus(ImportJobStatus status) {
+        this.status = status;
+    }
+
+    /**
+     * Gets the name of the uploaded file.
+     * 
+     * @return File name
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Gets the byte offset of the checkpoint.
+     * 
+     * @return Byte offset
+     */
+    public long getByteOffset() {
+        return byteOffset;
+    }
+
+    /**
+     * Sets the byte offset of the checkpoint.
+     * 
+     * @param byteOffset Byte offset
+     */
+    public void setByteOffset(long byteOffset) {
+        this.byteOffset = byteOffset;
+    }
+
+    /**
+     * Gets the number of rows read.
+     * 
+     * @return Rows read
+     */
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    /**
+     * Sets the number of rows read.
+     * 
+     * @param rowsRead Rows read
+     */
+    public void setRowsRead(long rowsRead) {
+        this.rowsRead = rowsRead;
+    }
+
+    /**
+     * Gets the number of imported rows.
+     * 
+     * @return Rows imported
+     */
+    public long getRowsImported() {
+        return rowsImported;
+    }
+
+    /**
+     * Sets the number of imported rows.
+     * 
+     * @param rowsImported Rows imported
+     */
+    public void setRowsImported(long rowsImported) {
+        this.rowsImported = rowsImported;
+    }
+
+    /**
+     * Gets the number of rejected rows.
+     * 
+     * @return Rows failed
+     */
+    public long getRowsFailed() {
+        return rowsFailed;
+    }
+
+    /**
+     * Sets the number of rejected rows.
+     * 
+     * @param rowsFailed Rows failed
+     */
+    public void setRowsFailed(long rowsFailed) {
+        this.rowsFailed = rowsFailed;
+    }
+
+    /**
+     * Gets the reason the job failed.
+     * 
+     * @return Failure message, or null
+     */
+    public String getFailure() {
+        return failure;
+    }
+
+    /**
+     * Sets the reason the job failed.
+     * 
+     * @param failure Failure message, or null
+     */
+    public void setFailure(String failure) {
+        this.failure = failure;
+    }
+
+    /**
+     * Gets the reported rejected rows.
+     * 
+     * @return List of row errors
+     */
+    public List<ImportRowError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Gets the creation timestamp.
+     * 
+     * @return Creation timestamp
+     */
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Gets the last update timestamp.
+     * 
+     * @return Last update timestamp
+     */
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,63 @@
+package com.webapp.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/**
+ * A row rejected by a bulk import.
+ * 
+ * <p>Stored in the 'import_job_errors' table as part of its {@link ImportJob}.</p>
+ * 
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Embeddable
+public class ImportRowError {
+
+    /**
+     * Number of the rejected row, counting from 1 after any header.
+     */
+    @Column(name = "failed_row", nullable = false)
+    private long row;
+
+    /**
+     * Reason the row was rejected.
+     */
+    @Column(nullable = false, length = 1000)
+    private String message;
+
+    /**
+     * Default constructor.
+     */
+    public ImportRowError() {
+    }
+
+    /**
+     * Constructor with row number and message.
+     * 
+     * @param row Row number
+     * @param message Reason the row was rejected
+     */
+    public ImportRowError(long row, String message) {
+        this.row = row;
+        this.message = message;
+    }
+
+    /**
+     * Gets the row number.
+     * 
+     * @return Row number
+     */
+    public long getRow() {
+        return row;
+    }
+
+    /**
+     * Gets the reason the row was rejected.
+     * 
+     * @return Error message
+     */
+    public String getMessage() {
+        return message;
+    }
+}
@@ -14,7 +14,7 @@ import java.time.LocalDateTime;
  * @version 1.0.0
  */
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = @Index(name = "idx_tasks_due_at", columnList = "due_at"))
 public class Task {
 
     /**
@@ -62,6 +62,13 @@ public class Task {
     @JoinColumn(name = "user_id", insertable = false, updatable = false)
     private User user;
 
+    /**
+     * Time by which the task is due.
+     * Optional field; indexed for loading upcoming deadlines.
+     */
+    @Column(name = "due_at")
+    private LocalDateTime dueAt;
+
     /**
      * Timestamp when the task was created.
      * Automatically set on creation.
@@ -76,6 +83,9 @@ public class Task {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Column(name = "revision", nullable = false, columnDefinition = "integer default 0")
+    private long revision;
+
     /**
      * Default constructor.
      */
@@ -93,6 +103,35 @@ public class Task {
         this.userId = userId;
     }
 
+    /**
+     * Constructor with all user-provided fields.
+     * 
+     * @param title Task title
+     * @param description Task description
+     * @param status Task status
+     * @param userId User ID who owns the task
+     */
+    public Task(String title, String description, TaskStatus status, Long userId) {
+        this.title = title;
+        this.description = description;
+        this.status = status;
+        this.userId = userId;
+    }
+
+    /**
+     * Constructor with all user-provided fields including the due date.
+     * 
+     * @param title Task title
+     * @param description Task description
+     * @param status Task status
+     * @param userId User ID who owns the task
+     * @param dueAt Optional due date
+     */
+    public Task(String title, String description, TaskStatus status, Long userId, LocalDateTime dueAt) {
+        this(title, description, status, userId);
+        this.dueAt = dueAt;
+    }
+
     /**
      * Pre-persist callback to set creation and update timestamps.
      */
@@ -108,6 +147,7 @@ public class Task {
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        revision++;
     }
 
     // Getters and Setters
@@ -220,6 +260,24 @@ public class Task {
         this.user = user;
     }
 
+    /**
+     * Gets the due date.
+     * 
+     * @return Due date, or null if the task has none
+     */
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    /**
+     * Sets the due date.
+     * 
+     * @param dueAt Due date
+     */
+    public void setDueAt(LocalDateTime dueAt) {
+        this.dueAt = dueAt;
+    }
+
     /**
      * Gets the creation timestamp.
      * 
@@ -255,5 +313,9 @@ public class Task {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public long getRevision() {
+        return revision;
+    }
 }
 
@@ -1,6 +1,7 @@
 package com.webapp.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -56,9 +57,12 @@ public class User {
 
     /**
      * Tasks associated with this user.
-     * One-to-many relationship with cascade delete.
+     * One-to-many relationship with cascade delete. Loaded for up to 100 users
+     * per query when several users' tasks are accessed.
      */
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
+    @OrderBy("createdAt DESC")
     private List<Task> tasks = new ArrayList<>();
 
     /**
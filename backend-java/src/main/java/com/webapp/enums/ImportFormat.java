@@ -0,0 +1,19 @@
+package com.webapp.enums;
+
+/**
+ * File format of a bulk import.
+ * 
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+public enum ImportFormat {
+    /**
+     * Comma-separated values with a header row naming the fields.
+     */
+    CSV,
+    
+    /**
+     * One JSON object per line.
+     */
+    NDJSON
+}
@@ -0,0 +1,29 @@
+package com.webapp.enums;
+
+/**
+ * Lifecycle of a bulk import job.
+ * 
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+public enum ImportJobStatus {
+    /**
+     * Uploaded and waiting for the import worker.
+     */
+    QUEUED,
+    
+    /**
+     * Rows are being imported.
+     */
+    RUNNING,
+    
+    /**
+     * All rows have been read; rejected rows are listed in the job's errors.
+     */
+    COMPLETED,
+    
+    /**
+     * Stopped by an error; can be resumed from the last committed chunk.
+     */
+    FAILED
+}
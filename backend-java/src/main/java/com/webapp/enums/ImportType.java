@@ -0,0 +1,19 @@
+package com.webapp.enums;
+
+/**
+ * Kind of rows loaded by a bulk import.
+ * 
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+public enum ImportType {
+    /**
+     * Users with email and name.
+     */
+    USERS,
+    
+    /**
+     * Tasks, referencing their owner by user ID or email.
+     */
+    TASKS
+}
@@ -22,7 +22,17 @@ public enum TaskStatus {
     /**
      * Task has been completed.
      */
-    COMPLETED
+    COMPLETED,
+    
+    /**
+     * Task was in progress when its due date passed.
+     */
+    STALE,
+    
+    /**
+     * Task was still pending when its due date passed.
+     */
+    EXPIRED
 }
 
 
@@ -1,12 +1,18 @@
 package com.webapp.exception;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 /**
  * Standard error response structure.
  * 
  * <p>Used by GlobalExceptionHandler to return consistent error responses.</p>
  * 
+ * <p>Only the epoch milliseconds are taken on construction; the local
+ * date-time is created when it is first requested, which the JSON
+ * serializer avoids.</p>
+ * 
  * @author Web Application Team
  * @version 1.0.0
  */
@@ -14,13 +20,15 @@ public class ErrorResponse {
 
     private String message;
     private Object details;
+    private final long createdAtMillis;
     private LocalDateTime timestamp;
+    private boolean timestampResolved;
 
     /**
      * Default constructor.
      */
     public ErrorResponse() {
-        this.timestamp = LocalDateTime.now();
+        this.createdAtMillis = System.currentTimeMillis();
     }
 
     /**
@@ -86,9 +94,22 @@ public class ErrorResponse {
      * @return Timestamp
      */
     public LocalDateTime getTimestamp() {
+        if (!timestampResolved) {
+            timestamp = LocalDateTime.ofInstant(Instant.ofEpochMilli(createdAtMillis), ZoneId.systemDefault());
+            timestampResolved = true;
+        }
         return timestamp;
     }
 
+    /**
+     * Gets the creation time of the response while its timestamp has not been set or resolved.
+     * 
+     * @return Epoch milliseconds, or -1 once {@link #getTimestamp()} is the source of truth
+     */
+    public long getCreatedAtMillis() {
+        return timestampResolved ? -1 : createdAtMillis;
+    }
+
     /**
      * Sets the timestamp when the error occurred.
      * 
@@ -96,6 +117,7 @@ public class ErrorResponse {
      */
     public void setTimestamp(LocalDateTime timestamp) {
         this.timestamp = timestamp;
+        this.timestampResolved = true;
     }
 }
 
@@ -2,15 +2,14 @@ package com.webapp.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.validation.FieldError;
-import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.sql.SQLException;
+import java.util.Locale;
 
 /**
  * Global exception handler for the application.
@@ -25,16 +24,21 @@ import java.util.Map;
 public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
 
     /**
      * Handles ResourceNotFoundException (404 Not Found).
      * 
+     * <p>Logged at debug level only: misses are routine for polling clients
+     * and would otherwise dominate the log.</p>
+     * 
      * @param ex The exception
      * @return Error response with 404 status
      */
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleResourceNotFoundException(ResourceNotFoundException ex) {
-        logger.warn("Resource not found: {}", ex.getMessage());
+        logger.debug("Resource not found: {}", ex.getMessage());
         ErrorResponse error = new ErrorResponse(ex.getMessage());
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
@@ -52,6 +56,27 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    /**
+     * Handles email unique constraint violations that slipped past the service checks (409 Conflict).
+     * 
+     * <p>Concurrent writes can both pass the service-level checks; the database
+     * constraint then decides, and the loser gets the same answer as a detected conflict.
+     * Other integrity violations, such as NOT NULL or foreign key failures, are not
+     * conflicts and are handled like any other unexpected error.</p>
+     * 
+     * @param ex The exception
+     * @return Error response with 409 status, or 500 for other violations
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+        if (!isDuplicateEmail(ex)) {
+            return handleGenericException(ex);
+        }
+        logger.warn("Data integrity violation: {}", ex.getMostSpecificCause().getMessage());
+        ErrorResponse error = new ErrorResponse("Resource conflicts with existing data");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     /**
      * Handles InvalidRequestException (400 Bad Request).
      * 
@@ -66,21 +91,15 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * Handles validation errors from @Valid annotations (400 Bad Request).
+     * Handles request bodies rejected by a validation pipeline (400 Bad Request).
      * 
-     * @param ex The validation exception
-     * @return Error response with validation details
+     * @param ex The exception
+     * @return Error response with the invalid fields in the details
      */
-    @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<ErrorResponse> handleValidationException(MethodArgumentNotValidException ex) {
-        logger.warn("Validation error: {}", ex.getMessage());
-        Map<String, String> errors = new HashMap<>();
-        ex.getBindingResult().getAllErrors().forEach((error) -> {
-            String fieldName = ((FieldError) error).getField();
-            String errorMessage = error.getDefaultMessage();
-            errors.put(fieldName, errorMessage);
-        });
-        ErrorResponse error = new ErrorResponse("Validation failed", errors);
+    @ExceptionHandler(ValidationFailedException.class)
+    public ResponseEntity<ErrorResponse> handleValidationFailedException(ValidationFailedException ex) {
+        logger.warn("Validation error: {}", ex.getErrors());
+        ErrorResponse error = new ErrorResponse("Validation failed", ex.getErrors());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
@@ -96,6 +115,25 @@ public class GlobalExceptionHandler {
         ErrorResponse error = new ErrorResponse("Internal server error");
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
     }
-}
-
 
+    /**
+     * Checks whether an integrity violation is a unique constraint violation on a user's email.
+     * 
+     * <p>Drivers report unique violations differently: SQLite in the message,
+     * PostgreSQL and H2 with SQL state 23505 and MySQL with error code 1062. The
+     * message names the email column on SQLite, PostgreSQL and H2.</p>
+     * 
+     * @param ex The exception
+     * @return true for a duplicate email
+     */
+    private static boolean isDuplicateEmail(DataIntegrityViolationException ex) {
+        if (!(ex.getMostSpecificCause() instanceof SQLException sqlException) || sqlException.getMessage() == null) {
+            return false;
+        }
+        String message = sqlException.getMessage().toLowerCase(Locale.ROOT);
+        boolean unique = UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())
+                || sqlException.getErrorCode() == MYSQL_DUPLICATE_ENTRY
+                || message.contains("unique constraint");
+        return unique && message.contains("email");
+    }
+}
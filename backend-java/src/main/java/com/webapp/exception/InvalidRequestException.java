@@ -5,6 +5,9 @@ package com.webapp.exception;
  * 
  * <p>This exception is used for 400 Bad Request responses.</p>
  * 
+ * <p>Validation failures are an expected client error, so {@link #of(String)}
+ * creates instances without a stack trace.</p>
+ * 
  * @author Web Application Team
  * @version 1.0.0
  */
@@ -28,6 +31,26 @@ public class InvalidRequestException extends RuntimeException {
     public InvalidRequestException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * Constructs a new InvalidRequestException without a stack trace or suppressed exceptions.
+     * 
+     * @param message The detail message
+     * @param writableStackTrace Whether the stack trace should be captured
+     */
+    protected InvalidRequestException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+
+    /**
+     * Creates the exception for a rejected request.
+     * 
+     * @param message The detail message
+     * @return Stackless exception
+     */
+    public static InvalidRequestException of(String message) {
+        return new InvalidRequestException(message, false);
+    }
 }
 
 
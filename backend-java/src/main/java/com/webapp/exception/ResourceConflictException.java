@@ -5,11 +5,23 @@ package com.webapp.exception;
  * 
  * <p>This exception is used for 409 Conflict responses.</p>
  * 
+ * <p>Duplicate emails are an expected client error, so the factory method
+ * creates instances without a stack trace and only keeps the email; the
+ * message is formatted on first use.</p>
+ * 
  * @author Web Application Team
  * @version 1.0.0
  */
 public class ResourceConflictException extends RuntimeException {
 
+    private static final String DUPLICATE_EMAIL_PREFIX = "User with email ";
+    private static final String DUPLICATE_EMAIL_SUFFIX = " already exists";
+
+    private final String prefix;
+    private final String subject;
+    private final String suffix;
+    private String message;
+
     /**
      * Constructs a new ResourceConflictException with the specified message.
      * 
@@ -17,6 +29,9 @@ public class ResourceConflictException extends RuntimeException {
      */
     public ResourceConflictException(String message) {
         super(message);
+        this.prefix = null;
+        this.subject = null;
+        this.suffix = null;
     }
 
     /**
@@ -27,6 +42,64 @@ public class ResourceConflictException extends RuntimeException {
      */
     public ResourceConflictException(String message, Throwable cause) {
         super(message, cause);
+        this.prefix = null;
+        this.subject = null;
+        this.suffix = null;
+    }
+
+    /**
+     * Constructs a new ResourceConflictException without a stack trace or suppressed exceptions.
+     * 
+     * @param message The detail message
+     * @param writableStackTrace Whether the stack trace should be captured
+     */
+    protected ResourceConflictException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.prefix = null;
+        this.subject = null;
+        this.suffix = null;
+    }
+
+    /**
+     * Constructs a stackless ResourceConflictException whose message is formatted lazily.
+     * 
+     * @param prefix Constant message prefix
+     * @param subject Conflicting value
+     * @param suffix Constant message suffix
+     */
+    private ResourceConflictException(String prefix, String subject, String suffix) {
+        super(null, null, false, false);
+        this.prefix = prefix;
+        this.subject = subject;
+        this.suffix = suffix;
+    }
+
+    /**
+     * Returns the detail message, formatting it on first use for instances from the factory method.
+     * 
+     * @return The detail message
+     */
+    @Override
+    public String getMessage() {
+        if (prefix == null) {
+            return super.getMessage();
+        }
+        String formatted = message;
+        if (formatted == null) {
+            formatted = prefix + subject + suffix;
+            message = formatted;
+        }
+        return formatted;
+    }
+
+    /**
+     * Creates the exception for an email address that is already taken.
+     * 
+     * @param email Email address
+     * @return Stackless exception
+     */
+    public static ResourceConflictException duplicateEmail(String email) {
+        return new ResourceConflictException(DUPLICATE_EMAIL_PREFIX, email, DUPLICATE_EMAIL_SUFFIX);
     }
 }
 
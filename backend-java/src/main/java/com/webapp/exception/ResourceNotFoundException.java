@@ -5,11 +5,23 @@ package com.webapp.exception;
  * 
  * <p>This exception is used for 404 Not Found responses.</p>
  * 
+ * <p>Misses are routine, e.g. for clients polling deleted resources, so the
+ * factory methods create instances without a stack trace and only keep the
+ * constant message prefix and the ID; the message is formatted on first use.</p>
+ * 
  * @author Web Application Team
  * @version 1.0.0
  */
 public class ResourceNotFoundException extends RuntimeException {
 
+    private static final String TASK_PREFIX = "Task with ID ";
+    private static final String USER_PREFIX = "User with ID ";
+    private static final String SUFFIX = " not found";
+
+    private final String prefix;
+    private final Object id;
+    private String message;
+
     /**
      * Constructs a new ResourceNotFoundException with the specified message.
      * 
@@ -17,6 +29,8 @@ public class ResourceNotFoundException extends RuntimeException {
      */
     public ResourceNotFoundException(String message) {
         super(message);
+        this.prefix = null;
+        this.id = null;
     }
 
     /**
@@ -27,6 +41,70 @@ public class ResourceNotFoundException extends RuntimeException {
      */
     public ResourceNotFoundException(String message, Throwable cause) {
         super(message, cause);
+        this.prefix = null;
+        this.id = null;
+    }
+
+    /**
+     * Constructs a new ResourceNotFoundException without a stack trace or suppressed exceptions.
+     * 
+     * @param message The detail message
+     * @param writableStackTrace Whether the stack trace should be captured
+     */
+    protected ResourceNotFoundException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+        this.prefix = null;
+        this.id = null;
+    }
+
+    /**
+     * Constructs a stackless ResourceNotFoundException whose message is formatted lazily.
+     * 
+     * @param prefix Constant message prefix naming the resource type
+     * @param id ID of the missing resource
+     */
+    private ResourceNotFoundException(String prefix, Object id) {
+        super(null, null, false, false);
+        this.prefix = prefix;
+        this.id = id;
+    }
+
+    /**
+     * Returns the detail message, formatting it on first use for instances from the factory methods.
+     * 
+     * @return The detail message
+     */
+    @Override
+    public String getMessage() {
+        if (prefix == null) {
+            return super.getMessage();
+        }
+        String formatted = message;
+        if (formatted == null) {
+            formatted = prefix + id + SUFFIX;
+            message = formatted;
+        }
+        return formatted;
+    }
+
+    /**
+     * Creates the exception for a missing task.
+     * 
+     * @param id Task ID
+     * @return Stackless exception
+     */
+    public static ResourceNotFoundException task(Long id) {
+        return new ResourceNotFoundException(TASK_PREFIX, id);
+    }
+
+    /**
+     * Creates the exception for a missing user.
+     * 
+     * @param id User ID
+     * @return Stackless exception
+     */
+    public static ResourceNotFoundException user(Long id) {
+        return new ResourceNotFoundException(USER_PREFIX, id);
     }
 }
 
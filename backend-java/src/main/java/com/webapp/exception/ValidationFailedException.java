@@ -0,0 +1,47 @@
+package com.webapp.exception;
+
+import java.util.Map;
+
+/**
+ * Exception thrown when a request body fails validation rules.
+ * 
+ * <p>Carries every invalid field with its message, so the response lists
+ * them in the details like a bean validation error. Created without a stack
+ * trace, as invalid input is an expected client error.</p>
+ * 
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+public class ValidationFailedException extends InvalidRequestException {
+
+    private final Map<String, String> errors;
+
+    /**
+     * Constructs a new ValidationFailedException for a field.
+     * 
+     * @param field Name of the invalid field
+     * @param message The detail message
+     */
+    public ValidationFailedException(String field, String message) {
+        this(Map.of(field, message));
+    }
+
+    /**
+     * Constructs a new ValidationFailedException for one or more fields.
+     * 
+     * @param errors Error message per invalid field, in the order the fields were checked
+     */
+    public ValidationFailedException(Map<String, String> errors) {
+        super(String.join("; ", errors.values()), false);
+        this.errors = errors;
+    }
+
+    /**
+     * Gets the invalid fields with their error messages.
+     * 
+     * @return Error message per field
+     */
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+}
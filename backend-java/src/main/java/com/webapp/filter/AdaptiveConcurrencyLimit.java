@@ -0,0 +1,98 @@
+package com.webapp.filter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adaptive concurrency limit using additive increase / multiplicative decrease.
+ *
+ * <p>The limit grows by one while requests complete within the target latency
+ * and the limit is actually being used, and shrinks by 10% when a request takes
+ * longer than the target.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Creates a limit.
+     *
+     * @param initialLimit Initial concurrency limit
+     * @param minLimit Lower bound of the limit
+     * @param maxLimit Upper bound of the limit
+     * @param targetLatencyMillis Latency above which the limit is decreased
+     */
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, long targetLatencyMillis) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.targetLatencyNanos = targetLatencyMillis * 1_000_000L;
+        this.limit = new AtomicInteger(Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit)));
+    }
+
+    /**
+     * Tries to acquire a slot.
+     *
+     * @return true if the request may proceed, false if the limit is reached
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a slot and adapts the limit to the observed latency.
+     *
+     * @param latencyNanos Latency of the completed request
+     */
+    public void release(long latencyNanos) {
+        int concurrent = inFlight.getAndDecrement();
+        if (latencyNanos > targetLatencyNanos) {
+            limit.updateAndGet(current -> Math.max(minLimit, (int) (current * 0.9)));
+        } else if (concurrent * 2 >= limit.get()) {
+            limit.updateAndGet(current -> Math.min(maxLimit, current + 1));
+        }
+    }
+
+    /**
+     * Gets the current limit.
+     *
+     * @return Current concurrency limit
+     */
+    public int getLimit() {
+        return limit.get();
+    }
+
+    /**
+     * Gets the number of requests currently in flight.
+     *
+     * @return Requests in flight
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Gets the number of rejected requests.
+     *
+     * @return Rejected requests
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
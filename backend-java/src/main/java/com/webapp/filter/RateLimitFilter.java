@@ -0,0 +1,225 @@
+package com.webapp.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webapp.exception.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-client rate limiting and per-endpoint-class concurrency limiting.
+ *
+ * <p>Each client, identified by its API key header if the key is one of the
+ * configured keys and else by its remote address, gets one token bucket for
+ * reads (GET/HEAD) and one for writes. Unknown keys are ignored, so rotating
+ * keys does not escape the per-address limit. At most {@code maxTrackedClients}
+ * buckets are kept per kind; once they are all in use, clients without a bucket
+ * share one overflow bucket until a periodic sweep drops refilled buckets.
+ * Independently,
+ * reads and writes each have an adaptive concurrency limit. Requests exceeding
+ * either limit are answered with 429 Too Many Requests and a Retry-After header.
+ * CORS preflight requests are never limited.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final ObjectMapper objectMapper;
+    private final String apiKeyHeader;
+    private final Set<String> apiKeys;
+    private final AdaptiveConcurrencyLimit readConcurrency;
+    private final AdaptiveConcurrencyLimit writeConcurrency;
+
+    private final BucketTable readBuckets;
+    private final BucketTable writeBuckets;
+    private final LongAdder rateLimited = new LongAdder();
+
+    /**
+     * Creates the filter.
+     *
+     * @param objectMapper Object mapper for error responses
+     * @param apiKeyHeader Header identifying a client; falls back to the remote address
+     * @param apiKeys API keys that identify a client; other keys are ignored
+     * @param maxTrackedClients Maximum number of buckets per kind
+     * @param readRate Rate limit for reads per client
+     * @param writeRate Rate limit for writes per client
+     * @param readConcurrency Concurrency limit for all reads
+     * @param writeConcurrency Concurrency limit for all writes
+     */
+    public RateLimitFilter(ObjectMapper objectMapper,
+                           String apiKeyHeader,
+                           Set<String> apiKeys,
+                           int maxTrackedClients,
+                           RateLimit readRate,
+                           RateLimit writeRate,
+                           AdaptiveConcurrencyLimit readConcurrency,
+                           AdaptiveConcurrencyLimit writeConcurrency) {
+        this.objectMapper = objectMapper;
+        this.apiKeyHeader = apiKeyHeader;
+        this.apiKeys = Set.copyOf(apiKeys);
+        this.readBuckets = new BucketTable(readRate, maxTrackedClients);
+        this.writeBuckets = new BucketTable(writeRate, maxTrackedClients);
+        this.readConcurrency = readConcurrency;
+        this.writeConcurrency = writeConcurrency;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if ("OPTIONS".equals(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean read = "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+        long now = System.nanoTime();
+
+        TokenBucket bucket = (read ? readBuckets : writeBuckets).bucketFor(clientKey(request), now);
+        long waitNanos = bucket.tryConsume(now);
+        if (waitNanos > 0) {
+            rateLimited.increment();
+            reject(response, "Rate limit exceeded", waitNanos);
+            return;
+        }
+
+        AdaptiveConcurrencyLimit concurrency = read ? readConcurrency : writeConcurrency;
+        if (!concurrency.tryAcquire()) {
+            reject(response, "Too many concurrent requests", 0);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            concurrency.release(System.nanoTime() - now);
+        }
+    }
+
+    /**
+     * Returns limiter statistics.
+     *
+     * @return Map of statistics
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("trackedClients", readBuckets.size() + writeBuckets.size());
+        statistics.put("overflowRequests", readBuckets.getOverflowRequests() + writeBuckets.getOverflowRequests());
+        statistics.put("rateLimited", rateLimited.sum());
+        statistics.put("read", describe(readConcurrency));
+        statistics.put("write", describe(writeConcurrency));
+        return statistics;
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String apiKey = request.getHeader(apiKeyHeader);
+        if (apiKey != null && apiKeys.contains(apiKey)) {
+            return "key:" + apiKey;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, String message, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1L, (waitNanos + 999_999_999L) / 1_000_000_000L);
+        logger.debug("Rejecting request: {} (retry after {}s)", message, retryAfterSeconds);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(message));
+    }
+
+    private static Map<String, Object> describe(AdaptiveConcurrencyLimit limit) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("limit", limit.getLimit());
+        stats.put("inFlight", limit.getInFlight());
+        stats.put("rejected", limit.getRejected());
+        return stats;
+    }
+
+    /**
+     * Bounded set of token buckets with the same settings, keyed by client.
+     */
+    private static final class BucketTable {
+
+        private final RateLimit rate;
+        private final int maxClients;
+        private final long sweepIntervalNanos;
+        private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final TokenBucket overflow;
+        private final AtomicLong nextSweepNanos;
+        private final LongAdder overflowRequests = new LongAdder();
+
+        private BucketTable(RateLimit rate, int maxClients) {
+            long now = System.nanoTime();
+            this.rate = rate;
+            this.maxClients = Math.max(1, maxClients);
+            // After this long without requests, any bucket has refilled completely
+            this.sweepIntervalNanos = Math.max(1_000_000_000L, (long) (rate.burst() * 1e9 / rate.tokensPerSecond()));
+            this.overflow = new TokenBucket(rate.tokensPerSecond(), rate.burst(), now);
+            this.nextSweepNanos = new AtomicLong(now);
+        }
+
+        private TokenBucket bucketFor(String client, long now) {
+            TokenBucket bucket = buckets.get(client);
+            if (bucket != null) {
+                return bucket;
+            }
+            if (buckets.size() >= maxClients) {
+                sweep(now);
+                if (buckets.size() >= maxClients) {
+                    overflowRequests.increment();
+                    return overflow;
+                }
+            }
+            return buckets.computeIfAbsent(client, key -> new TokenBucket(rate.tokensPerSecond(), rate.burst(), now));
+        }
+
+        /**
+         * Drops refilled buckets, at most once per sweep interval so that new
+         * clients do not pay a full scan each while the table is full.
+         *
+         * @param now Current time in nanoseconds
+         */
+        private void sweep(long now) {
+            long next = nextSweepNanos.get();
+            if (now - next < 0 || !nextSweepNanos.compareAndSet(next, now + sweepIntervalNanos)) {
+                return;
+            }
+            // A full bucket carries no state, so dropping it is indistinguishable from keeping it
+            buckets.values().removeIf(candidate -> candidate.isFull(now));
+        }
+
+        private int size() {
+            return buckets.size();
+        }
+
+        private long getOverflowRequests() {
+            return overflowRequests.sum();
+        }
+    }
+
+    /**
+     * Token bucket settings.
+     *
+     * @param tokensPerSecond Sustained requests per second
+     * @param burst Burst capacity
+     */
+    public record RateLimit(double tokensPerSecond, int burst) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.webapp.filter;
+
+import com.webapp.datasource.ReadYourWrites;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Sticky read-your-writes for replica routing.
+ *
+ * <p>A client that sends a write request gets a cookie with the time until which
+ * its reads must go to the primary. Requests carrying a cookie that has not yet
+ * expired, and the write request itself, are pinned to the primary with
+ * {@link ReadYourWrites}. The cookie travels with the client, so this also
+ * works behind a load balancer without shared session state.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final String COOKIE_NAME = "READ_PRIMARY_UNTIL";
+
+    private final long stickyWindowMillis;
+
+    /**
+     * Creates the filter.
+     *
+     * @param stickyWindowMillis How long reads go to the primary after a write
+     */
+    public ReadYourWritesFilter(long stickyWindowMillis) {
+        this.stickyWindowMillis = stickyWindowMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        boolean write = isWrite(request);
+        if (write) {
+            // The cookie has to be set before the response is committed by the controller
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(now + stickyWindowMillis));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, stickyWindowMillis / 1000));
+            response.addCookie(cookie);
+        }
+        if (write || readsFromPrimaryUntil(request) > now) {
+            ReadYourWrites.pinToPrimary();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+
+    private static boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        if ("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method)) {
+            return false;
+        }
+        // Multi-get lookups only use POST to carry long ID lists
+        return !request.getRequestURI().endsWith("/lookup");
+    }
+
+    private static long readsFromPrimaryUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException ex) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,63 @@
+package com.webapp.filter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket.
+ *
+ * <p>Implemented as a generic cell rate algorithm: the whole bucket state is a
+ * single "theoretical arrival time" updated with compare-and-set, which is
+ * equivalent to a token bucket with the given rate and burst capacity.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    /**
+     * Creates a full bucket.
+     *
+     * @param tokensPerSecond Refill rate
+     * @param capacity Burst capacity in tokens
+     * @param nowNanos Current time in nanoseconds
+     */
+    public TokenBucket(double tokensPerSecond, int capacity, long nowNanos) {
+        this.emissionIntervalNanos = Math.max(1L, (long) (1_000_000_000L / tokensPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * Math.max(0, capacity - 1);
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Tries to take one token.
+     *
+     * @param nowNanos Current time in nanoseconds
+     * @return 0 if a token was taken, otherwise the nanoseconds until one is available
+     */
+    public long tryConsume(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrivalNanos.get();
+            long arrival = Math.max(current, nowNanos);
+            long waitNanos = arrival - nowNanos - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(current, arrival + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Checks whether the bucket has refilled completely.
+     *
+     * @param nowNanos Current time in nanoseconds
+     * @return true if the bucket is full and can be discarded
+     */
+    public boolean isFull(long nowNanos) {
+        return theoreticalArrivalNanos.get() <= nowNanos;
+    }
+}
@@ -0,0 +1,144 @@
+package com.webapp.importer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reader of RFC 4180 CSV files with a header row.
+ *
+ * <p>The header names the fields; quoted fields may contain commas, line
+ * breaks and doubled quotes. Empty fields are read as absent. Fields are
+ * collected as bytes and decoded as UTF-8 once complete, which is safe since
+ * the delimiters never occur inside a multi-byte character. A UTF-8 byte order
+ * mark, as written by Excel, is skipped.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+final class CsvRecordReader extends RecordReader {
+
+    private final ByteArrayOutputStream field = new ByteArrayOutputStream();
+    private String[] header;
+
+    CsvRecordReader(Path file) throws IOException {
+        super(file);
+    }
+
+    @Override
+    void start(long offset) throws IOException {
+        seek(0);
+        if (read() != 0xEF || read() != 0xBB || read() != 0xBF) {
+            seek(0);
+        }
+        List<String> names = readRecord();
+        if (names == null) {
+            throw new IOException("CSV file has no header row");
+        }
+        header = names.stream().map(String::trim).toArray(String[]::new);
+        if (offset > position()) {
+            seek(offset);
+        }
+    }
+
+    @Override
+    Map<String, String> next() throws IOException {
+        while (true) {
+            List<String> values = readRecord();
+            if (values == null) {
+                return null;
+            }
+            if (values.size() == 1 && values.get(0).isEmpty()) {
+                continue;
+            }
+            if (values.size() > header.length) {
+                throw new MalformedRecordException(
+                        "Expected at most " + header.length + " fields but found " + values.size());
+            }
+            Map<String, String> record = new HashMap<>(header.length * 2);
+            for (int i = 0; i < values.size(); i++) {
+                String value = values.get(i);
+                record.put(header[i], value.isEmpty() ? null : value);
+            }
+            return record;
+        }
+    }
+
+    /**
+     * Reads the fields of one record.
+     *
+     * <p>Once the record exceeds {@link #MAX_RECORD_BYTES}, the rest of it is
+     * only scanned for its end and the record is rejected.</p>
+     *
+     * @return Field values, or null at the end of the file
+     * @throws IOException If reading fails, a quoted field is not terminated or the record is too long
+     */
+    private List<String> readRecord() throws IOException {
+        long start = position();
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> values = new ArrayList<>();
+        field.reset();
+        boolean quoted = false;
+        boolean fieldStart = true;
+        while (true) {
+            boolean tooLong = position() - start > MAX_RECORD_BYTES;
+            if (tooLong) {
+                field.reset();
+                values.clear();
+            }
+            if (quoted) {
+                if (c == -1) {
+                    throw new MalformedRecordException("Unterminated quoted field");
+                }
+                if (c == '"') {
+                    c = read();
+                    if (c != '"') {
+                        // Closing quote; the following character is handled unquoted
+                        quoted = false;
+                        continue;
+                    }
+                }
+                append(c, tooLong);
+            } else if (c == -1 || c == '\n') {
+                if (tooLong) {
+                    throw new MalformedRecordException("Record exceeds " + MAX_RECORD_BYTES + " bytes");
+                }
+                values.add(fieldText());
+                return values;
+            } else if (c == ',') {
+                if (!tooLong) {
+                    values.add(fieldText());
+                }
+                fieldStart = true;
+                c = read();
+                continue;
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+            } else if (c != '\r') {
+                append(c, tooLong);
+            }
+            fieldStart = false;
+            c = read();
+        }
+    }
+
+    private void append(int c, boolean tooLong) {
+        if (!tooLong) {
+            field.write(c);
+        }
+    }
+
+    private String fieldText() {
+        String text = field.toString(StandardCharsets.UTF_8);
+        field.reset();
+        return text;
+    }
+}
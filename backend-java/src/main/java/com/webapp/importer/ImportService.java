@@ -0,0 +1,535 @@
+package com.webapp.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webapp.deadline.TaskDeadlineTimers;
+import com.webapp.dto.ImportJobDto;
+import com.webapp.dto.TaskDto;
+import com.webapp.dto.UserDto;
+import com.webapp.entity.ImportJob;
+import com.webapp.entity.ImportRowError;
+import com.webapp.entity.Task;
+import com.webapp.entity.User;
+import com.webapp.enums.ImportFormat;
+import com.webapp.enums.ImportJobStatus;
+import com.webapp.enums.ImportType;
+import com.webapp.enums.TaskStatus;
+import com.webapp.exception.InvalidRequestException;
+import com.webapp.exception.ResourceConflictException;
+import com.webapp.exception.ResourceNotFoundException;
+import com.webapp.exception.ValidationFailedException;
+import com.webapp.mapper.TaskMapper;
+import com.webapp.mapper.UserMapper;
+import com.webapp.repository.ImportJobRepository;
+import com.webapp.repository.TaskRepository;
+import com.webapp.repository.UserRepository;
+import com.webapp.service.EmailIndex;
+import com.webapp.service.TaskIdIndex;
+import com.webapp.sharding.ShardedTaskStore;
+import com.webapp.snapshot.OffHeapSnapshotStore;
+import com.webapp.validation.DtoValidation;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of users and tasks from CSV or NDJSON uploads.
+ *
+ * <p>An upload is streamed to a file in the import directory and processed
+ * by a single background worker, so memory use is bounded by the chunk size
+ * rather than the file size. Rows are validated with the same rules as the
+ * API, email references are resolved with one query per chunk, and every
+ * chunk is inserted in its own transaction together with the job's
+ * checkpoint. Rejected rows are counted and the first of them reported on
+ * the job, without stopping the import.</p>
+ *
+ * <p>A job that fails, e.g. on a database error, keeps its file and can be
+ * resumed from its last checkpoint. Jobs interrupted by a shutdown resume
+ * when the application is ready again.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Service
+public class ImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportService.class);
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+    private static final int MAX_FAILURE_LENGTH = 1000;
+
+    private final ImportJobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final EmailIndex emailIndex;
+    private final TaskIdIndex taskIdIndex;
+    private final TaskDeadlineTimers deadlineTimers;
+    private final OffHeapSnapshotStore snapshotStore;
+    private final ShardedTaskStore shardedTasks;
+    private final Path directory;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+    private ExecutorService worker;
+
+    /**
+     * Constructor with dependency injection.
+     *
+     * @param jobRepository Import job repository
+     * @param userRepository User repository
+     * @param taskRepository Task repository
+     * @param transactionManager Transaction manager for the chunk transactions
+     * @param objectMapper Object mapper for NDJSON records
+     * @param emailIndex In-memory email index, kept current for imported users
+     * @param taskIdIndex In-memory task ID index, kept current for imported tasks
+     * @param deadlineTimers In-memory timers for task due dates, kept current for imported tasks
+     * @param snapshotStore Read-only snapshot store, invalidated after every chunk
+     * @param shardedTasks Sharded task store; task imports only cover an unsharded database
+     * @param directory Directory for uploaded files
+     * @param chunkSize Number of rows per transaction
+     * @param maxReportedErrors Maximum number of rejected rows reported per job
+     */
+    @Autowired
+    public ImportService(ImportJobRepository jobRepository,
+                         UserRepository userRepository,
+                         TaskRepository taskRepository,
+                         PlatformTransactionManager transactionManager,
+                         ObjectMapper objectMapper,
+                         EmailIndex emailIndex,
+                         TaskIdIndex taskIdIndex,
+                         TaskDeadlineTimers deadlineTimers,
+                         OffHeapSnapshotStore snapshotStore,
+                         ShardedTaskStore shardedTasks,
+                         @Value("${app.import.directory:./imports}") String directory,
+                         @Value("${app.import.chunk-size:1000}") int chunkSize,
+                         @Value("${app.import.max-reported-errors:100}") int maxReportedErrors) {
+        this.jobRepository = jobRepository;
+        this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.emailIndex = emailIndex;
+        this.taskIdIndex = taskIdIndex;
+        this.deadlineTimers = deadlineTimers;
+        this.snapshotStore = snapshotStore;
+        this.shardedTasks = shardedTasks;
+        this.directory = Paths.get(directory);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxReportedErrors = Math.max(0, maxReportedErrors);
+    }
+
+    /**
+     * Starts the import worker.
+     */
+    @PostConstruct
+    public void start() {
+        worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "import-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Stops the import worker; a running job resumes on the next start.
+     */
+    @PreDestroy
+    public void stop() {
+        worker.shutdownNow();
+    }
+
+    /**
+     * Resumes the jobs that were queued or running when the application stopped.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        List<ImportJob> jobs = jobRepository.findByStatusInOrderById(
+                EnumSet.of(ImportJobStatus.QUEUED, ImportJobStatus.RUNNING));
+        for (ImportJob job : jobs) {
+            logger.info("Resuming import job {} at row {}", job.getId(), job.getRowsRead());
+            schedule(job.getId());
+        }
+    }
+
+    /**
+     * Stores an upload and queues its import.
+     *
+     * @param type Kind of rows in the upload
+     * @param contentType Content type of the upload, text/csv or application/x-ndjson
+     * @param body Upload stream
+     * @return The queued job
+     * @throws IOException If the upload cannot be stored
+     * @throws InvalidRequestException If the content type is not supported
+     */
+    public ImportJobDto submit(ImportType type, String contentType, InputStream body) throws IOException {
+        ImportFormat format = formatOf(contentType);
+        if (type == ImportType.TASKS) {
+            requireUnsharded();
+        }
+        Files.createDirectories(directory);
+        String fileName = "import-" + UUID.randomUUID() + (format == ImportFormat.CSV ? ".csv" : ".ndjson");
+        Path file = directory.resolve(fileName);
+        long size = Files.copy(body, file);
+        ImportJob job;
+        try {
+            job = jobRepository.save(new ImportJob(type, format, fileName));
+        } catch (RuntimeException ex) {
+            Files.deleteIfExists(file);
+            throw ex;
+        }
+        logger.info("Queued import job {} for {} bytes of {} {}", job.getId(), size, format, type);
+        schedule(job.getId());
+        return toDto(job);
+    }
+
+    /**
+     * Retrieves the progress and errors of a job.
+     *
+     * @param id Job ID
+     * @return Job report
+     * @throws ResourceNotFoundException If the job does not exist
+     */
+    public ImportJobDto getJob(Long id) {
+        return transactionTemplate.execute(tx -> toDto(jobRepository.findByIdWithErrors(id)
+                .orElseThrow(() -> notFound(id))));
+    }
+
+    /**
+     * Resumes a failed job from its last checkpoint.
+     *
+     * @param id Job ID
+     * @return The queued job
+     * @throws ResourceNotFoundException If the job does not exist
+     * @throws ResourceConflictException If the job has not failed
+     */
+    public ImportJobDto resume(Long id) {
+        ImportJobDto job = transactionTemplate.execute(tx -> {
+            ImportJob failed = jobRepository.findByIdWithErrors(id).orElseThrow(() -> notFound(id));
+            if (failed.getStatus() != ImportJobStatus.FAILED) {
+                throw new ResourceConflictException("Import job " + id + " is " + failed.getStatus()
+                        + "; only failed jobs can be resumed");
+            }
+            failed.setStatus(ImportJobStatus.QUEUED);
+            failed.setFailure(null);
+            return toDto(failed);
+        });
+        logger.info("Resuming import job {} at row {}", id, job.rowsRead());
+        schedule(id);
+        return job;
+    }
+
+    private void schedule(Long jobId) {
+        worker.execute(() -> run(jobId));
+    }
+
+    private void run(Long jobId) {
+        ImportJob job = transactionTemplate.execute(tx -> {
+            ImportJob queued = jobRepository.findById(jobId).orElseThrow(() -> notFound(jobId));
+            queued.setStatus(ImportJobStatus.RUNNING);
+            return queued;
+        });
+        Path file = directory.resolve(job.getFileName());
+        long start = System.currentTimeMillis();
+        try (RecordReader reader = RecordReader.open(job.getFormat(), file, job.getByteOffset(), objectMapper)) {
+            if (job.getType() == ImportType.TASKS) {
+                requireUnsharded();
+            }
+            long row = job.getRowsRead();
+            boolean done = false;
+            while (!done) {
+                List<ImportRecord> chunk = new ArrayList<>(chunkSize);
+                while (chunk.size() < chunkSize) {
+                    Map<String, String> fields;
+                    try {
+                        fields = reader.next();
+                    } catch (MalformedRecordException ex) {
+                        chunk.add(new ImportRecord(++row, null, ex.getMessage()));
+                        continue;
+                    }
+                    if (fields == null) {
+                        done = true;
+                        break;
+                    }
+                    chunk.add(new ImportRecord(++row, fields, null));
+                }
+                commitChunk(jobId, job.getType(), chunk, reader.position(), done);
+            }
+        } catch (ClosedByInterruptException ex) {
+            logger.info("Import job {} interrupted; it resumes on the next start", jobId);
+            return;
+        } catch (IOException | RuntimeException ex) {
+            logger.error("Import job {} failed", jobId, ex);
+            fail(jobId, ex);
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            logger.warn("Could not delete import file {}: {}", file, ex.getMessage());
+        }
+        logger.info("Finished import job {} in {} ms", jobId, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Imports one chunk and moves the job's checkpoint past it, in one transaction.
+     */
+    private void commitChunk(Long jobId, ImportType type, List<ImportRecord> chunk, long offset, boolean done) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            ImportJob job = jobRepository.findById(jobId).orElseThrow(() -> notFound(jobId));
+            int imported = type == ImportType.USERS ? importUsers(job, chunk) : importTasks(job, chunk);
+            job.setByteOffset(offset);
+            job.setRowsRead(job.getRowsRead() + chunk.size());
+            job.setRowsImported(job.getRowsImported() + imported);
+            if (done) {
+                job.setStatus(ImportJobStatus.COMPLETED);
+            }
+            if (imported > 0) {
+                snapshotStore.invalidate();
+            }
+        });
+    }
+
+    private int importUsers(ImportJob job, List<ImportRecord> chunk) {
+        List<Candidate<UserDto>> candidates = new ArrayList<>(chunk.size());
+        Set<String> emails = new HashSet<>();
+        for (ImportRecord record : chunk) {
+            if (record.malformed() != null) {
+                reject(job, record.row(), record.malformed());
+                continue;
+            }
+            UserDto user = new UserDto(record.get("email"), record.get("name"));
+            try {
+                DtoValidation.USER.validate(user);
+            } catch (ValidationFailedException ex) {
+                reject(job, record.row(), ex.getMessage());
+                continue;
+            }
+            if (!emails.add(user.email())) {
+                reject(job, record.row(), "Email " + user.email() + " appears more than once in this chunk");
+                continue;
+            }
+            candidates.add(new Candidate<>(record.row(), user));
+        }
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> existing = userRepository.findByEmailIn(emails).stream()
+                .map(User::getEmail)
+                .collect(Collectors.toSet());
+        List<User> users = new ArrayList<>(candidates.size());
+        for (Candidate<UserDto> candidate : candidates) {
+            if (existing.contains(candidate.dto().email())) {
+                String email = candidate.dto().email();
+                reject(job, candidate.row(), ResourceConflictException.duplicateEmail(email).getMessage());
+            } else {
+                users.add(UserMapper.toEntity(candidate.dto()));
+            }
+        }
+        userRepository.saveAll(users);
+        users.forEach(user -> emailIndex.add(user.getEmail()));
+        return users.size();
+    }
+
+    private int importTasks(ImportJob job, List<ImportRecord> chunk) {
+        List<Candidate<TaskRow>> parsed = new ArrayList<>(chunk.size());
+        Set<String> emails = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        for (ImportRecord record : chunk) {
+            if (record.malformed() != null) {
+                reject(job, record.row(), record.malformed());
+                continue;
+            }
+            TaskStatus status = null;
+            String statusText = record.get("status");
+            if (statusText != null) {
+                try {
+                    status = TaskStatus.valueOf(statusText.trim().toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException ex) {
+                    reject(job, record.row(), "Invalid status " + statusText);
+                    continue;
+                }
+            }
+            LocalDateTime dueAt = null;
+            String dueAtText = record.get("dueAt");
+            if (dueAtText != null) {
+                try {
+                    dueAt = LocalDateTime.parse(dueAtText.trim());
+                } catch (DateTimeParseException ex) {
+                    reject(job, record.row(), "Invalid due date " + dueAtText);
+                    continue;
+                }
+            }
+            Long userId = null;
+            String userIdText = record.get("userId");
+            String userEmail = record.get("userEmail");
+            if (userIdText != null) {
+                try {
+                    userId = Long.valueOf(userIdText.trim());
+                } catch (NumberFormatException ex) {
+                    reject(job, record.row(), "Invalid user ID " + userIdText);
+                    continue;
+                }
+                userIds.add(userId);
+            } else if (userEmail != null) {
+                emails.add(userEmail);
+            }
+            parsed.add(new Candidate<>(record.row(), new TaskRow(
+                    new TaskDto(null, record.get("title"), record.get("description"), status, userId, dueAt),
+                    userEmail)));
+        }
+        if (parsed.isEmpty()) {
+            return 0;
+        }
+
+        // One query each resolves the chunk's email references and checks its user IDs
+        Map<String, Long> idsByEmail = emails.isEmpty() ? Map.of() : userRepository.findByEmailIn(emails).stream()
+                .collect(Collectors.toMap(User::getEmail, User::getId));
+        Set<Long> existingIds = userIds.isEmpty() ? Set.of() : new HashSet<>(userRepository.findExistingIds(userIds));
+        List<Task> tasks = new ArrayList<>(parsed.size());
+        for (Candidate<TaskRow> candidate : parsed) {
+            TaskDto task = candidate.dto().task();
+            String userEmail = candidate.dto().userEmail();
+            if (task.userId() == null && userEmail != null) {
+                Long userId = idsByEmail.get(userEmail);
+                if (userId == null) {
+                    reject(job, candidate.row(), "User with email " + userEmail + " not found");
+                    continue;
+                }
+                task = new TaskDto(null, task.title(), task.description(), task.status(), userId, task.dueAt());
+            } else if (task.userId() != null && !existingIds.contains(task.userId())) {
+                reject(job, candidate.row(), ResourceNotFoundException.user(task.userId()).getMessage());
+                continue;
+            }
+            try {
+                DtoValidation.TASK.validate(task);
+            } catch (ValidationFailedException ex) {
+                reject(job, candidate.row(), ex.getMessage());
+                continue;
+            }
+            tasks.add(TaskMapper.toEntity(task));
+        }
+        taskRepository.saveAll(tasks);
+        for (Task task : tasks) {
+            taskIdIndex.added(task.getId(), task.getUserId(), task.getStatus());
+            deadlineTimers.changed(task.getId(), task.getDueAt(), task.getStatus());
+        }
+        return tasks.size();
+    }
+
+    private void reject(ImportJob job, long row, String message) {
+        job.setRowsFailed(job.getRowsFailed() + 1);
+        if (job.getErrors().size() < maxReportedErrors) {
+            job.getErrors().add(new ImportRowError(row, message));
+        }
+    }
+
+    private void fail(Long jobId, Exception cause) {
+        String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getName();
+        try {
+            transactionTemplate.executeWithoutResult(tx -> jobRepository.findById(jobId).ifPresent(job -> {
+                job.setStatus(ImportJobStatus.FAILED);
+                job.setFailure(message.length() > MAX_FAILURE_LENGTH
+                        ? message.substring(0, MAX_FAILURE_LENGTH)
+                        : message);
+            }));
+        } catch (RuntimeException ex) {
+            logger.error("Could not mark import job {} as failed", jobId, ex);
+        }
+    }
+
+    private void requireUnsharded() {
+        if (shardedTasks.isEnabled()) {
+            throw new IllegalStateException("Task imports do not cover sharded tasks");
+        }
+    }
+
+    private static ImportFormat formatOf(String contentType) {
+        if (contentType != null) {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (TEXT_CSV.includes(mediaType)) {
+                return ImportFormat.CSV;
+            }
+            if (MediaType.APPLICATION_NDJSON.includes(mediaType)) {
+                return ImportFormat.NDJSON;
+            }
+        }
+        throw InvalidRequestException.of("Imports must be text/csv or application/x-ndjson");
+    }
+
+    private static ResourceNotFoundException notFound(Long id) {
+        return new ResourceNotFoundException("Import job with ID " + id + " not found");
+    }
+
+    private static ImportJobDto toDto(ImportJob job) {
+        return new ImportJobDto(
+                job.getId(),
+                job.getType(),
+                job.getFormat(),
+                job.getStatus(),
+                job.getRowsRead(),
+                job.getRowsImported(),
+                job.getRowsFailed(),
+                job.getFailure(),
+                job.getErrors().stream()
+                        .map(error -> new ImportJobDto.RowError(error.getRow(), error.getMessage()))
+                        .toList(),
+                job.getCreatedAt(),
+                job.getUpdatedAt());
+    }
+
+    /**
+     * One record of an upload.
+     *
+     * @param row Row number, counting from 1 after any header
+     * @param fields Field values by name; null if the record is malformed
+     * @param malformed Parse error, or null
+     */
+    private record ImportRecord(long row, Map<String, String> fields, String malformed) {
+
+        String get(String name) {
+            return fields.get(name);
+        }
+    }
+
+    /**
+     * A parsed row waiting for the chunk-wide checks.
+     */
+    private record Candidate<T>(long row, T dto) {
+    }
+
+    /**
+     * A task row with its owner's email, if referenced by email.
+     */
+    private record TaskRow(TaskDto task, String userEmail) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.webapp.importer;
+
+import java.io.IOException;
+
+/**
+ * A record that cannot be parsed.
+ *
+ * <p>Thrown after the reader has moved past the record, so the import
+ * reports the row and continues with the next one.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+class MalformedRecordException extends IOException {
+
+    MalformedRecordException(String message) {
+        super(message);
+    }
+}
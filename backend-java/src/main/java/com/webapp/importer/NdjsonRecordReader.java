@@ -0,0 +1,73 @@
+package com.webapp.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reader of newline-delimited JSON files.
+ *
+ * <p>Every non-blank line is one JSON object; scalar values are read as
+ * their text, JSON nulls as absent fields.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+final class NdjsonRecordReader extends RecordReader {
+
+    private final ObjectMapper objectMapper;
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+    NdjsonRecordReader(Path file, ObjectMapper objectMapper) throws IOException {
+        super(file);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    Map<String, String> next() throws IOException {
+        while (true) {
+            line.reset();
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            boolean tooLong = false;
+            while (c != -1 && c != '\n') {
+                if (line.size() < MAX_RECORD_BYTES) {
+                    line.write(c);
+                } else {
+                    tooLong = true;
+                }
+                c = read();
+            }
+            if (tooLong) {
+                throw new MalformedRecordException("Record exceeds " + MAX_RECORD_BYTES + " bytes");
+            }
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line.toByteArray());
+            } catch (JsonProcessingException ex) {
+                throw new MalformedRecordException("Invalid JSON: " + ex.getOriginalMessage());
+            }
+            if (node == null || node.isMissingNode()) {
+                continue;
+            }
+            if (!node.isObject()) {
+                throw new MalformedRecordException("Expected a JSON object");
+            }
+            Map<String, String> record = new HashMap<>();
+            node.fields().forEachRemaining(entry -> {
+                JsonNode value = entry.getValue();
+                record.put(entry.getKey(), value.isNull() ? null
+                        : value.isValueNode() ? value.asText() : value.toString());
+            });
+            return record;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.webapp.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webapp.enums.ImportFormat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * Streaming reader of the records of an uploaded import file.
+ *
+ * <p>Reads through a fixed-size buffer and tracks the byte position after the
+ * last returned record, which is what an import job stores as its checkpoint.
+ * Reopening a file at a checkpoint continues with the record after it.
+ * Records longer than {@link #MAX_RECORD_BYTES} are skipped and reported as
+ * malformed, so memory stays bounded for any input.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+abstract class RecordReader implements Closeable {
+
+    /**
+     * Maximum size of one record in bytes.
+     */
+    static final int MAX_RECORD_BYTES = 1024 * 1024;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private long position;
+
+    RecordReader(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.buffer.flip();
+    }
+
+    /**
+     * Opens a file for reading from a checkpoint.
+     *
+     * @param format File format
+     * @param file Uploaded file
+     * @param offset Byte offset to continue at; 0 for the start
+     * @param objectMapper Object mapper for JSON records
+     * @return Reader positioned at the first record after the offset
+     * @throws IOException If the file cannot be opened or has no valid header
+     */
+    static RecordReader open(ImportFormat format, Path file, long offset, ObjectMapper objectMapper)
+            throws IOException {
+        RecordReader reader = format == ImportFormat.CSV
+                ? new CsvRecordReader(file)
+                : new NdjsonRecordReader(file, objectMapper);
+        try {
+            reader.start(offset);
+        } catch (IOException | RuntimeException ex) {
+            reader.close();
+            throw ex;
+        }
+        return reader;
+    }
+
+    /**
+     * Reads whatever precedes the records and moves to the offset.
+     *
+     * @param offset Byte offset to continue at
+     * @throws IOException If reading fails
+     */
+    void start(long offset) throws IOException {
+        seek(offset);
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return Field values by name, null values for absent fields; null at the end of the file
+     * @throws MalformedRecordException If the record cannot be parsed
+     * @throws IOException If reading fails
+     */
+    abstract Map<String, String> next() throws IOException;
+
+    /**
+     * Returns the byte position after the last returned record.
+     *
+     * @return Byte offset
+     */
+    final long position() {
+        return position;
+    }
+
+    final void seek(long offset) throws IOException {
+        channel.position(offset);
+        buffer.clear().flip();
+        position = offset;
+    }
+
+    /**
+     * Reads one byte.
+     *
+     * @return The byte as an unsigned value, or -1 at the end of the file
+     * @throws IOException If reading fails
+     */
+    final int read() throws IOException {
+        if (!buffer.hasRemaining()) {
+            buffer.clear();
+            int count = channel.read(buffer);
+            buffer.flip();
+            if (count <= 0) {
+                return -1;
+            }
+        }
+        position++;
+        return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,132 @@
+package com.webapp.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.webapp.exception.ErrorResponse;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Reflection-free JSON mapping for {@link ErrorResponse}.
+ *
+ * <p>The timestamp is written in ISO-8601 local date-time format with
+ * millisecond precision. Error responses are frequent on miss-heavy traffic,
+ * so it is written from the response's epoch milliseconds without creating a
+ * date-time: the date and time up to the second is formatted once per second
+ * and only the milliseconds are filled in per response. Details are arbitrary
+ * values and are delegated to Jackson.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@JsonComponent
+public class ErrorResponseJsonComponent {
+
+    /**
+     * Serializer for {@link ErrorResponse}.
+     */
+    public static class Serializer extends JsonSerializer<ErrorResponse> {
+
+        private static final int SECOND_LENGTH = "yyyy-MM-ddTHH:mm:ss".length();
+        private static final int MILLIS_LENGTH = SECOND_LENGTH + 4;
+        private static final DateTimeFormatter MILLIS_FORMAT = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSS");
+        private static final ThreadLocal<char[]> TIMESTAMP_BUFFER =
+                ThreadLocal.withInitial(() -> new char[MILLIS_LENGTH]);
+
+        private static volatile FormattedSecond lastSecond;
+
+        @Override
+        public void serialize(ErrorResponse value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(value);
+            JsonSupport.writeString(gen, JsonSupport.MESSAGE, value.getMessage());
+            gen.writeFieldName(JsonSupport.DETAILS);
+            if (value.getDetails() == null) {
+                gen.writeNull();
+            } else {
+                serializers.defaultSerializeValue(value.getDetails(), gen);
+            }
+            gen.writeFieldName(JsonSupport.TIMESTAMP);
+            long createdAtMillis = value.getCreatedAtMillis();
+            if (createdAtMillis >= 0) {
+                writeTimestamp(gen, createdAtMillis);
+            } else if (value.getTimestamp() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeString(MILLIS_FORMAT.format(value.getTimestamp()));
+            }
+            gen.writeEndObject();
+        }
+
+        private static void writeTimestamp(JsonGenerator gen, long epochMillis) throws IOException {
+            long epochSecond = Math.floorDiv(epochMillis, 1000L);
+            FormattedSecond second = lastSecond;
+            if (second == null || second.epochSecond != epochSecond) {
+                second = new FormattedSecond(epochSecond);
+                lastSecond = second;
+            }
+            if (second.text.length() != SECOND_LENGTH) {
+                // Years outside 0000-9999 carry a sign and more digits
+                gen.writeString(MILLIS_FORMAT.format(
+                        LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault())));
+                return;
+            }
+            char[] buffer = TIMESTAMP_BUFFER.get();
+            second.text.getChars(0, SECOND_LENGTH, buffer, 0);
+            int millis = (int) Math.floorMod(epochMillis, 1000L);
+            buffer[SECOND_LENGTH] = '.';
+            buffer[SECOND_LENGTH + 1] = (char) ('0' + millis / 100);
+            buffer[SECOND_LENGTH + 2] = (char) ('0' + millis / 10 % 10);
+            buffer[SECOND_LENGTH + 3] = (char) ('0' + millis % 10);
+            gen.writeString(buffer, 0, MILLIS_LENGTH);
+        }
+
+        /**
+         * An epoch second with its local date-time text.
+         */
+        private static final class FormattedSecond {
+
+            private final long epochSecond;
+            private final String text;
+
+            FormattedSecond(long epochSecond) {
+                this.epochSecond = epochSecond;
+                this.text = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(
+                        LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault()));
+            }
+        }
+    }
+
+    /**
+     * Deserializer for {@link ErrorResponse}.
+     */
+    public static class Deserializer extends JsonDeserializer<ErrorResponse> {
+
+        @Override
+        public ErrorResponse deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonSupport.expectObject(p, ctxt, ErrorResponse.class);
+            ErrorResponse response = new ErrorResponse();
+            for (String field = JsonSupport.nextField(p); field != null; field = JsonSupport.nextField(p)) {
+                switch (field) {
+                    case "message" -> response.setMessage(JsonSupport.readString(p, ctxt));
+                    case "details" -> response.setDetails(ctxt.readValue(p, Object.class));
+                    case "timestamp" -> {
+                        String timestamp = JsonSupport.readString(p, ctxt);
+                        response.setTimestamp(timestamp == null ? null : LocalDateTime.parse(timestamp));
+                    }
+                    default -> p.skipChildren();
+                }
+            }
+            return response;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.webapp.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.webapp.enums.TaskStatus;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shared constants and helpers for the hand-written serializers.
+ *
+ * <p>Field names and {@link TaskStatus} names are precomputed as
+ * {@link SerializedString}s so that they are quoted and encoded only once.
+ * The read helpers handle the common token types directly and delegate
+ * everything else to Jackson, so coercion and error reporting stay the same
+ * as with the default bean deserializers.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+final class JsonSupport {
+
+    static final SerializedString ID = new SerializedString("id");
+    static final SerializedString TITLE = new SerializedString("title");
+    static final SerializedString DESCRIPTION = new SerializedString("description");
+    static final SerializedString STATUS = new SerializedString("status");
+    static final SerializedString USER_ID = new SerializedString("userId");
+    static final SerializedString DUE_AT = new SerializedString("dueAt");
+    static final SerializedString EMAIL = new SerializedString("email");
+    static final SerializedString NAME = new SerializedString("name");
+    static final SerializedString TASKS = new SerializedString("tasks");
+    static final SerializedString ITEMS = new SerializedString("items");
+    static final SerializedString MISSING_IDS = new SerializedString("missingIds");
+    static final SerializedString MESSAGE = new SerializedString("message");
+    static final SerializedString DETAILS = new SerializedString("details");
+    static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+
+    private static final SerializedString[] STATUS_NAMES;
+    private static final Map<String, TaskStatus> STATUS_BY_NAME = new HashMap<>();
+
+    static {
+        TaskStatus[] statuses = TaskStatus.values();
+        STATUS_NAMES = new SerializedString[statuses.length];
+        for (TaskStatus status : statuses) {
+            STATUS_NAMES[status.ordinal()] = new SerializedString(status.name());
+            STATUS_BY_NAME.put(status.name(), status);
+        }
+    }
+
+    private JsonSupport() {
+    }
+
+    /**
+     * Writes a nullable long field.
+     *
+     * @param gen Generator
+     * @param name Field name
+     * @param value Field value
+     * @throws IOException If writing fails
+     */
+    static void writeLong(JsonGenerator gen, SerializedString name, Long value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+
+    /**
+     * Writes a nullable string field.
+     *
+     * @param gen Generator
+     * @param name Field name
+     * @param value Field value
+     * @throws IOException If writing fails
+     */
+    static void writeString(JsonGenerator gen, SerializedString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    /**
+     * Writes a nullable task status field using the precomputed enum names.
+     *
+     * @param gen Generator
+     * @param name Field name
+     * @param value Field value
+     * @throws IOException If writing fails
+     */
+    static void writeStatus(JsonGenerator gen, SerializedString name, TaskStatus value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(STATUS_NAMES[value.ordinal()]);
+        }
+    }
+
+    /**
+     * Writes a nullable date-time field in ISO-8601 local format.
+     *
+     * @param gen Generator
+     * @param name Field name
+     * @param value Field value
+     * @throws IOException If writing fails
+     */
+    static void writeDateTime(JsonGenerator gen, SerializedString name, LocalDateTime value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+        }
+    }
+
+    /**
+     * Reads the current value as a nullable long.
+     *
+     * @param p Parser positioned on the value
+     * @param ctxt Deserialization context
+     * @return Value or null
+     * @throws IOException If reading fails
+     */
+    static Long readLong(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return p.getLongValue();
+        }
+        return ctxt.readValue(p, Long.class);
+    }
+
+    /**
+     * Reads the current value as a nullable string.
+     *
+     * @param p Parser positioned on the value
+     * @param ctxt Deserialization context
+     * @return Value or null
+     * @throws IOException If reading fails
+     */
+    static String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            return p.getText();
+        }
+        return ctxt.readValue(p, String.class);
+    }
+
+    /**
+     * Reads the current value as a nullable task status.
+     *
+     * @param p Parser positioned on the value
+     * @param ctxt Deserialization context
+     * @return Value or null
+     * @throws IOException If reading fails or the name is unknown
+     */
+    static TaskStatus readStatus(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            TaskStatus status = STATUS_BY_NAME.get(p.getText());
+            if (status != null) {
+                return status;
+            }
+        }
+        return ctxt.readValue(p, TaskStatus.class);
+    }
+
+    /**
+     * Reads the current value as a nullable ISO-8601 local date-time.
+     *
+     * @param p Parser positioned on the value
+     * @param ctxt Deserialization context
+     * @return Value or null
+     * @throws IOException If reading fails or the value is not a date-time
+     */
+    static LocalDateTime readDateTime(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            try {
+                return LocalDateTime.parse(p.getText());
+            } catch (DateTimeParseException ex) {
+                return (LocalDateTime) ctxt.handleWeirdStringValue(LocalDateTime.class, p.getText(),
+                        "expected ISO-8601 date-time");
+            }
+        }
+        return (LocalDateTime) ctxt.handleUnexpectedToken(LocalDateTime.class, p);
+    }
+
+    /**
+     * Verifies that the parser is positioned at the start of an object.
+     *
+     * @param p Parser
+     * @param ctxt Deserialization context
+     * @param type Type being deserialized
+     * @throws IOException If the current token does not start an object
+     */
+    static void expectObject(JsonParser p, DeserializationContext ctxt, Class<?> type) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token != JsonToken.START_OBJECT && token != JsonToken.FIELD_NAME) {
+            ctxt.handleUnexpectedToken(type, p);
+        }
+    }
+
+    /**
+     * Advances to the next field of the current object.
+     *
+     * @param p Parser
+     * @return Field name, or null at the end of the object
+     * @throws IOException If reading fails
+     */
+    static String nextField(JsonParser p) throws IOException {
+        JsonToken token = p.currentToken() == JsonToken.FIELD_NAME ? JsonToken.FIELD_NAME : p.nextToken();
+        if (token != JsonToken.FIELD_NAME) {
+            return null;
+        }
+        String name = p.currentName();
+        p.nextToken();
+        return name;
+    }
+}
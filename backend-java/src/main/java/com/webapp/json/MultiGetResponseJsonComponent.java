@@ -0,0 +1,47 @@
+package com.webapp.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.webapp.dto.MultiGetResponse;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * Reflection-free JSON serialization for {@link MultiGetResponse}.
+ *
+ * <p>The items are written with the serializers registered for their type.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@JsonComponent
+public class MultiGetResponseJsonComponent {
+
+    /**
+     * Serializer for {@link MultiGetResponse}.
+     */
+    @SuppressWarnings("rawtypes")
+    public static class Serializer extends JsonSerializer<MultiGetResponse> {
+
+        @Override
+        public void serialize(MultiGetResponse value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(value);
+            gen.writeFieldName(JsonSupport.ITEMS);
+            gen.writeStartArray();
+            for (Object item : value.items()) {
+                serializers.defaultSerializeValue(item, gen);
+            }
+            gen.writeEndArray();
+            gen.writeFieldName(JsonSupport.MISSING_IDS);
+            gen.writeStartArray();
+            for (Object id : value.missingIds()) {
+                gen.writeNumber((Long) id);
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+    }
+}
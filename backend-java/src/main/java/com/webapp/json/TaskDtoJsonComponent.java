@@ -0,0 +1,74 @@
+package com.webapp.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.webapp.dto.TaskDto;
+import com.webapp.enums.TaskStatus;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Reflection-free JSON mapping for {@link TaskDto}.
+ *
+ * <p>Writes and reads the fields directly with the streaming API instead of
+ * going through Jackson's bean introspection.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@JsonComponent
+public class TaskDtoJsonComponent {
+
+    /**
+     * Serializer for {@link TaskDto}.
+     */
+    public static class Serializer extends JsonSerializer<TaskDto> {
+
+        @Override
+        public void serialize(TaskDto value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartObject(value);
+            JsonSupport.writeLong(gen, JsonSupport.ID, value.id());
+            JsonSupport.writeString(gen, JsonSupport.TITLE, value.title());
+            JsonSupport.writeString(gen, JsonSupport.DESCRIPTION, value.description());
+            JsonSupport.writeStatus(gen, JsonSupport.STATUS, value.status());
+            JsonSupport.writeLong(gen, JsonSupport.USER_ID, value.userId());
+            JsonSupport.writeDateTime(gen, JsonSupport.DUE_AT, value.dueAt());
+            gen.writeEndObject();
+        }
+    }
+
+    /**
+     * Deserializer for {@link TaskDto}.
+     */
+    public static class Deserializer extends JsonDeserializer<TaskDto> {
+
+        @Override
+        public TaskDto deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonSupport.expectObject(p, ctxt, TaskDto.class);
+            Long id = null;
+            String title = null;
+            String description = null;
+            TaskStatus status = null;
+            Long userId = null;
+            LocalDateTime dueAt = null;
+            for (String field = JsonSupport.nextField(p); field != null; field = JsonSupport.nextField(p)) {
+                switch (field) {
+                    case "id" -> id = JsonSupport.readLong(p, ctxt);
+                    case "title" -> title = JsonSupport.readString(p, ctxt);
+                    case "description" -> description = JsonSupport.readString(p, ctxt);
+                    case "status" -> status = JsonSupport.readStatus(p, ctxt);
+                    case "userId" -> userId = JsonSupport.readLong(p, ctxt);
+                    case "dueAt" -> dueAt = JsonSupport.readDateTime(p, ctxt);
+                    default -> p.skipChildren();
+                }
+            }
+            return new TaskDto(id, title, description, status, userId, dueAt);
+        }
+    }
+}
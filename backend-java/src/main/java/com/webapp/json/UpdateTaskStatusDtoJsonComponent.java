@@ -0,0 +1,57 @@
+package com.webapp.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.webapp.dto.UpdateTaskStatusDto;
+import com.webapp.enums.TaskStatus;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * Reflection-free JSON mapping for {@link UpdateTaskStatusDto}.
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@JsonComponent
+public class UpdateTaskStatusDtoJsonComponent {
+
+    /**
+     * Serializer for {@link UpdateTaskStatusDto}.
+     */
+    public static class Serializer extends JsonSerializer<UpdateTaskStatusDto> {
+
+        @Override
+        public void serialize(UpdateTaskStatusDto value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(value);
+            JsonSupport.writeStatus(gen, JsonSupport.STATUS, value.status());
+            gen.writeEndObject();
+        }
+    }
+
+    /**
+     * Deserializer for {@link UpdateTaskStatusDto}.
+     */
+    public static class Deserializer extends JsonDeserializer<UpdateTaskStatusDto> {
+
+        @Override
+        public UpdateTaskStatusDto deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonSupport.expectObject(p, ctxt, UpdateTaskStatusDto.class);
+            TaskStatus status = null;
+            for (String field = JsonSupport.nextField(p); field != null; field = JsonSupport.nextField(p)) {
+                if ("status".equals(field)) {
+                    status = JsonSupport.readStatus(p, ctxt);
+                } else {
+                    p.skipChildren();
+                }
+            }
+            return new UpdateTaskStatusDto(status);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.webapp.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.webapp.dto.UserDto;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * Reflection-free JSON mapping for {@link UserDto}.
+ *
+ * <p>Writes and reads the fields directly with the streaming API instead of
+ * going through Jackson's bean introspection.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@JsonComponent
+public class UserDtoJsonComponent {
+
+    /**
+     * Serializer for {@link UserDto}.
+     */
+    public static class Serializer extends JsonSerializer<UserDto> {
+
+        @Override
+        public void serialize(UserDto value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartObject(value);
+            JsonSupport.writeLong(gen, JsonSupport.ID, value.id());
+            JsonSupport.writeString(gen, JsonSupport.EMAIL, value.email());
+            JsonSupport.writeString(gen, JsonSupport.NAME, value.name());
+            gen.writeEndObject();
+        }
+    }
+
+    /**
+     * Deserializer for {@link UserDto}.
+     */
+    public static class Deserializer extends JsonDeserializer<UserDto> {
+
+        @Override
+        public UserDto deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonSupport.expectObject(p, ctxt, UserDto.class);
+            Long id = null;
+            String email = null;
+            String name = null;
+            for (String field = JsonSupport.nextField(p); field != null; field = JsonSupport.nextField(p)) {
+                switch (field) {
+                    case "id" -> id = JsonSupport.readLong(p, ctxt);
+                    case "email" -> email = JsonSupport.readString(p, ctxt);
+                    case "name" -> name = JsonSupport.readString(p, ctxt);
+                    default -> p.skipChildren();
+                }
+            }
+            return new UserDto(id, email, name);
+        }
+    }
+}
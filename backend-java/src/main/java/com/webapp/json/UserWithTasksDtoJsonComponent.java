@@ -0,0 +1,47 @@
+package com.webapp.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.webapp.dto.TaskDto;
+import com.webapp.dto.UserWithTasksDto;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+/**
+ * Reflection-free JSON serialization for {@link UserWithTasksDto}.
+ *
+ * <p>The user fields are written as for a plain user, followed by a
+ * {@code tasks} array written with the {@link TaskDto} serializer.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@JsonComponent
+public class UserWithTasksDtoJsonComponent {
+
+    /**
+     * Serializer for {@link UserWithTasksDto}.
+     */
+    public static class Serializer extends JsonSerializer<UserWithTasksDto> {
+
+        private final TaskDtoJsonComponent.Serializer taskSerializer = new TaskDtoJsonComponent.Serializer();
+
+        @Override
+        public void serialize(UserWithTasksDto value, JsonGenerator gen, SerializerProvider serializers)
+                throws IOException {
+            gen.writeStartObject(value);
+            JsonSupport.writeLong(gen, JsonSupport.ID, value.id());
+            JsonSupport.writeString(gen, JsonSupport.EMAIL, value.email());
+            JsonSupport.writeString(gen, JsonSupport.NAME, value.name());
+            gen.writeFieldName(JsonSupport.TASKS);
+            gen.writeStartArray();
+            for (TaskDto task : value.tasks()) {
+                taskSerializer.serialize(task, gen, serializers);
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.webapp.mapper;
+
+import com.webapp.dto.TaskDto;
+import com.webapp.entity.ArchivedTask;
+import com.webapp.entity.Task;
+import com.webapp.enums.TaskStatus;
+
+/**
+ * Mapper between {@link Task} entities and {@link TaskDto}s.
+ * 
+ * <p>Each mapping is a single constructor call, without intermediate
+ * mutable objects.</p>
+ * 
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+public final class TaskMapper {
+
+    private TaskMapper() {
+    }
+
+    /**
+     * Converts Task entity to TaskDto.
+     * 
+     * @param task Task entity
+     * @return TaskDto
+     */
+    public static TaskDto toDto(Task task) {
+        return new TaskDto(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(), task.getUserId(),
+                task.getDueAt());
+    }
+
+    /**
+     * Converts Task entity to TaskDto with a different effective status.
+     * 
+     * @param task Task entity
+     * @param status Status to report instead of the entity's
+     * @return TaskDto
+     */
+    public static TaskDto toDto(Task task, TaskStatus status) {
+        return new TaskDto(task.getId(), task.getTitle(), task.getDescription(), status, task.getUserId(),
+                task.getDueAt());
+    }
+
+    /**
+     * Converts an ArchivedTask entity to TaskDto.
+     * 
+     * @param task Archived task entity
+     * @return TaskDto
+     */
+    public static TaskDto toDto(ArchivedTask task) {
+        return new TaskDto(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(), task.getUserId(),
+                task.getDueAt());
+    }
+
+    /**
+     * Converts TaskDto to a new Task entity.
+     * 
+     * <p>The status defaults to {@link TaskStatus#PENDING} when not given.</p>
+     * 
+     * @param taskDto TaskDto
+     * @return Task entity
+     */
+    public static Task toEntity(TaskDto taskDto) {
+        return new Task(
+                taskDto.title(),
+                taskDto.description(),
+                taskDto.status() != null ? taskDto.status() : TaskStatus.PENDING,
+                taskDto.userId(),
+                taskDto.dueAt());
+    }
+}
@@ -0,0 +1,39 @@
+package com.webapp.mapper;
+
+import com.webapp.dto.UserDto;
+import com.webapp.entity.User;
+
+/**
+ * Mapper between {@link User} entities and {@link UserDto}s.
+ * 
+ * <p>Each mapping is a single constructor call, without intermediate
+ * mutable objects.</p>
+ * 
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+public final class UserMapper {
+
+    private UserMapper() {
+    }
+
+    /**
+     * Converts User entity to UserDto.
+     * 
+     * @param user User entity
+     * @return UserDto
+     */
+    public static UserDto toDto(User user) {
+        return new UserDto(user.getId(), user.getEmail(), user.getName());
+    }
+
+    /**
+     * Converts UserDto to a new User entity.
+     * 
+     * @param userDto UserDto
+     * @return User entity
+     */
+    public static User toEntity(UserDto userDto) {
+        return new User(userDto.email(), userDto.name());
+    }
+}
@@ -0,0 +1,58 @@
+package com.webapp.repository;
+
+import com.webapp.entity.ArchivedTask;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Repository interface for ArchivedTask entity.
+ * 
+ * <p>Archived tasks are all COMPLETED, so there are no status queries.</p>
+ * 
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    /**
+     * Finds all archived tasks of a user.
+     * 
+     * @param userId User ID to filter by
+     * @return Archived tasks, ordered by creation date descending
+     */
+    @Query("SELECT t FROM ArchivedTask t WHERE t.userId = :userId ORDER BY t.createdAt DESC")
+    List<ArchivedTask> findByUserId(@Param("userId") Long userId);
+
+    /**
+     * Deletes all archived tasks of a user.
+     * 
+     * @param userId User ID
+     * @return Number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM ArchivedTask t WHERE t.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    /**
+     * Streams all archived tasks as {id, userId, status, createdAt, updatedAt, title, description, archivedAt,
+     * dueAt} rows, ordered by ID.
+     * 
+     * <p>Must be consumed inside a transaction and closed afterwards.</p>
+     * 
+     * @return Stream of archived task rows
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT t.id, t.userId, t.status, t.createdAt, t.updatedAt, t.title, t.description, t.archivedAt, "
+            + "t.dueAt FROM ArchivedTask t ORDER BY t.id")
+    Stream<Object[]> streamSnapshotRows();
+}
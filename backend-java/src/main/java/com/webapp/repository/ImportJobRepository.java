@@ -0,0 +1,39 @@
+package com.webapp.repository;
+
+import com.webapp.entity.ImportJob;
+import com.webapp.enums.ImportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for ImportJob entity.
+ * 
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+
+    /**
+     * Finds jobs in any of the given states.
+     * 
+     * @param statuses Job states
+     * @return Matching jobs ordered by ID
+     */
+    List<ImportJob> findByStatusInOrderById(Collection<ImportJobStatus> statuses);
+
+    /**
+     * Finds a job together with its reported row errors.
+     * 
+     * @param id Job ID
+     * @return Optional job
+     */
+    @Query("SELECT j FROM ImportJob j LEFT JOIN FETCH j.errors WHERE j.id = :id")
+    Optional<ImportJob> findByIdWithErrors(@Param("id") Long id);
+}
@@ -2,12 +2,19 @@ package com.webapp.repository;
 
 import com.webapp.entity.Task;
 import com.webapp.enums.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Task entity operations.
@@ -55,6 +62,126 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      * @return List of tasks matching both criteria
      */
     List<Task> findByUserIdAndStatus(Long userId, TaskStatus status);
-}
 
+    /**
+     * Sets the status of a task unless it was modified by a regular update since it was read.
+     * 
+     * <p>The revision is only incremented by entity updates, so status changes
+     * written by this query do not invalidate each other.</p>
+     * 
+     * @param id Task ID
+     * @param status New status
+     * @param revision Revision of the task when the status change was requested
+     * @param updatedAt Modification time to store
+     * @return Number of updated rows
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :updatedAt WHERE t.id = :id AND t.revision = :revision")
+    int updateStatusIfUnchanged(@Param("id") Long id,
+                                @Param("status") TaskStatus status,
+                                @Param("revision") long revision,
+                                @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Sets the status of a task unless it was modified after the given time.
+     * 
+     * <p>Only used for write-behind journal entries written before tasks had a revision.</p>
+     * 
+     * @param id Task ID
+     * @param status New status
+     * @param updatedAt Time the status change was requested
+     * @return Number of updated rows
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :updatedAt WHERE t.id = :id AND t.updatedAt <= :updatedAt")
+    int updateStatusIfNotModifiedSince(@Param("id") Long id,
+                                       @Param("status") TaskStatus status,
+                                       @Param("updatedAt") LocalDateTime updatedAt);
 
+    /**
+     * Streams the ID, owner and status of every task, for building in-memory indexes.
+     * 
+     * <p>Must be consumed inside a transaction and closed afterwards.</p>
+     * 
+     * @return Stream of {id, userId, status} rows
+     */
+    @Query("SELECT t.id, t.userId, t.status FROM Task t")
+    Stream<Object[]> streamIndexEntries();
+
+    /**
+     * Streams all tasks as {id, userId, status, createdAt, updatedAt, title, description, dueAt} rows, ordered by ID.
+     * 
+     * <p>Must be consumed inside a transaction and closed afterwards.</p>
+     * 
+     * @return Stream of task rows
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT t.id, t.userId, t.status, t.createdAt, t.updatedAt, t.title, t.description, t.dueAt "
+            + "FROM Task t ORDER BY t.id")
+    Stream<Object[]> streamSnapshotRows();
+
+    /**
+     * Streams {userId, id} pairs of all tasks, ordered by user and creation date descending.
+     * 
+     * <p>Must be consumed inside a transaction and closed afterwards.</p>
+     * 
+     * @return Stream of {userId, id} rows
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT t.userId, t.id FROM Task t ORDER BY t.userId, t.createdAt DESC, t.id DESC")
+    Stream<Object[]> streamIdsByUserNewestFirst();
+
+    /**
+     * Streams {id, dueAt} pairs of the tasks in the given statuses that are due by a time, ordered by due date.
+     * 
+     * <p>Must be consumed inside a transaction and closed afterwards.</p>
+     * 
+     * @param until Latest due date, inclusive
+     * @param statuses Task statuses
+     * @return Stream of {id, dueAt} rows
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT t.id, t.dueAt FROM Task t WHERE t.dueAt <= :until AND t.status IN :statuses ORDER BY t.dueAt")
+    Stream<Object[]> streamDeadlinesUntil(@Param("until") LocalDateTime until,
+                                          @Param("statuses") Collection<TaskStatus> statuses);
+
+    /**
+     * Streams {id, dueAt} pairs of the tasks in the given statuses that are due within a window, ordered by due date.
+     * 
+     * <p>Must be consumed inside a transaction and closed afterwards.</p>
+     * 
+     * @param from Earliest due date, exclusive
+     * @param until Latest due date, inclusive
+     * @param statuses Task statuses
+     * @return Stream of {id, dueAt} rows
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT t.id, t.dueAt FROM Task t WHERE t.dueAt > :from AND t.dueAt <= :until AND t.status IN :statuses "
+            + "ORDER BY t.dueAt")
+    Stream<Object[]> streamDeadlinesBetween(@Param("from") LocalDateTime from,
+                                            @Param("until") LocalDateTime until,
+                                            @Param("statuses") Collection<TaskStatus> statuses);
+
+    /**
+     * Returns the smallest and largest task ID and the number of tasks, optionally for one status.
+     * 
+     * @param status Optional status filter
+     * @return Single {minId, maxId, count} row; the IDs are null if there are no tasks
+     */
+    @Query("SELECT MIN(t.id), MAX(t.id), COUNT(t) FROM Task t WHERE :status IS NULL OR t.status = :status")
+    List<Object[]> findIdRange(@Param("status") TaskStatus status);
+
+    /**
+     * Finds the tasks within an ID range, optionally for one status.
+     * 
+     * @param fromId Smallest ID, inclusive
+     * @param toId Largest ID, exclusive
+     * @param status Optional status filter
+     * @return Tasks ordered by ID
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT t FROM Task t WHERE t.id >= :fromId AND t.id < :toId AND (:status IS NULL OR t.status = :status) ORDER BY t.id")
+    List<Task> findByIdRange(@Param("fromId") Long fromId,
+                             @Param("toId") Long toId,
+                             @Param("status") TaskStatus status);
+}
@@ -1,12 +1,18 @@
 package com.webapp.repository;
 
 import com.webapp.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for User entity operations.
@@ -36,6 +42,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     boolean existsByEmail(String email);
 
+    /**
+     * Finds the users with any of the given email addresses.
+     * 
+     * @param emails Email addresses to search for
+     * @return Users found; addresses without a user are skipped
+     */
+    List<User> findByEmailIn(Collection<String> emails);
+
+    /**
+     * Retrieves which of the given user IDs exist.
+     * 
+     * @param ids User IDs to check
+     * @return Existing IDs among the given ones
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
     /**
      * Finds a user by ID with all associated tasks loaded.
      * 
@@ -44,6 +67,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.tasks WHERE u.id = :id")
     Optional<User> findByIdWithTasks(@Param("id") Long id);
-}
 
+    /**
+     * Retrieves the email addresses of all users.
+     * 
+     * @return List of all email addresses
+     */
+    @Query("SELECT u.email FROM User u")
+    List<String> findAllEmails();
 
+    /**
+     * Streams all users as {id, email, name, createdAt, updatedAt} rows, ordered by ID.
+     * 
+     * <p>Must be consumed inside a transaction and closed afterwards.</p>
+     * 
+     * @return Stream of user rows
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.id, u.email, u.name, u.createdAt, u.updatedAt FROM User u ORDER BY u.id")
+    Stream<Object[]> streamSnapshotRows();
+}
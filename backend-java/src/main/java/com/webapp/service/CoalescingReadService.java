@@ -0,0 +1,126 @@
+package com.webapp.service;
+
+import com.webapp.datasource.ReadYourWrites;
+import com.webapp.dto.TaskDto;
+import com.webapp.dto.UserDto;
+import com.webapp.enums.TaskStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single-flight layer in front of hot read paths.
+ *
+ * <p>Concurrent identical calls to {@link UserService#getUserById(Long)} and
+ * {@link TaskService#getAllTasks(Long, TaskStatus, boolean)} share one database query.
+ * A call only shares a query that starts after it arrived, so it always sees
+ * its own committed writes; calls arriving while a query runs share the next one.
+ * The leader runs through the transactional service proxy, so every query still
+ * executes in its own read-only transaction. Callers that are already inside a
+ * transaction bypass coalescing, since they may need to see their own
+ * uncommitted writes, and so do requests pinned to the primary database
+ * for read-your-writes.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Service
+public class CoalescingReadService {
+
+    private final UserService userService;
+    private final TaskService taskService;
+    private final boolean enabled;
+
+    private final SingleFlight<Long, UserDto> userById = new SingleFlight<>();
+    private final SingleFlight<TaskQuery, List<TaskDto>> taskLists = new SingleFlight<>();
+
+    /**
+     * Constructor with dependency injection.
+     *
+     * @param userService User service
+     * @param taskService Task service
+     * @param enabled Whether coalescing is enabled
+     */
+    @Autowired
+    public CoalescingReadService(UserService userService,
+                                 TaskService taskService,
+                                 @Value("${app.coalescing.enabled:true}") boolean enabled) {
+        this.userService = userService;
+        this.taskService = taskService;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Retrieves a user by ID, sharing concurrent identical lookups.
+     *
+     * @param id User ID
+     * @return User DTO
+     */
+    public UserDto getUserById(Long id) {
+        if (!shouldCoalesce()) {
+            return userService.getUserById(id);
+        }
+        return userById.execute(id, () -> userService.getUserById(id));
+    }
+
+    /**
+     * Retrieves all tasks, optionally filtered by user ID and status, sharing concurrent identical queries.
+     *
+     * @param userId Optional user ID filter
+     * @param status Optional status filter
+     * @param includeArchived Whether archived tasks are included
+     * @return List of tasks as DTOs
+     */
+    public List<TaskDto> getAllTasks(Long userId, TaskStatus status, boolean includeArchived) {
+        if (!shouldCoalesce()) {
+            return taskService.getAllTasks(userId, status, includeArchived);
+        }
+        return taskLists.execute(new TaskQuery(userId, status, includeArchived),
+                () -> taskService.getAllTasks(userId, status, includeArchived));
+    }
+
+    /**
+     * Returns coalescing statistics per read path.
+     *
+     * @return Map of statistics keyed by read path
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("enabled", enabled);
+        statistics.put("getUserById", describe(userById));
+        statistics.put("getAllTasks", describe(taskLists));
+        return statistics;
+    }
+
+    private boolean shouldCoalesce() {
+        return enabled
+                && !TransactionSynchronizationManager.isActualTransactionActive()
+                && !ReadYourWrites.isPinnedToPrimary();
+    }
+
+    private static Map<String, Object> describe(SingleFlight<?, ?> flight) {
+        long calls = flight.getCalls();
+        long coalesced = flight.getCoalesced();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("calls", calls);
+        stats.put("executions", flight.getExecutions());
+        stats.put("coalesced", coalesced);
+        stats.put("coalescingRatio", calls == 0 ? 0.0 : (double) coalesced / calls);
+        return stats;
+    }
+
+    /**
+     * Key identifying identical task list queries.
+     *
+     * @param userId Optional user ID filter
+     * @param status Optional status filter
+     * @param includeArchived Whether archived tasks are included
+     */
+    private record TaskQuery(Long userId, TaskStatus status, boolean includeArchived) {
+    }
+}
@@ -0,0 +1,215 @@
+package com.webapp.service;
+
+import com.webapp.datasource.ReadYourWrites;
+import com.webapp.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory index of user emails.
+ *
+ * <p>Answers "is this email possibly taken?" without a database round trip.
+ * A Bloom filter rejects most unknown emails immediately, and a concurrent set
+ * of normalized emails confirms the rest. A positive answer still has to be
+ * checked against the database, which stays the source of truth; a negative
+ * answer lets callers skip the query. Races are resolved by the unique
+ * constraint on the email column.</p>
+ *
+ * <p>Additions are applied immediately, since a stale entry only costs an
+ * extra query. Removals are applied after commit, so a rolled-back delete
+ * never hides an existing email.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Component
+public class EmailIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailIndex.class);
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final AtomicLongArray bloomBits;
+    private final long bloomSize;
+    private final int hashFunctions;
+    private final Set<String> emails = ConcurrentHashMap.newKeySet();
+    private final LongAdder queriesAvoided = new LongAdder();
+    private volatile boolean ready;
+
+    /**
+     * Constructor with dependency injection.
+     *
+     * @param userRepository User repository
+     * @param enabled Whether the index is enabled
+     * @param expectedUsers Expected number of users, used to size the Bloom filter
+     */
+    @Autowired
+    public EmailIndex(UserRepository userRepository,
+                      @Value("${app.email-index.enabled:true}") boolean enabled,
+                      @Value("${app.email-index.expected-users:1000000}") int expectedUsers) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        // About 10 bits per entry and 7 hash functions give a false positive rate below 1%
+        long bits = Math.max(64L, expectedUsers * 10L);
+        this.bloomBits = new AtomicLongArray((int) ((bits + 63) / 64));
+        this.bloomSize = bloomBits.length() * 64L;
+        this.hashFunctions = 7;
+    }
+
+    /**
+     * Loads all existing emails once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        // A negative answer skips the database, so no email may be missing from the index
+        ReadYourWrites.onPrimary(userRepository::findAllEmails).forEach(this::add);
+        ready = true;
+        logger.info("Email index warmed with {} entries", emails.size());
+    }
+
+    /**
+     * Checks whether an email may already be in use.
+     *
+     * @param email Email address
+     * @return false if the email is certainly free, true if the database must be consulted
+     */
+    public boolean mightContain(String email) {
+        if (!enabled || !ready) {
+            return true;
+        }
+        String normalized = normalize(email);
+        if (!bloomMightContain(normalized) || !emails.contains(normalized)) {
+            queriesAvoided.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Records an email as in use.
+     *
+     * @param email Email address
+     */
+    public void add(String email) {
+        if (!enabled || email == null) {
+            return;
+        }
+        String normalized = normalize(email);
+        bloomAdd(normalized);
+        emails.add(normalized);
+    }
+
+    /**
+     * Forgets an email once the current transaction commits.
+     *
+     * @param email Email address
+     */
+    public void removeAfterCommit(String email) {
+        if (!enabled || email == null) {
+            return;
+        }
+        String normalized = normalize(email);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            emails.remove(normalized);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                emails.remove(normalized);
+            }
+        });
+    }
+
+    /**
+     * Records a changed email: the new one immediately, the removal of the old one after commit.
+     *
+     * @param oldEmail Previous email address
+     * @param newEmail New email address
+     */
+    public void replace(String oldEmail, String newEmail) {
+        add(newEmail);
+        if (oldEmail != null && newEmail != null && !normalize(oldEmail).equals(normalize(newEmail))) {
+            removeAfterCommit(oldEmail);
+        }
+    }
+
+    /**
+     * Returns index statistics.
+     *
+     * @return Map of statistics
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("enabled", enabled);
+        statistics.put("ready", ready);
+        statistics.put("entries", emails.size());
+        statistics.put("queriesAvoided", queriesAvoided.sum());
+        return statistics;
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private void bloomAdd(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bloomSize);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bloomBits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bloomBits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    private boolean bloomMightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bloomSize);
+            if ((bloomBits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 64-bit FNV-1a hash over the characters of a string.
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,244 @@
+package com.webapp.service;
+
+import com.webapp.exception.InvalidRequestException;
+import com.webapp.exception.ResourceConflictException;
+import com.webapp.exception.ResourceNotFoundException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Group commit for concurrent single-row writes.
+ *
+ * <p>Write operations submitted within a short window, up to a maximum batch
+ * size, run in one shared transaction, so they pay for one commit instead of
+ * one each. Every caller gets its own result or exception.</p>
+ *
+ * <p>Domain exceptions (not found, conflict, invalid request) are raised before
+ * an operation writes anything, so they only fail their own operation. Any other
+ * failure rolls the shared transaction back, and the operations of that batch
+ * are retried one transaction each.</p>
+ *
+ * <p>When disabled, each operation simply runs in its own transaction.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Component
+public class GroupCommitCoordinator {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupCommitCoordinator.class);
+
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBatchSize;
+
+    private final LinkedBlockingQueue<PendingOperation<?>> queue = new LinkedBlockingQueue<>();
+    private final LongAdder operations = new LongAdder();
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private Thread worker;
+
+    /**
+     * Constructor with dependency injection.
+     *
+     * @param transactionManager Transaction manager
+     * @param enabled Whether group commit is enabled
+     * @param windowMillis How long to collect further writes after the first one
+     * @param maxBatchSize Maximum number of writes per transaction
+     */
+    @Autowired
+    public GroupCommitCoordinator(PlatformTransactionManager transactionManager,
+                                  @Value("${app.group-commit.enabled:false}") boolean enabled,
+                                  @Value("${app.group-commit.window-ms:2}") long windowMillis,
+                                  @Value("${app.group-commit.max-batch-size:64}") int maxBatchSize) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+    }
+
+    /**
+     * Starts the commit worker.
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        worker = new Thread(this::run, "group-commit");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Stops the commit worker after the current batch.
+     *
+     * @throws InterruptedException If interrupted while waiting for the worker
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    /**
+     * Runs a write operation, possibly sharing its transaction with concurrent writes.
+     *
+     * @param operation Write operation
+     * @param <T> Result type
+     * @return Result of the operation
+     */
+    public <T> T execute(Supplier<T> operation) {
+        operations.increment();
+        if (!enabled) {
+            commits.increment();
+            return transactionTemplate.execute(status -> operation.get());
+        }
+
+        PendingOperation<T> pending = new PendingOperation<>(operation);
+        queue.add(pending);
+        try {
+            return pending.future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for group commit", ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Returns group commit statistics.
+     *
+     * @return Map of statistics
+     */
+    public Map<String, Object> getStatistics() {
+        long operationCount = operations.sum();
+        long commitCount = commits.sum();
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("enabled", enabled);
+        statistics.put("operations", operationCount);
+        statistics.put("commits", commitCount);
+        statistics.put("fallbacks", fallbacks.sum());
+        statistics.put("operationsPerCommit", commitCount == 0 ? 0.0 : (double) operationCount / commitCount);
+        return statistics;
+    }
+
+    private void run() {
+        List<PendingOperation<?>> batch = new ArrayList<>(maxBatchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < maxBatchSize) {
+                    PendingOperation<?> next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            if (!batch.isEmpty()) {
+                commit(batch);
+                batch.clear();
+            }
+        }
+        // Do not leave callers waiting forever on shutdown
+        queue.drainTo(batch);
+        batch.forEach(this::commitAlone);
+    }
+
+    private void commit(List<PendingOperation<?>> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(PendingOperation::runInBatch));
+            commits.increment();
+            batch.forEach(PendingOperation::publish);
+        } catch (RuntimeException | Error ex) {
+            if (batch.size() == 1) {
+                batch.get(0).future.completeExceptionally(ex);
+                return;
+            }
+            logger.warn("Group commit of {} writes failed, retrying individually: {}", batch.size(), ex.getMessage());
+            fallbacks.increment();
+            batch.forEach(this::commitAlone);
+        }
+    }
+
+    private void commitAlone(PendingOperation<?> pending) {
+        try {
+            pending.runAlone(transactionTemplate);
+            commits.increment();
+        } catch (RuntimeException | Error ex) {
+            pending.future.completeExceptionally(ex);
+        }
+    }
+
+    /**
+     * A submitted write and its outcome.
+     *
+     * @param <T> Result type
+     */
+    private static final class PendingOperation<T> {
+
+        private final Supplier<T> operation;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private T result;
+        private RuntimeException failure;
+
+        private PendingOperation(Supplier<T> operation) {
+            this.operation = operation;
+        }
+
+        private void runInBatch() {
+            result = null;
+            failure = null;
+            try {
+                result = operation.get();
+            } catch (InvalidRequestException | ResourceNotFoundException | ResourceConflictException ex) {
+                failure = ex;
+            }
+        }
+
+        private void publish() {
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(result);
+            }
+        }
+
+        private void runAlone(TransactionTemplate transactionTemplate) {
+            future.complete(transactionTemplate.execute(status -> operation.get()));
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.webapp.service;
+
+import com.webapp.datasource.ReadYourWrites;
+import com.webapp.dto.TaskDto;
+import com.webapp.enums.TaskStatus;
+import com.webapp.mapper.TaskMapper;
+import com.webapp.repository.TaskRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in parallel execution of unscoped task list queries.
+ *
+ * <p>When enabled, a query over all tasks, optionally filtered by status, is
+ * split into contiguous ID ranges that run concurrently on a bounded pool, each
+ * in its own read-only transaction and thus on its own connection. The ranges
+ * are concatenated in order, so the result is ordered by ID. Small tables are
+ * still read with a single query.</p>
+ *
+ * <p>The ranges are read in separate transactions, so a list fetched while
+ * tasks are written is not one consistent snapshot; each task is still read
+ * exactly once. The pool should stay smaller than the connection pool.</p>
+ *
+ * <p>A caller pinned to the primary with {@link ReadYourWrites} has its
+ * partitions read from the primary as well; the pin is passed to the pool
+ * threads explicitly, since it is thread-local.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Component
+public class ParallelTaskScanner {
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final int threads;
+    private final int maxPartitionsPerRequest;
+    private final long minRowsPerPartition;
+
+    private final LongAdder parallelScans = new LongAdder();
+    private final LongAdder singleScans = new LongAdder();
+    private final LongAdder partitions = new LongAdder();
+    private ExecutorService executor;
+
+    /**
+     * Constructor with dependency injection.
+     *
+     * @param taskRepository Task repository
+     * @param transactionManager Transaction manager for the partition transactions
+     * @param enabled Whether unscoped queries run in parallel
+     * @param threads Size of the shared scan pool; 0 for the number of cores
+     * @param maxPartitionsPerRequest Maximum number of partitions of one query; 0 for the pool size
+     * @param minRowsPerPartition Minimum number of rows per partition
+     */
+    @Autowired
+    public ParallelTaskScanner(TaskRepository taskRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.parallel-scan.enabled:false}") boolean enabled,
+                               @Value("${app.parallel-scan.threads:0}") int threads,
+                               @Value("${app.parallel-scan.max-partitions-per-request:0}") int maxPartitionsPerRequest,
+                               @Value("${app.parallel-scan.min-rows-per-partition:10000}") long minRowsPerPartition) {
+        this.taskRepository = taskRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Every partition needs its own connection, even when called within a transaction
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.maxPartitionsPerRequest = maxPartitionsPerRequest > 0
+                ? Math.min(maxPartitionsPerRequest, this.threads)
+                : this.threads;
+        this.minRowsPerPartition = Math.max(1, minRowsPerPartition);
+    }
+
+    /**
+     * Starts the scan pool.
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "task-scan-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Stops the scan pool.
+     */
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Checks whether unscoped queries run in parallel.
+     *
+     * @return true if enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Retrieves all tasks, optionally filtered by status, ordered by ID.
+     *
+     * @param status Optional status filter
+     * @return List of tasks as DTOs
+     */
+    public List<TaskDto> findAll(TaskStatus status) {
+        boolean primary = ReadYourWrites.isPinnedToPrimary();
+        Object[] range = readOnlyTransaction.execute(tx -> taskRepository.findIdRange(status).get(0));
+        if (range[0] == null) {
+            return List.of();
+        }
+        long minId = ((Number) range[0]).longValue();
+        long maxId = ((Number) range[1]).longValue();
+        long count = ((Number) range[2]).longValue();
+        int partitionCount = (int) Math.min(maxPartitionsPerRequest, Math.max(1, count / minRowsPerPartition));
+        if (partitionCount <= 1) {
+            singleScans.increment();
+            return findRange(minId, maxId + 1, status, primary);
+        }
+
+        parallelScans.increment();
+        partitions.add(partitionCount);
+        long width = (maxId - minId) / partitionCount + 1;
+        List<Future<List<TaskDto>>> futures = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            long fromId = minId + i * width;
+            long toId = i == partitionCount - 1 ? maxId + 1 : fromId + width;
+            futures.add(executor.submit(() -> findRange(fromId, toId, status, primary)));
+        }
+        List<TaskDto> tasks = new ArrayList<>((int) Math.min(count, Integer.MAX_VALUE));
+        try {
+            for (Future<List<TaskDto>> future : futures) {
+                tasks.addAll(await(future));
+            }
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns scan statistics.
+     *
+     * @return Map of statistics
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("enabled", enabled);
+        statistics.put("threads", threads);
+        statistics.put("parallelScans", parallelScans.sum());
+        statistics.put("singleScans", singleScans.sum());
+        statistics.put("partitions", partitions.sum());
+        return statistics;
+    }
+
+    private List<TaskDto> findRange(long fromId, long toId, TaskStatus status, boolean primary) {
+        if (primary) {
+            return ReadYourWrites.onPrimary(() -> findRange(fromId, toId, status, false));
+        }
+        return readOnlyTransaction.execute(tx -> taskRepository.findByIdRange(fromId, toId, status).stream()
+                .map(TaskMapper::toDto)
+                .toList());
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while scanning tasks", ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
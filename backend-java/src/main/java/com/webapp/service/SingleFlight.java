@@ -0,0 +1,170 @@
+package com.webapp.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical calls into a single execution.
+ *
+ * <p>The first caller for a key (the leader) runs the loader. A caller only
+ * shares an execution that starts after it arrived, so a result never predates
+ * the caller's own earlier writes: callers arriving while an execution is
+ * running queue up for the next one, which starts as soon as the running one
+ * completes and is shared by all of them, result or exception. Nothing is
+ * cached once an execution completes.</p>
+ *
+ * @param <K> Key type identifying identical calls
+ * @param <V> Result type
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder executions = new LongAdder();
+
+    /**
+     * Executes the loader for the key, or joins an execution that has not started yet.
+     *
+     * @param key Key identifying the call
+     * @param loader Loader producing the result
+     * @return Result of the leader's execution
+     */
+    public V execute(K key, Supplier<V> loader) {
+        calls.increment();
+        CompletableFuture<V> own = new CompletableFuture<>();
+        Call<V> call = new Call<>();
+        inFlight.compute(key, (k, flight) -> {
+            if (flight == null) {
+                return new Flight<>(own);
+            }
+            if (flight.next == null) {
+                flight.next = own;
+                call.predecessor = flight.running;
+            } else {
+                call.joined = flight.next;
+            }
+            return flight;
+        });
+        if (call.joined != null) {
+            return await(call.joined);
+        }
+
+        if (call.predecessor != null) {
+            // The running execution may have started before this call; only its completion matters
+            call.predecessor.handle((value, ex) -> null).join();
+        }
+        executions.increment();
+        try {
+            V value = loader.get();
+            release(key, own);
+            own.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            release(key, own);
+            own.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Gets the total number of calls.
+     *
+     * @return Number of calls
+     */
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    /**
+     * Gets the number of calls that actually ran the loader.
+     *
+     * @return Number of executions
+     */
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    /**
+     * Gets the number of calls that shared another call's execution.
+     *
+     * @return Number of coalesced calls
+     */
+    public long getCoalesced() {
+        return Math.max(0, getCalls() - getExecutions());
+    }
+
+    /**
+     * Ends a running execution and starts the queued one, if any.
+     *
+     * <p>Runs before the execution's result is published, so callers arriving
+     * from then on queue up behind the next execution instead of joining it.</p>
+     *
+     * @param key Key of the execution
+     * @param running Future of the running execution
+     */
+    private void release(K key, CompletableFuture<V> running) {
+        inFlight.computeIfPresent(key, (k, flight) -> {
+            if (flight.running != running) {
+                return flight;
+            }
+            if (flight.next == null) {
+                return null;
+            }
+            flight.running = flight.next;
+            flight.next = null;
+            return flight;
+        });
+    }
+
+    /**
+     * Waits for a leader's result and rethrows its exception unwrapped.
+     *
+     * @param future Leader's future
+     * @return Leader's result
+     */
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Running and queued execution of one key; only accessed within map operations on the key.
+     *
+     * @param <V> Result type
+     */
+    private static final class Flight<V> {
+
+        private CompletableFuture<V> running;
+        private CompletableFuture<V> next;
+
+        private Flight(CompletableFuture<V> running) {
+            this.running = running;
+        }
+    }
+
+    /**
+     * Role of one call, decided when it registers.
+     *
+     * @param <V> Result type
+     */
+    private static final class Call<V> {
+
+        private CompletableFuture<V> predecessor;
+        private CompletableFuture<V> joined;
+    }
+}
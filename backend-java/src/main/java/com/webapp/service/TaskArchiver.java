@@ -0,0 +1,230 @@
+package com.webapp.service;
+
+import com.webapp.enums.TaskStatus;
+import com.webapp.sharding.ShardedTaskStore;
+import com.webapp.snapshot.OffHeapSnapshotStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Moves old completed tasks from the tasks table to the tasks_archive table.
+ *
+ * <p>When enabled, tasks that have been COMPLETED for longer than the minimum
+ * age are moved in ID order, one batch per transaction: each batch is copied
+ * and deleted with the same predicate, so a task changed in the meantime stays
+ * in the tasks table. Tasks with a status update still queued by write-behind
+ * are left for the next run; the queue is checked again after the delete, with
+ * new status updates held off until the batch commits, and a batch that changed
+ * in the meantime is rolled back and retried on the next run. Archived tasks keep their IDs, which are never
+ * handed out again; see {@link TaskTableUpgrade}. They are only returned by reads that ask
+ * for them; see {@link TaskService#getAllTasks(Long, TaskStatus, boolean)}.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Component
+public class TaskArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskArchiver.class);
+
+    private static final String MOVE_PREDICATE =
+            " AND status = 'COMPLETED' AND updated_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskStatusWriteBehind statusWriteBehind;
+    private final TaskIdIndex taskIdIndex;
+    private final OffHeapSnapshotStore snapshotStore;
+    private final ShardedTaskStore shardedTasks;
+    private final boolean enabled;
+    private final int minAgeDays;
+    private final int batchSize;
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder archived = new LongAdder();
+    private final LongAdder skippedBatches = new LongAdder();
+    private volatile LocalDateTime lastRun;
+
+    /**
+     * Constructor with dependency injection.
+     *
+     * @param jdbcTemplate JDBC template for the batch moves
+     * @param transactionManager Transaction manager for the batch transactions
+     * @param statusWriteBehind Write-behind queue for status updates
+     * @param taskIdIndex In-memory index of task IDs by user and status
+     * @param snapshotStore Read-only snapshot store
+     * @param shardedTasks Sharded task store; archiving only covers an unsharded database
+     * @param enabled Whether completed tasks are archived
+     * @param minAgeDays Days since the last update after which a completed task is archived
+     * @param batchSize Number of tasks moved per transaction
+     */
+    @Autowired
+    public TaskArchiver(JdbcTemplate jdbcTemplate,
+                        PlatformTransactionManager transactionManager,
+                        TaskStatusWriteBehind statusWriteBehind,
+                        TaskIdIndex taskIdIndex,
+                        OffHeapSnapshotStore snapshotStore,
+                        ShardedTaskStore shardedTasks,
+                        @Value("${app.archive.enabled:false}") boolean enabled,
+                        @Value("${app.archive.min-age-days:30}") int minAgeDays,
+                        @Value("${app.archive.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.statusWriteBehind = statusWriteBehind;
+        this.taskIdIndex = taskIdIndex;
+        this.snapshotStore = snapshotStore;
+        this.shardedTasks = shardedTasks;
+        this.enabled = enabled;
+        this.minAgeDays = Math.max(0, minAgeDays);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Checks whether completed tasks are archived.
+     *
+     * @return true if enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Archives old completed tasks at a fixed interval.
+     */
+    @Scheduled(fixedDelayString = "${app.archive.interval-ms:3600000}",
+               initialDelayString = "${app.archive.interval-ms:3600000}")
+    public void scheduledArchive() {
+        if (!enabled) {
+            return;
+        }
+        if (shardedTasks.isEnabled()) {
+            logger.warn("Skipping task archiving: sharded tasks are not archived");
+            return;
+        }
+        archive();
+    }
+
+    /**
+     * Moves all tasks completed before the minimum age to the archive.
+     *
+     * @return Number of archived tasks
+     */
+    public long archive() {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp cutoff = Timestamp.valueOf(now.minusDays(minAgeDays));
+        Timestamp archivedAt = Timestamp.valueOf(now);
+        long total = 0;
+        long afterId = 0;
+        List<Map<String, Object>> candidates;
+        do {
+            candidates = jdbcTemplate.queryForList(
+                    "SELECT id, user_id FROM tasks WHERE id > ?" + MOVE_PREDICATE + " ORDER BY id LIMIT ?",
+                    afterId, cutoff, batchSize);
+            if (candidates.isEmpty()) {
+                break;
+            }
+            afterId = ((Number) candidates.get(candidates.size() - 1).get("id")).longValue();
+            List<Map<String, Object>> batch = new ArrayList<>(candidates.size());
+            for (Map<String, Object> candidate : candidates) {
+                Long id = ((Number) candidate.get("id")).longValue();
+                if (statusWriteBehind.effectiveStatus(id, TaskStatus.COMPLETED) == TaskStatus.COMPLETED) {
+                    batch.add(candidate);
+                }
+            }
+            if (!batch.isEmpty()) {
+                try {
+                    total += transactionTemplate.execute(status -> moveBatch(batch, cutoff, archivedAt));
+                } catch (BatchChangedException ex) {
+                    skippedBatches.increment();
+                    logger.warn("Skipped archive batch: {}", ex.getMessage());
+                }
+            }
+        } while (candidates.size() == batchSize);
+        runs.increment();
+        archived.add(total);
+        lastRun = now;
+        if (total > 0) {
+            logger.info("Archived {} completed tasks last updated before {}", total, cutoff);
+        }
+        return total;
+    }
+
+    /**
+     * Returns archiving statistics.
+     *
+     * @return Map of statistics
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("enabled", enabled);
+        statistics.put("minAgeDays", minAgeDays);
+        statistics.put("runs", runs.sum());
+        statistics.put("archived", archived.sum());
+        statistics.put("skippedBatches", skippedBatches.sum());
+        statistics.put("lastRun", lastRun);
+        return statistics;
+    }
+
+    private long moveBatch(List<Map<String, Object>> batch, Timestamp cutoff, Timestamp archivedAt) {
+        String ids = "id IN (" + String.join(", ", Collections.nCopies(batch.size(), "?")) + ")";
+        List<Object> arguments = new ArrayList<>(batch.size() + 1);
+        batch.forEach(row -> arguments.add(row.get("id")));
+        arguments.add(cutoff);
+        Object[] predicateArguments = arguments.toArray();
+        arguments.add(0, archivedAt);
+
+        int copied = jdbcTemplate.update(
+                "INSERT INTO tasks_archive (id, title, description, status, user_id, created_at, updated_at, due_at, "
+                        + "archived_at) SELECT id, title, description, status, user_id, created_at, updated_at, due_at, ? "
+                        + "FROM tasks WHERE "
+                        + ids + MOVE_PREDICATE,
+                arguments.toArray());
+        int deleted = jdbcTemplate.update("DELETE FROM tasks WHERE " + ids + MOVE_PREDICATE, predicateArguments);
+        if (copied != batch.size() || deleted != batch.size()) {
+            // A task of the batch changed since it was selected; roll back, it no longer matches on the next run
+            throw new BatchChangedException("expected " + batch.size()
+                    + " tasks, copied " + copied + " and deleted " + deleted);
+        }
+        // A status update acknowledged since the selection would be dropped by the flush once the row is gone
+        statusWriteBehind.holdChangesUntilCompletion();
+        for (Map<String, Object> row : batch) {
+            Long id = ((Number) row.get("id")).longValue();
+            TaskStatus status = statusWriteBehind.claim(id, TaskStatus.COMPLETED);
+            if (status != TaskStatus.COMPLETED) {
+                throw new BatchChangedException("task " + id + " has a queued status update to " + status);
+            }
+        }
+        for (Map<String, Object> row : batch) {
+            taskIdIndex.removed(((Number) row.get("id")).longValue(), ((Number) row.get("user_id")).longValue(),
+                    TaskStatus.COMPLETED);
+        }
+        snapshotStore.invalidate();
+        return batch.size();
+    }
+
+    /**
+     * Thrown when a task of an archive batch changed after the batch was selected.
+     */
+    private static class BatchChangedException extends RuntimeException {
+
+        BatchChangedException(String message) {
+            super(message);
+        }
+    }
+}
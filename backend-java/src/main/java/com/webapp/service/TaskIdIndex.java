@@ -0,0 +1,352 @@
+package com.webapp.service;
+
+import com.webapp.datasource.ReadYourWrites;
+import com.webapp.enums.TaskStatus;
+import com.webapp.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Optional in-memory secondary index of task IDs by user and status.
+ *
+ * <p>For every user the index keeps one sorted primitive {@code long} array of
+ * task IDs per {@link TaskStatus}, so the hot "tasks of user X (with status Y)"
+ * lookups resolve their ID set without SQL; the entities are then loaded by
+ * primary key. Each user's arrays are guarded by that user's own lock, so
+ * writers for different users never contend.</p>
+ *
+ * <p>The index is built once the application is ready and kept current by
+ * {@link TaskService}; changes made inside a transaction are applied after
+ * commit. Until it is built, callers fall back to the repository queries.
+ * A rebuild fills a new map while changes keep committing; those changes are
+ * queued and replayed on the new map before it replaces the old one.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Component
+public class TaskIdIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskIdIndex.class);
+    private static final long[] EMPTY = new long[0];
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final TaskRepository taskRepository;
+    private final TaskStatusWriteBehind statusWriteBehind;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final ReadWriteLock changeLock = new ReentrantReadWriteLock();
+    private final List<Runnable> changesDuringRebuild = new ArrayList<>();
+    private volatile ConcurrentHashMap<Long, UserTasks> byUser = new ConcurrentHashMap<>();
+    private boolean rebuilding;
+    private final LongAdder lookups = new LongAdder();
+    private volatile boolean ready;
+
+    /**
+     * Constructor with dependency injection.
+     *
+     * @param taskRepository Task repository
+     * @param statusWriteBehind Write-behind queue, whose pending statuses take precedence
+     * @param transactionManager Transaction manager for the initial build
+     * @param enabled Whether the index is enabled
+     */
+    @Autowired
+    public TaskIdIndex(TaskRepository taskRepository,
+                       TaskStatusWriteBehind statusWriteBehind,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${app.task-index.enabled:false}") boolean enabled) {
+        this.taskRepository = taskRepository;
+        this.statusWriteBehind = statusWriteBehind;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+    }
+
+    /**
+     * Builds the index once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (!enabled) {
+            return;
+        }
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the index from the tasks table.
+     */
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        ready = false;
+        changeLock.writeLock().lock();
+        try {
+            rebuilding = true;
+            changesDuringRebuild.clear();
+        } finally {
+            changeLock.writeLock().unlock();
+        }
+        ConcurrentHashMap<Long, UserTasks> rebuilt = new ConcurrentHashMap<>();
+        long count;
+        try {
+            count = load(rebuilt);
+        } catch (RuntimeException ex) {
+            changeLock.writeLock().lock();
+            try {
+                changesDuringRebuild.clear();
+                rebuilding = false;
+            } finally {
+                changeLock.writeLock().unlock();
+            }
+            throw ex;
+        }
+        rebuilt.values().forEach(UserTasks::sort);
+        int replayed;
+        changeLock.writeLock().lock();
+        try {
+            byUser = rebuilt;
+            // Replaying is safe: inserts and removals are idempotent
+            changesDuringRebuild.forEach(Runnable::run);
+            replayed = changesDuringRebuild.size();
+            changesDuringRebuild.clear();
+            rebuilding = false;
+        } finally {
+            changeLock.writeLock().unlock();
+        }
+        ready = true;
+        logger.info("Task index built with {} tasks for {} users, {} changes replayed",
+                count, rebuilt.size(), replayed);
+    }
+
+    private long load(Map<Long, UserTasks> target) {
+        // The index is authoritative for lookups, so it is never built from a lagging replica
+        return ReadYourWrites.onPrimary(() -> readOnlyTransaction.execute(status -> {
+            long[] rows = {0};
+            try (Stream<Object[]> entries = taskRepository.streamIndexEntries()) {
+                entries.forEach(row -> {
+                    Long taskId = (Long) row[0];
+                    target.computeIfAbsent((Long) row[1], id -> new UserTasks()).append(taskId,
+                            statusWriteBehind.effectiveStatus(taskId, (TaskStatus) row[2]));
+                    rows[0]++;
+                });
+            }
+            return rows[0];
+        }));
+    }
+
+    /**
+     * Checks whether lookups can be served from the index.
+     *
+     * @return true if the index is enabled and built
+     */
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * Returns the IDs of a user's tasks, optionally restricted to one status.
+     *
+     * @param userId User ID
+     * @param status Optional status filter
+     * @return Sorted task IDs (per status), never null
+     */
+    public long[] findIds(Long userId, TaskStatus status) {
+        lookups.increment();
+        UserTasks tasks = byUser.get(userId);
+        if (tasks == null) {
+            return EMPTY;
+        }
+        return tasks.ids(status);
+    }
+
+    /**
+     * Records a new task once the current transaction commits.
+     *
+     * @param taskId Task ID
+     * @param userId Owning user ID
+     * @param status Task status
+     */
+    public void added(Long taskId, Long userId, TaskStatus status) {
+        if (enabled) {
+            afterCommit(() -> userTasks(userId).insert(taskId, status));
+        }
+    }
+
+    /**
+     * Records a removed task once the current transaction commits.
+     *
+     * @param taskId Task ID
+     * @param userId Owning user ID
+     * @param status Task status
+     */
+    public void removed(Long taskId, Long userId, TaskStatus status) {
+        if (enabled) {
+            afterCommit(() -> userTasks(userId).remove(taskId, status));
+        }
+    }
+
+    /**
+     * Records a change of owner or status once the current transaction commits.
+     *
+     * @param taskId Task ID
+     * @param oldUserId Previous owner
+     * @param oldStatus Previous status
+     * @param newUserId New owner
+     * @param newStatus New status
+     */
+    public void moved(Long taskId, Long oldUserId, TaskStatus oldStatus, Long newUserId, TaskStatus newStatus) {
+        if (!enabled || (oldUserId.equals(newUserId) && oldStatus == newStatus)) {
+            return;
+        }
+        afterCommit(() -> {
+            userTasks(oldUserId).remove(taskId, oldStatus);
+            userTasks(newUserId).insert(taskId, newStatus);
+        });
+    }
+
+    /**
+     * Returns index statistics.
+     *
+     * @return Map of statistics
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("enabled", enabled);
+        statistics.put("ready", ready);
+        statistics.put("users", byUser.size());
+        statistics.put("lookups", lookups.sum());
+        return statistics;
+    }
+
+    private UserTasks userTasks(Long userId) {
+        return byUser.computeIfAbsent(userId, id -> new UserTasks());
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    private void apply(Runnable change) {
+        changeLock.readLock().lock();
+        try {
+            if (!rebuilding) {
+                change.run();
+                return;
+            }
+        } finally {
+            changeLock.readLock().unlock();
+        }
+        changeLock.writeLock().lock();
+        try {
+            if (rebuilding) {
+                changesDuringRebuild.add(change);
+            } else {
+                change.run();
+            }
+        } finally {
+            changeLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Task IDs of one user, one sorted array per status.
+     */
+    private static final class UserTasks {
+
+        private final long[][] ids = new long[STATUSES.length][];
+        private final int[] sizes = new int[STATUSES.length];
+
+        private UserTasks() {
+            Arrays.fill(ids, EMPTY);
+        }
+
+        private synchronized void append(long taskId, TaskStatus status) {
+            int slot = status.ordinal();
+            ensureCapacity(slot);
+            ids[slot][sizes[slot]++] = taskId;
+        }
+
+        private synchronized void sort() {
+            for (int slot = 0; slot < ids.length; slot++) {
+                Arrays.sort(ids[slot], 0, sizes[slot]);
+            }
+        }
+
+        private synchronized void insert(long taskId, TaskStatus status) {
+            int slot = status.ordinal();
+            int position = Arrays.binarySearch(ids[slot], 0, sizes[slot], taskId);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+            ensureCapacity(slot);
+            System.arraycopy(ids[slot], position, ids[slot], position + 1, sizes[slot] - position);
+            ids[slot][position] = taskId;
+            sizes[slot]++;
+        }
+
+        private synchronized void remove(long taskId, TaskStatus status) {
+            int slot = status.ordinal();
+            int position = Arrays.binarySearch(ids[slot], 0, sizes[slot], taskId);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(ids[slot], position + 1, ids[slot], position, sizes[slot] - position - 1);
+            sizes[slot]--;
+        }
+
+        private synchronized long[] ids(TaskStatus status) {
+            if (status != null) {
+                return Arrays.copyOf(ids[status.ordinal()], sizes[status.ordinal()]);
+            }
+            int total = 0;
+            for (int size : sizes) {
+                total += size;
+            }
+            long[] all = new long[total];
+            int offset = 0;
+            for (int slot = 0; slot < ids.length; slot++) {
+                System.arraycopy(ids[slot], 0, all, offset, sizes[slot]);
+                offset += sizes[slot];
+            }
+            return all;
+        }
+
+        private void ensureCapacity(int slot) {
+            if (sizes[slot] == ids[slot].length) {
+                ids[slot] = Arrays.copyOf(ids[slot], Math.max(4, ids[slot].length * 2));
+            }
+        }
+    }
+}
@@ -1,21 +1,40 @@
 package com.webapp.service;
 
+import com.webapp.deadline.TaskDeadlineTimers;
+import com.webapp.dto.MultiGetResponse;
 import com.webapp.dto.TaskDto;
 import com.webapp.dto.UpdateTaskStatusDto;
 import com.webapp.entity.Task;
 import com.webapp.enums.TaskStatus;
 import com.webapp.exception.InvalidRequestException;
 import com.webapp.exception.ResourceNotFoundException;
+import com.webapp.mapper.TaskMapper;
+import com.webapp.repository.ArchivedTaskRepository;
 import com.webapp.repository.TaskRepository;
 import com.webapp.repository.UserRepository;
+import com.webapp.sharding.ShardedTaskStore;
+import com.webapp.snapshot.OffHeapSnapshotStore;
+import com.webapp.snapshot.Snapshot;
+import com.webapp.validation.DtoValidation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 /**
  * Service for task business logic.
@@ -31,77 +50,230 @@ import java.util.stream.Collectors;
 public class TaskService {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskService.class);
+    private static final int ID_LOOKUP_CHUNK_SIZE = 500;
+    private static final int MAX_LOOKUP_IDS = 1000;
 
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskStatusWriteBehind statusWriteBehind;
+    private final GroupCommitCoordinator groupCommit;
+    private final TaskIdIndex taskIdIndex;
+    private final OffHeapSnapshotStore snapshotStore;
+    private final ShardedTaskStore shardedTasks;
+    private final ParallelTaskScanner parallelScanner;
+    private final TaskDeadlineTimers deadlineTimers;
+    private final TransactionTemplate readOnlyTransaction;
 
     /**
      * Constructor with dependency injection.
      * 
      * @param taskRepository Task repository
      * @param userRepository User repository
+     * @param archivedTaskRepository Repository of archived tasks
+     * @param statusWriteBehind Write-behind queue for status updates
+     * @param groupCommit Group commit coordinator for creations
+     * @param taskIdIndex In-memory index of task IDs by user and status
+     * @param snapshotStore Read-only snapshot store
+     * @param shardedTasks Sharded task store
+     * @param parallelScanner Parallel scanner for unscoped queries
+     * @param deadlineTimers In-memory timers for task due dates
+     * @param transactionManager Transaction manager for reads that miss the snapshot
      */
     @Autowired
-    public TaskService(TaskRepository taskRepository, UserRepository userRepository) {
+    public TaskService(TaskRepository taskRepository,
+                       UserRepository userRepository,
+                       ArchivedTaskRepository archivedTaskRepository,
+                       TaskStatusWriteBehind statusWriteBehind,
+                       GroupCommitCoordinator groupCommit,
+                       TaskIdIndex taskIdIndex,
+                       OffHeapSnapshotStore snapshotStore,
+                       ShardedTaskStore shardedTasks,
+                       ParallelTaskScanner parallelScanner,
+                       TaskDeadlineTimers deadlineTimers,
+                       PlatformTransactionManager transactionManager) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.statusWriteBehind = statusWriteBehind;
+        this.groupCommit = groupCommit;
+        this.taskIdIndex = taskIdIndex;
+        this.snapshotStore = snapshotStore;
+        this.shardedTasks = shardedTasks;
+        this.parallelScanner = parallelScanner;
+        this.deadlineTimers = deadlineTimers;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     /**
-     * Retrieves all tasks, optionally filtered by user ID.
+     * Retrieves all tasks, optionally filtered by user ID and status.
      * 
-     * @param userId Optional user ID filter
+     * <p>Served from the read-only snapshot when one is active. Otherwise, when
+     * the task index is ready, the IDs of a user's tasks are taken from the index
+     * and the tasks are loaded by primary key. With sharding, user-scoped reads go
+     * to the user's shard and all other reads to every shard. Unscoped reads may
+     * be split into ID ranges that are read in parallel.</p>
+     * 
+     * <p>Archived tasks are only included on request, after the tasks of the
+     * tasks table. They are all COMPLETED, so the archive is not read for other
+     * status filters. The archive is only read for one user at a time, so it
+     * never has to be loaded as a whole. Sharded tasks are never archived.</p>
+     * 
+     * @param userId Optional user ID filter, required when archived tasks are included
+     * @param status Optional status filter
+     * @param includeArchived Whether archived tasks are included
      * @return List of tasks as DTOs
+     * @throws InvalidRequestException If archived tasks are requested without a user ID
      */
-    @Transactional(readOnly = true)
-    public List<TaskDto> getAllTasks(Long userId) {
-        logger.debug("Retrieving tasks with userId filter: {}", userId);
-        List<Task> tasks;
-        if (userId != null) {
-            tasks = taskRepository.findByUserId(userId);
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<TaskDto> getAllTasks(Long userId, TaskStatus status, boolean includeArchived) {
+        logger.debug("Retrieving tasks with userId filter: {} and status filter: {}", userId, status);
+        if (includeArchived && userId == null) {
+            throw InvalidRequestException.of("Archived tasks can only be included for a single user");
+        }
+        if (shardedTasks.isEnabled()) {
+            return userId != null ? shardedTasks.findByUser(userId, status) : shardedTasks.findAll(status);
+        }
+        Snapshot snapshot = snapshotStore.current();
+        List<TaskDto> tasks;
+        if (snapshot != null) {
+            tasks = snapshot.findTasks(userId, status);
+        } else if (userId == null && parallelScanner.isEnabled()) {
+            tasks = parallelScanner.findAll(status);
         } else {
-            tasks = taskRepository.findAll();
+            tasks = readOnlyTransaction.execute(tx -> findTasks(userId, status).stream()
+                    .map(TaskMapper::toDto)
+                    .toList());
         }
-        return tasks.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        if (status != null) {
+            tasks = withPendingMatches(tasks, userId, status);
+        }
+        List<TaskDto> hotTasks = tasks.stream()
+                .map(this::withPendingStatus)
+                .filter(task -> status == null || task.status() == status)
+                .toList();
+        if (!includeArchived || (status != null && status != TaskStatus.COMPLETED)) {
+            return hotTasks;
+        }
+        return withArchivedTasks(hotTasks, userId);
     }
 
     /**
      * Retrieves a task by ID.
      * 
+     * <p>Served from the read-only snapshot when one is active and contains the task.
+     * Tasks not found in the tasks table are looked up in the archive.</p>
+     * 
      * @param id Task ID
      * @return Task DTO
      * @throws ResourceNotFoundException If task not found
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public TaskDto getTaskById(Long id) {
         logger.debug("Retrieving task with ID: {}", id);
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task with ID " + id + " not found"));
-        return convertToDto(task);
+        if (shardedTasks.isEnabled()) {
+            return shardedTasks.findById(id);
+        }
+        Snapshot snapshot = snapshotStore.current();
+        TaskDto snapshotTask = snapshot != null ? snapshot.findTask(id) : null;
+        if (snapshotTask != null) {
+            return withPendingStatus(snapshotTask);
+        }
+        return readOnlyTransaction.execute(tx -> {
+            Task task = taskRepository.findById(id).orElse(null);
+            if (task != null) {
+                return toDto(task);
+            }
+            return archivedTaskRepository.findById(id)
+                    .map(TaskMapper::toDto)
+                    .orElseThrow(() -> ResourceNotFoundException.task(id));
+        });
+    }
+
+    /**
+     * Retrieves several tasks by ID.
+     * 
+     * <p>Tasks are taken from the read-only snapshot when one is active; the
+     * remaining IDs are loaded in chunks with one query each, first from the
+     * tasks table and then from the archive.</p>
+     * 
+     * @param ids Task IDs, at most 1000
+     * @return Found tasks in request order and the IDs without a task
+     * @throws InvalidRequestException If no or too many IDs are given
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public MultiGetResponse<TaskDto> getTasksByIds(List<Long> ids) {
+        List<Long> distinctIds = validateLookupIds(ids);
+        logger.debug("Retrieving {} tasks by ID", distinctIds.size());
+        if (shardedTasks.isEnabled()) {
+            return MultiGetResponse.of(distinctIds, shardedTasks.findByIds(distinctIds));
+        }
+        Map<Long, TaskDto> found = new HashMap<>();
+        Snapshot snapshot = snapshotStore.current();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : distinctIds) {
+            TaskDto snapshotTask = snapshot != null ? snapshot.findTask(id) : null;
+            if (snapshotTask != null) {
+                found.put(id, withPendingStatus(snapshotTask));
+            } else {
+                misses.add(id);
+            }
+        }
+        if (!misses.isEmpty()) {
+            readOnlyTransaction.executeWithoutResult(tx -> {
+                for (int from = 0; from < misses.size(); from += ID_LOOKUP_CHUNK_SIZE) {
+                    List<Long> chunk = misses.subList(from, Math.min(misses.size(), from + ID_LOOKUP_CHUNK_SIZE));
+                    taskRepository.findAllById(chunk).forEach(task -> found.put(task.getId(), toDto(task)));
+                }
+                List<Long> archiveMisses = misses.stream().filter(id -> !found.containsKey(id)).toList();
+                for (int from = 0; from < archiveMisses.size(); from += ID_LOOKUP_CHUNK_SIZE) {
+                    List<Long> chunk = archiveMisses.subList(from,
+                            Math.min(archiveMisses.size(), from + ID_LOOKUP_CHUNK_SIZE));
+                    archivedTaskRepository.findAllById(chunk)
+                            .forEach(task -> found.put(task.getId(), TaskMapper.toDto(task)));
+                }
+            });
+        }
+        return MultiGetResponse.of(distinctIds, found);
     }
 
     /**
      * Creates a new task with validation.
      * 
+     * <p>The write runs through the group commit coordinator, which owns the
+     * transaction and may share it with concurrent creations. With sharding, the
+     * task is written to its user's shard instead.</p>
+     * 
      * @param taskDto Task data
      * @return Created task DTO
      * @throws ResourceNotFoundException If user not found
      * @throws InvalidRequestException If validation fails
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TaskDto createTask(TaskDto taskDto) {
-        logger.debug("Creating task with title: {}", taskDto.getTitle());
-        validateTaskData(taskDto);
+        logger.debug("Creating task with title: {}", taskDto.title());
+        DtoValidation.TASK.validate(taskDto);
         
-        // Verify user exists
-        userRepository.findById(taskDto.getUserId())
-                .orElseThrow(() -> new ResourceNotFoundException("User with ID " + taskDto.getUserId() + " not found"));
+        if (shardedTasks.isEnabled()) {
+            userRepository.findById(taskDto.userId())
+                    .orElseThrow(() -> ResourceNotFoundException.user(taskDto.userId()));
+            return shardedTasks.create(taskDto);
+        }
         
-        Task task = convertToEntity(taskDto);
-        Task savedTask = taskRepository.save(task);
-        logger.info("Created task with ID: {}", savedTask.getId());
-        return convertToDto(savedTask);
+        return groupCommit.execute(() -> {
+            // Verify user exists
+            userRepository.findById(taskDto.userId())
+                    .orElseThrow(() -> ResourceNotFoundException.user(taskDto.userId()));
+            
+            Task task = TaskMapper.toEntity(taskDto);
+            Task savedTask = taskRepository.save(task);
+            taskIdIndex.added(savedTask.getId(), savedTask.getUserId(), savedTask.getStatus());
+            deadlineTimers.changed(savedTask.getId(), savedTask.getDueAt(), savedTask.getStatus());
+            snapshotStore.invalidate();
+            logger.info("Created task with ID: {}", savedTask.getId());
+            return TaskMapper.toDto(savedTask);
+        });
     }
 
     /**
@@ -115,40 +287,55 @@ public class TaskService {
      */
     public TaskDto updateTask(Long id, TaskDto taskDto) {
         logger.debug("Updating task with ID: {}", id);
+        DtoValidation.TASK.validate(taskDto);
+        if (shardedTasks.isEnabled()) {
+            if (taskDto.userId() != null) {
+                userRepository.findById(taskDto.userId())
+                        .orElseThrow(() -> ResourceNotFoundException.user(taskDto.userId()));
+            }
+            return shardedTasks.update(id, taskDto);
+        }
         Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task with ID " + id + " not found"));
+                .orElseThrow(() -> ResourceNotFoundException.task(id));
+        Long previousUserId = task.getUserId();
+        // The update increments the revision, so a queued status change could no longer be flushed
+        TaskStatus previousStatus = statusWriteBehind.claim(id, task.getStatus());
         
         // If userId is being updated, verify the new user exists
-        if (taskDto.getUserId() != null && !taskDto.getUserId().equals(task.getUserId())) {
-            userRepository.findById(taskDto.getUserId())
-                    .orElseThrow(() -> new ResourceNotFoundException("User with ID " + taskDto.getUserId() + " not found"));
+        if (taskDto.userId() != null && !taskDto.userId().equals(task.getUserId())) {
+            userRepository.findById(taskDto.userId())
+                    .orElseThrow(() -> ResourceNotFoundException.user(taskDto.userId()));
         }
         
-        if (taskDto.getStatus() != null) {
-            validateStatus(taskDto.getStatus());
+        if (taskDto.title() != null) {
+            task.setTitle(taskDto.title());
         }
-        
-        if (taskDto.getTitle() != null) {
-            task.setTitle(taskDto.getTitle());
+        if (taskDto.description() != null) {
+            task.setDescription(taskDto.description());
         }
-        if (taskDto.getDescription() != null) {
-            task.setDescription(taskDto.getDescription());
+        task.setStatus(taskDto.status() != null ? taskDto.status() : previousStatus);
+        if (taskDto.userId() != null) {
+            task.setUserId(taskDto.userId());
         }
-        if (taskDto.getStatus() != null) {
-            task.setStatus(taskDto.getStatus());
-        }
-        if (taskDto.getUserId() != null) {
-            task.setUserId(taskDto.getUserId());
+        if (taskDto.dueAt() != null) {
+            task.setDueAt(taskDto.dueAt());
         }
         
         Task updatedTask = taskRepository.save(task);
+        TaskDto updatedDto = TaskMapper.toDto(updatedTask);
+        taskIdIndex.moved(id, previousUserId, previousStatus, updatedTask.getUserId(), updatedDto.status());
+        deadlineTimers.changed(id, updatedTask.getDueAt(), updatedDto.status());
+        snapshotStore.invalidate();
         logger.info("Updated task with ID: {}", updatedTask.getId());
-        return convertToDto(updatedTask);
+        return updatedDto;
     }
 
     /**
      * Updates task status.
      * 
+     * <p>With write-behind enabled, the change is journaled and acknowledged
+     * immediately, and written to the database by a background flush.</p>
+     * 
      * @param id Task ID
      * @param statusDto Status update data
      * @return Updated task DTO
@@ -156,16 +343,30 @@ public class TaskService {
      * @throws InvalidRequestException If status is invalid
      */
     public TaskDto updateTaskStatus(Long id, UpdateTaskStatusDto statusDto) {
-        logger.debug("Updating task status for ID: {} to status: {}", id, statusDto.getStatus());
+        logger.debug("Updating task status for ID: {} to status: {}", id, statusDto.status());
+        DtoValidation.TASK_STATUS.validate(statusDto);
+        if (shardedTasks.isEnabled()) {
+            return shardedTasks.updateStatus(id, statusDto.status());
+        }
         Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task with ID " + id + " not found"));
+                .orElseThrow(() -> ResourceNotFoundException.task(id));
+        
+        TaskStatus previousStatus = statusWriteBehind.effectiveStatus(id, task.getStatus());
+        taskIdIndex.moved(id, task.getUserId(), previousStatus, task.getUserId(), statusDto.status());
+        deadlineTimers.changed(id, task.getDueAt(), statusDto.status());
+        snapshotStore.invalidate();
         
-        validateStatus(statusDto.getStatus());
-        task.setStatus(statusDto.getStatus());
+        if (statusWriteBehind.isEnabled()) {
+            statusWriteBehind.enqueue(id, statusDto.status(), task.getRevision());
+            logger.info("Queued task status update for ID: {} to status: {}", id, statusDto.status());
+            return TaskMapper.toDto(task, statusDto.status());
+        }
+        
+        task.setStatus(statusDto.status());
         
         Task updatedTask = taskRepository.save(task);
         logger.info("Updated task status for ID: {} to status: {}", updatedTask.getId(), updatedTask.getStatus());
-        return convertToDto(updatedTask);
+        return TaskMapper.toDto(updatedTask);
     }
 
     /**
@@ -176,72 +377,223 @@ public class TaskService {
      */
     public void deleteTask(Long id) {
         logger.debug("Deleting task with ID: {}", id);
+        if (shardedTasks.isEnabled()) {
+            shardedTasks.delete(id);
+            logger.info("Deleted task with ID: {}", id);
+            return;
+        }
         Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task with ID " + id + " not found"));
+                .orElseThrow(() -> ResourceNotFoundException.task(id));
         taskRepository.delete(task);
+        taskIdIndex.removed(id, task.getUserId(), statusWriteBehind.claim(id, task.getStatus()));
+        deadlineTimers.removed(id);
+        snapshotStore.invalidate();
         logger.info("Deleted task with ID: {}", id);
     }
 
     /**
-     * Validates task data.
+     * Moves open tasks whose due date has passed to their overdue status.
      * 
-     * @param taskDto Task data to validate
-     * @throws InvalidRequestException If validation fails
+     * <p>PENDING tasks become EXPIRED and IN_PROGRESS tasks STALE, in one
+     * transaction for the whole batch. Tasks that were completed, rescheduled
+     * or deleted since their timer was set are skipped.</p>
+     * 
+     * @param ids IDs of tasks whose timers expired
+     * @param now Current time
+     * @return Number of transitioned tasks
      */
-    private void validateTaskData(TaskDto taskDto) {
-        if (taskDto.getTitle() == null || taskDto.getTitle().trim().isEmpty()) {
-            throw new InvalidRequestException("Task title is required");
+    public int expireOverdueTasks(List<Long> ids, LocalDateTime now) {
+        int transitioned = 0;
+        for (int from = 0; from < ids.size(); from += ID_LOOKUP_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + ID_LOOKUP_CHUNK_SIZE));
+            for (Task task : taskRepository.findAllById(chunk)) {
+                if (task.getDueAt() == null || task.getDueAt().isAfter(now)) {
+                    continue;
+                }
+                // A queued change is written with this transaction and dropped once it commits
+                TaskStatus status = statusWriteBehind.claim(task.getId(), task.getStatus());
+                TaskStatus overdueStatus = overdueStatus(status);
+                if (overdueStatus == null) {
+                    task.setStatus(status);
+                    continue;
+                }
+                task.setStatus(overdueStatus);
+                taskIdIndex.moved(task.getId(), task.getUserId(), status, task.getUserId(), overdueStatus);
+                transitioned++;
+            }
         }
-        if (taskDto.getUserId() == null) {
-            throw new InvalidRequestException("User ID is required");
-        }
-        if (taskDto.getStatus() != null) {
-            validateStatus(taskDto.getStatus());
+        if (transitioned > 0) {
+            snapshotStore.invalidate();
+            logger.info("Marked {} tasks as overdue", transitioned);
         }
+        return transitioned;
     }
 
     /**
-     * Validates task status.
+     * Returns the status an open task takes when its due date passes.
      * 
-     * @param status Status to validate
-     * @throws InvalidRequestException If status is invalid
+     * @param status Current status
+     * @return EXPIRED or STALE, or null if the task is not open
+     */
+    private static TaskStatus overdueStatus(TaskStatus status) {
+        return switch (status) {
+            case PENDING -> TaskStatus.EXPIRED;
+            case IN_PROGRESS -> TaskStatus.STALE;
+            default -> null;
+        };
+    }
+
+    /**
+     * Validates the IDs of a multi-get request.
+     * 
+     * @param ids Requested IDs
+     * @return IDs without nulls and duplicates, in request order
+     * @throws InvalidRequestException If no or too many IDs are given
      */
-    private void validateStatus(TaskStatus status) {
-        if (status == null) {
-            throw new InvalidRequestException("Status is required");
+    private static List<Long> validateLookupIds(List<Long> ids) {
+        List<Long> distinctIds = ids == null ? List.of() : ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distinctIds.isEmpty()) {
+            throw InvalidRequestException.of("At least one ID is required");
         }
-        // Enum validation is handled by Java, but we can add additional checks if needed
+        if (distinctIds.size() > MAX_LOOKUP_IDS) {
+            throw InvalidRequestException.of("At most " + MAX_LOOKUP_IDS + " IDs can be requested at once");
+        }
+        return distinctIds;
     }
 
     /**
-     * Converts Task entity to TaskDto.
+     * Converts Task entity to TaskDto, applying status updates that are not yet flushed.
      * 
      * @param task Task entity
      * @return TaskDto
      */
-    private TaskDto convertToDto(Task task) {
-        TaskDto dto = new TaskDto();
-        dto.setId(task.getId());
-        dto.setTitle(task.getTitle());
-        dto.setDescription(task.getDescription());
-        dto.setStatus(task.getStatus());
-        dto.setUserId(task.getUserId());
-        return dto;
+    private TaskDto toDto(Task task) {
+        return TaskMapper.toDto(task, statusWriteBehind.effectiveStatus(task.getId(), task.getStatus()));
     }
 
     /**
-     * Converts TaskDto to Task entity.
+     * Applies a status update that is not yet flushed to a task DTO.
      * 
-     * @param taskDto TaskDto
-     * @return Task entity
+     * @param task Task DTO
+     * @return TaskDto with the effective status
      */
-    private Task convertToEntity(TaskDto taskDto) {
-        Task task = new Task();
-        task.setTitle(taskDto.getTitle());
-        task.setDescription(taskDto.getDescription());
-        task.setStatus(taskDto.getStatus() != null ? taskDto.getStatus() : TaskStatus.PENDING);
-        task.setUserId(taskDto.getUserId());
-        return task;
+    private TaskDto withPendingStatus(TaskDto task) {
+        TaskStatus status = statusWriteBehind.effectiveStatus(task.id(), task.status());
+        if (status == task.status()) {
+            return task;
+        }
+        return new TaskDto(task.id(), task.title(), task.description(), status, task.userId(), task.dueAt());
     }
-}
 
+    /**
+     * Appends the tasks whose queued write-behind status matches a status filter.
+     * 
+     * <p>The snapshot, the parallel scan and the database filter on the stored
+     * status, which does not include those tasks yet.</p>
+     * 
+     * @param tasks Tasks read with the status filter
+     * @param userId Optional user ID filter
+     * @param status Status filter
+     * @return Tasks including the ones with a matching pending status
+     */
+    private List<TaskDto> withPendingMatches(List<TaskDto> tasks, Long userId, TaskStatus status) {
+        List<Long> pendingIds = statusWriteBehind.pendingIds(status);
+        if (pendingIds.isEmpty()) {
+            return tasks;
+        }
+        Set<Long> found = new HashSet<>();
+        tasks.forEach(task -> found.add(task.id()));
+        long[] missingIds = pendingIds.stream()
+                .filter(id -> !found.contains(id))
+                .mapToLong(Long::longValue)
+                .toArray();
+        if (missingIds.length == 0) {
+            return tasks;
+        }
+        List<TaskDto> pendingTasks = readOnlyTransaction.execute(tx -> findAllByIdNewestFirst(missingIds, userId).stream()
+                .map(TaskMapper::toDto)
+                .toList());
+        if (pendingTasks.isEmpty()) {
+            return tasks;
+        }
+        List<TaskDto> combined = new ArrayList<>(tasks.size() + pendingTasks.size());
+        combined.addAll(tasks);
+        combined.addAll(pendingTasks);
+        return combined;
+    }
+
+    /**
+     * Appends the archived tasks of a user to a task list.
+     * 
+     * <p>A task archived between both reads would be in both lists; it is only
+     * kept once.</p>
+     * 
+     * @param hotTasks Tasks read from the tasks table or the snapshot
+     * @param userId User ID
+     * @return Combined list
+     */
+    private List<TaskDto> withArchivedTasks(List<TaskDto> hotTasks, Long userId) {
+        List<TaskDto> archivedTasks = readOnlyTransaction.execute(tx ->
+                archivedTaskRepository.findByUserId(userId)
+                        .stream()
+                        .map(TaskMapper::toDto)
+                        .toList());
+        if (archivedTasks.isEmpty()) {
+            return hotTasks;
+        }
+        Set<Long> hotIds = new HashSet<>();
+        hotTasks.forEach(task -> hotIds.add(task.id()));
+        List<TaskDto> tasks = new ArrayList<>(hotTasks.size() + archivedTasks.size());
+        tasks.addAll(hotTasks);
+        archivedTasks.stream().filter(task -> !hotIds.contains(task.id())).forEach(tasks::add);
+        return tasks;
+    }
+
+    /**
+     * Loads tasks from the database, using the task index when it is ready.
+     * 
+     * @param userId Optional user ID filter
+     * @param status Optional status filter
+     * @return Matching tasks; may contain tasks whose pending status no longer matches
+     */
+    private List<Task> findTasks(Long userId, TaskStatus status) {
+        if (userId != null && taskIdIndex.isReady()) {
+            return findAllByIdNewestFirst(taskIdIndex.findIds(userId, status), userId);
+        } else if (userId != null && status != null) {
+            return taskRepository.findByUserIdAndStatus(userId, status);
+        } else if (userId != null) {
+            return taskRepository.findByUserId(userId);
+        } else if (status != null) {
+            return taskRepository.findByStatus(status);
+        }
+        return taskRepository.findAll();
+    }
+
+    /**
+     * Loads tasks by ID in chunks, newest first. IDs without a row are skipped.
+     * 
+     * <p>The IDs may come from the task index, which is updated after commit and
+     * can briefly list a task that has since moved to another owner, so rows are
+     * checked against the owner.</p>
+     * 
+     * @param ids Task IDs
+     * @param userId Owner the tasks must belong to; null for any owner
+     * @return Tasks ordered by creation date descending
+     */
+    private List<Task> findAllByIdNewestFirst(long[] ids, Long userId) {
+        List<Task> tasks = new ArrayList<>(ids.length);
+        for (int from = 0; from < ids.length; from += ID_LOOKUP_CHUNK_SIZE) {
+            int to = Math.min(ids.length, from + ID_LOOKUP_CHUNK_SIZE);
+            for (Task task : taskRepository.findAllById(Arrays.stream(ids, from, to).boxed().toList())) {
+                if (userId == null || userId.equals(task.getUserId())) {
+                    tasks.add(task);
+                }
+            }
+        }
+        tasks.sort(Comparator.comparing(Task::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder())));
+        return tasks;
+    }
+}
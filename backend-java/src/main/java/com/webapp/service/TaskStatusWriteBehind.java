@@ -0,0 +1,386 @@
+package com.webapp.service;
+
+import com.webapp.enums.TaskStatus;
+import com.webapp.repository.TaskRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Opt-in write-behind queue for task status updates.
+ *
+ * <p>When enabled, a status change is acknowledged once it has been appended
+ * to a local journal and recorded in an in-memory overlay. A background job
+ * flushes the overlay in batched transactions, so repeated updates of the same
+ * task collapse into one write. Reads consult the overlay, so callers always
+ * see their own status changes. On startup the journal is replayed.</p>
+ *
+ * <p>Each pending change remembers the revision of the task it was requested
+ * on; the flush only applies it if the row was not modified afterwards by a
+ * regular update, which increments the revision. Changes dropped for that
+ * reason, or because the task was deleted, are logged and counted. A regular
+ * update or delete therefore claims the pending change of its task: it writes
+ * the effective status itself, and the change is dropped once it commits.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Component
+public class TaskStatusWriteBehind {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskStatusWriteBehind.class);
+    private static final long UNKNOWN_REVISION = -1;
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Path journalPath;
+    private final int batchSize;
+
+    private final ConcurrentHashMap<Long, PendingStatus> pending = new ConcurrentHashMap<>();
+    private final Object journalLock = new Object();
+    private final ReentrantReadWriteLock changeGate = new ReentrantReadWriteLock();
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private FileChannel journal;
+
+    /**
+     * Constructor with dependency injection.
+     *
+     * @param taskRepository Task repository
+     * @param transactionManager Transaction manager for flush batches
+     * @param enabled Whether write-behind is enabled
+     * @param journalPath Path of the journal file
+     * @param batchSize Maximum number of updates per flush transaction
+     */
+    @Autowired
+    public TaskStatusWriteBehind(TaskRepository taskRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.write-behind.enabled:false}") boolean enabled,
+                                 @Value("${app.write-behind.journal-path:./task-status.journal}") String journalPath,
+                                 @Value("${app.write-behind.batch-size:500}") int batchSize) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.journalPath = Paths.get(journalPath);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Replays the journal and opens it for appending.
+     *
+     * @throws IOException If the journal cannot be read or opened
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        if (Files.exists(journalPath)) {
+            for (String line : Files.readAllLines(journalPath, StandardCharsets.UTF_8)) {
+                String[] parts = line.split(",");
+                if (parts.length != 3 && parts.length != 4) {
+                    continue; // torn write at the end of the journal
+                }
+                try {
+                    long revision = parts.length == 4 ? Long.parseLong(parts[3]) : UNKNOWN_REVISION;
+                    pending.put(Long.parseLong(parts[0]),
+                            new PendingStatus(TaskStatus.valueOf(parts[1]), Long.parseLong(parts[2]), revision));
+                } catch (IllegalArgumentException ex) {
+                    logger.warn("Skipping malformed journal entry: {}", line);
+                }
+            }
+            logger.info("Replayed {} pending task status updates from {}", pending.size(), journalPath);
+        }
+        journal = FileChannel.open(journalPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Flushes remaining updates and closes the journal.
+     *
+     * @throws IOException If the journal cannot be closed
+     */
+    @PreDestroy
+    public void stop() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        flush();
+        synchronized (journalLock) {
+            journal.close();
+        }
+    }
+
+    /**
+     * Checks whether write-behind is enabled.
+     *
+     * @return true if status updates are deferred
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Durably records a status change for later flushing.
+     *
+     * @param taskId Task ID
+     * @param status New status
+     * @param revision Revision of the task the change was requested on
+     */
+    public void enqueue(Long taskId, TaskStatus status, long revision) {
+        PendingStatus change = new PendingStatus(status, System.currentTimeMillis(), revision);
+        byte[] entry = journalEntry(taskId, change).getBytes(StandardCharsets.UTF_8);
+        changeGate.readLock().lock();
+        try {
+            synchronized (journalLock) {
+                try {
+                    journal.write(ByteBuffer.wrap(entry));
+                    journal.force(false);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException("Failed to append to task status journal", ex);
+                }
+                pending.put(taskId, change);
+            }
+        } finally {
+            changeGate.readLock().unlock();
+        }
+        enqueued.increment();
+    }
+
+    /**
+     * Returns the effective status of a task, taking pending changes into account.
+     *
+     * @param taskId Task ID
+     * @param persisted Status as stored in the database
+     * @return Pending status if any, otherwise the persisted status
+     */
+    public TaskStatus effectiveStatus(Long taskId, TaskStatus persisted) {
+        if (!enabled) {
+            return persisted;
+        }
+        PendingStatus change = pending.get(taskId);
+        return change != null ? change.status() : persisted;
+    }
+
+    /**
+     * Returns the IDs of tasks with a pending change to the given status.
+     *
+     * @param status Pending status
+     * @return Task IDs
+     */
+    public List<Long> pendingIds(TaskStatus status) {
+        if (!enabled) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>();
+        pending.forEach((taskId, change) -> {
+            if (change.status() == status) {
+                ids.add(taskId);
+            }
+        });
+        return ids;
+    }
+
+    /**
+     * Claims the pending change of a task for a write in the current transaction.
+     *
+     * <p>The caller writes the returned status with its own update, or deletes
+     * the task. The claimed change is dropped once the transaction commits, and
+     * kept for the flush if it rolls back; a newer change is kept either way.</p>
+     *
+     * @param taskId Task ID
+     * @param persisted Status as stored in the database
+     * @return Pending status if any, otherwise the persisted status
+     */
+    public TaskStatus claim(Long taskId, TaskStatus persisted) {
+        if (!enabled) {
+            return persisted;
+        }
+        PendingStatus change = pending.get(taskId);
+        if (change == null) {
+            return persisted;
+        }
+        afterCommit(() -> pending.remove(taskId, change));
+        return change.status();
+    }
+
+    /**
+     * Holds off new status changes until the current transaction completes.
+     *
+     * <p>A caller that removes tasks takes this after its writes and then claims
+     * their pending changes, which can no longer change before it commits.</p>
+     *
+     * @throws IllegalStateException If no transaction is active
+     */
+    public void holdChangesUntilCompletion() {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Holding status changes requires an active transaction");
+        }
+        changeGate.writeLock().lock();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                changeGate.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Flushes pending changes in batched transactions and compacts the journal.
+     * Also called on demand, e.g. before a backup; concurrent calls run one after the other.
+     */
+    @Scheduled(fixedDelayString = "${app.write-behind.flush-interval-ms:200}")
+    public synchronized void flush() {
+        if (!enabled || pending.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, PendingStatus>> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+        for (Map.Entry<Long, PendingStatus> entry : pending.entrySet()) {
+            batch.add(Map.entry(entry.getKey(), entry.getValue()));
+            if (batch.size() == batchSize) {
+                flushBatch(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            flushBatch(batch);
+        }
+        compactJournal();
+    }
+
+    /**
+     * Returns write-behind statistics.
+     *
+     * @return Map of statistics
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("enabled", enabled);
+        statistics.put("pending", pending.size());
+        statistics.put("enqueued", enqueued.sum());
+        statistics.put("flushed", flushed.sum());
+        statistics.put("dropped", dropped.sum());
+        statistics.put("batches", batches.sum());
+        return statistics;
+    }
+
+    private void flushBatch(List<Map.Entry<Long, PendingStatus>> batch) {
+        List<Map.Entry<Long, PendingStatus>> rejected = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (Map.Entry<Long, PendingStatus> entry : batch) {
+                if (write(entry.getKey(), entry.getValue(), now) == 0) {
+                    rejected.add(entry);
+                }
+            }
+        });
+        for (Map.Entry<Long, PendingStatus> entry : batch) {
+            // Keep changes that were superseded while the batch was being written
+            pending.remove(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<Long, PendingStatus> entry : rejected) {
+            logger.warn("Dropped queued status {} for task {}: the task was modified or deleted after the change",
+                    entry.getValue().status(), entry.getKey());
+        }
+        flushed.add(batch.size() - rejected.size());
+        dropped.add(rejected.size());
+        batches.increment();
+        logger.debug("Flushed {} task status updates", batch.size() - rejected.size());
+    }
+
+    private int write(Long taskId, PendingStatus change, LocalDateTime now) {
+        if (change.revision() == UNKNOWN_REVISION) {
+            return taskRepository.updateStatusIfNotModifiedSince(taskId, change.status(),
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(change.requestedAt()), ZoneId.systemDefault()));
+        }
+        return taskRepository.updateStatusIfUnchanged(taskId, change.status(), change.revision(), now);
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    private static String journalEntry(Long taskId, PendingStatus change) {
+        return taskId + "," + change.status().name() + "," + change.requestedAt() + "," + change.revision() + "\n";
+    }
+
+    private void compactJournal() {
+        synchronized (journalLock) {
+            try {
+                Path compacted = journalPath.resolveSibling(journalPath.getFileName() + ".tmp");
+                StringBuilder content = new StringBuilder();
+                pending.forEach((taskId, change) -> content.append(journalEntry(taskId, change)));
+                try (FileChannel channel = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                    channel.write(ByteBuffer.wrap(content.toString().getBytes(StandardCharsets.UTF_8)));
+                    channel.force(true);
+                }
+                journal.close();
+                try {
+                    Files.move(compacted, journalPath, StandardCopyOption.REPLACE_EXISTING,
+                            StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    journal = FileChannel.open(journalPath,
+                            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                }
+            } catch (IOException ex) {
+                logger.error("Failed to compact task status journal", ex);
+            }
+        }
+    }
+
+    /**
+     * A status change waiting to be flushed.
+     *
+     * @param status New status
+     * @param requestedAt Epoch milliseconds when the change was requested
+     * @param revision Revision of the task the change was requested on; -1 for old journal entries
+     */
+    private record PendingStatus(TaskStatus status, long requestedAt, long revision) {
+    }
+}
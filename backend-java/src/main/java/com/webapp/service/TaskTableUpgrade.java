@@ -0,0 +1,180 @@
+package com.webapp.service;
+
+import com.webapp.enums.TaskStatus;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the SQLite tasks table in line with the task IDs and statuses in use.
+ *
+ * <p>Without AUTOINCREMENT, SQLite gives a new row the highest ID in the table
+ * plus one, so deleting the newest task would hand its ID, or that of an
+ * archived task, to the next one. Hibernate creates the tasks table without
+ * AUTOINCREMENT; at startup, a tasks table without it is rebuilt once with the
+ * same columns, foreign keys and indexes. The sequence is then moved past the
+ * highest archived ID, which is also needed after a restore.</p>
+ *
+ * <p>Hibernate also puts a check constraint on the status column, listing the
+ * statuses known when the table was created, and never updates it. SQLite
+ * cannot alter a constraint, so a table whose check misses a current status
+ * is rebuilt the same way, with a check listing all of them.</p>
+ *
+ * <p>Other databases keep a separate identity sequence and are left alone.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class TaskTableUpgrade {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskTableUpgrade.class);
+
+    private static final Pattern AUTOINCREMENT = Pattern.compile("\\bAUTOINCREMENT\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern CHECK = Pattern.compile("\\bCHECK\\b", Pattern.CASE_INSENSITIVE);
+
+    private static final String REBUILD_TABLE = "tasks_rebuild";
+    private static final String ADVANCE_SEQUENCE =
+            "UPDATE sqlite_sequence SET seq = MAX(seq, (SELECT COALESCE(MAX(id), 0) FROM tasks_archive)) "
+                    + "WHERE name = 'tasks'";
+    private static final String SEED_SEQUENCE =
+            "INSERT INTO sqlite_sequence (name, seq) SELECT 'tasks', COALESCE(MAX(id), 0) FROM tasks_archive "
+                    + "WHERE NOT EXISTS (SELECT 1 FROM sqlite_sequence WHERE name = 'tasks')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Constructor with dependency injection.
+     *
+     * @param jdbcTemplate JDBC template for the schema changes
+     * @param transactionManager Transaction manager for the rebuild transaction
+     */
+    @Autowired
+    public TaskTableUpgrade(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Rebuilds the tasks table if needed and advances its ID sequence.
+     */
+    @PostConstruct
+    public void upgrade() {
+        if (!isSqlite()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            List<String> definition = jdbcTemplate.queryForList(
+                    "SELECT sql FROM sqlite_master WHERE type = 'table' AND name = 'tasks'", String.class);
+            if (definition.isEmpty()) {
+                return;
+            }
+            if (!AUTOINCREMENT.matcher(definition.get(0)).find() || missesStatus(definition.get(0))) {
+                rebuild();
+            }
+            advanceSequence();
+        });
+    }
+
+    /**
+     * Moves the task ID sequence past the highest archived ID, so new tasks never reuse one.
+     * Runs in the caller's transaction; does nothing on databases other than SQLite.
+     */
+    public void advanceIdSequence() {
+        if (isSqlite()) {
+            advanceSequence();
+        }
+    }
+
+    private void advanceSequence() {
+        jdbcTemplate.update(ADVANCE_SEQUENCE);
+        jdbcTemplate.update(SEED_SEQUENCE);
+    }
+
+    private void rebuild() {
+        List<Map<String, Object>> columns = jdbcTemplate.queryForList("PRAGMA table_info(tasks)");
+        List<Map<String, Object>> foreignKeys = jdbcTemplate.queryForList("PRAGMA foreign_key_list(tasks)");
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT sql FROM sqlite_master WHERE type = 'index' AND tbl_name = 'tasks' AND sql IS NOT NULL",
+                String.class);
+
+        List<String> names = new ArrayList<>(columns.size());
+        List<String> definitions = new ArrayList<>(columns.size() + foreignKeys.size());
+        for (Map<String, Object> column : columns) {
+            String name = (String) column.get("name");
+            names.add(quote(name));
+            definitions.add(columnDefinition(name, column));
+        }
+        for (Map<String, Object> foreignKey : foreignKeys) {
+            definitions.add("FOREIGN KEY (" + quote((String) foreignKey.get("from")) + ") REFERENCES "
+                    + quote((String) foreignKey.get("table")) + " (" + quote((String) foreignKey.get("to")) + ")");
+        }
+        String columnList = String.join(", ", names);
+
+        jdbcTemplate.execute("CREATE TABLE " + REBUILD_TABLE + " (" + String.join(", ", definitions) + ")");
+        jdbcTemplate.execute("INSERT INTO " + REBUILD_TABLE + " (" + columnList + ") SELECT " + columnList
+                + " FROM tasks ORDER BY id");
+        jdbcTemplate.execute("DROP TABLE tasks");
+        jdbcTemplate.execute("ALTER TABLE " + REBUILD_TABLE + " RENAME TO tasks");
+        indexes.forEach(jdbcTemplate::execute);
+        logger.info("Rebuilt the tasks table with AUTOINCREMENT IDs and all task statuses ({} columns, {} indexes)",
+                columns.size(), indexes.size());
+    }
+
+    private static boolean missesStatus(String definition) {
+        if (!CHECK.matcher(definition).find()) {
+            return false;
+        }
+        return Arrays.stream(TaskStatus.values()).anyMatch(value -> !definition.contains("'" + value.name() + "'"));
+    }
+
+    private static String columnDefinition(String name, Map<String, Object> column) {
+        if ("id".equalsIgnoreCase(name)) {
+            return quote(name) + " INTEGER PRIMARY KEY AUTOINCREMENT";
+        }
+        StringBuilder definition = new StringBuilder(quote(name)).append(' ').append(column.get("type"));
+        if (((Number) column.get("notnull")).intValue() != 0) {
+            definition.append(" NOT NULL");
+        }
+        Object defaultValue = column.get("dflt_value");
+        if (defaultValue != null) {
+            definition.append(" DEFAULT ").append(defaultValue);
+        }
+        if ("status".equalsIgnoreCase(name)) {
+            // Same check constraint Hibernate creates for the enum column
+            definition.append(" CHECK (").append(quote(name)).append(" IN (")
+                    .append(Arrays.stream(TaskStatus.values())
+                            .map(value -> "'" + value.name() + "'")
+                            .collect(Collectors.joining(", ")))
+                    .append("))");
+        }
+        return definition.toString();
+    }
+
+    private boolean isSqlite() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return product != null && product.toLowerCase(Locale.ROOT).contains("sqlite");
+    }
+
+    private static String quote(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -1,19 +1,35 @@
 package com.webapp.service;
 
+import com.webapp.dto.MultiGetResponse;
+import com.webapp.dto.TaskDto;
 import com.webapp.dto.UserDto;
+import com.webapp.dto.UserWithTasksDto;
 import com.webapp.entity.User;
 import com.webapp.exception.InvalidRequestException;
 import com.webapp.exception.ResourceConflictException;
 import com.webapp.exception.ResourceNotFoundException;
+import com.webapp.mapper.TaskMapper;
+import com.webapp.mapper.UserMapper;
+import com.webapp.repository.ArchivedTaskRepository;
 import com.webapp.repository.UserRepository;
+import com.webapp.sharding.ShardedTaskStore;
+import com.webapp.snapshot.OffHeapSnapshotStore;
+import com.webapp.snapshot.Snapshot;
+import com.webapp.validation.DtoValidation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Service for user business logic.
@@ -29,68 +45,216 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
+    private static final int ID_LOOKUP_CHUNK_SIZE = 500;
+    private static final int MAX_LOOKUP_IDS = 1000;
 
     private final UserRepository userRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final GroupCommitCoordinator groupCommit;
+    private final EmailIndex emailIndex;
+    private final OffHeapSnapshotStore snapshotStore;
+    private final ShardedTaskStore shardedTasks;
+    private final TaskStatusWriteBehind statusWriteBehind;
+    private final TransactionTemplate readOnlyTransaction;
 
     /**
      * Constructor with dependency injection.
      * 
      * @param userRepository User repository
+     * @param archivedTaskRepository Repository of archived tasks, cleaned up when a user is deleted
+     * @param groupCommit Group commit coordinator for creations
+     * @param emailIndex In-memory email index
+     * @param snapshotStore Read-only snapshot store
+     * @param shardedTasks Sharded task store, cleaned up when a user is deleted
+     * @param statusWriteBehind Write-behind queue for task status updates
+     * @param transactionManager Transaction manager for reads that miss the snapshot
      */
     @Autowired
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository,
+                       ArchivedTaskRepository archivedTaskRepository,
+                       GroupCommitCoordinator groupCommit,
+                       EmailIndex emailIndex,
+                       OffHeapSnapshotStore snapshotStore,
+                       ShardedTaskStore shardedTasks,
+                       TaskStatusWriteBehind statusWriteBehind,
+                       PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.groupCommit = groupCommit;
+        this.emailIndex = emailIndex;
+        this.snapshotStore = snapshotStore;
+        this.shardedTasks = shardedTasks;
+        this.statusWriteBehind = statusWriteBehind;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     /**
      * Retrieves all users.
      * 
+     * <p>Served from the read-only snapshot when one is active.</p>
+     * 
      * @return List of all users as DTOs
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<UserDto> getAllUsers() {
         logger.debug("Retrieving all users");
-        List<User> users = userRepository.findAll();
-        return users.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        Snapshot snapshot = snapshotStore.current();
+        if (snapshot != null) {
+            return snapshot.findUsers();
+        }
+        return readOnlyTransaction.execute(tx -> userRepository.findAll().stream()
+                .map(UserMapper::toDto)
+                .toList());
     }
 
     /**
      * Retrieves a user by ID.
      * 
+     * <p>Served from the read-only snapshot when one is active and contains the user.</p>
+     * 
      * @param id User ID
      * @return User DTO
      * @throws ResourceNotFoundException If user not found
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public UserDto getUserById(Long id) {
         logger.debug("Retrieving user with ID: {}", id);
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("User with ID " + id + " not found"));
-        return convertToDto(user);
+        Snapshot snapshot = snapshotStore.current();
+        UserDto snapshotUser = snapshot != null ? snapshot.findUser(id) : null;
+        if (snapshotUser != null) {
+            return snapshotUser;
+        }
+        return readOnlyTransaction.execute(tx -> {
+            User user = userRepository.findById(id)
+                    .orElseThrow(() -> ResourceNotFoundException.user(id));
+            return UserMapper.toDto(user);
+        });
+    }
+
+    /**
+     * Retrieves several users by ID.
+     * 
+     * <p>Users are taken from the read-only snapshot when one is active; the
+     * remaining IDs are loaded in chunks with one query each.</p>
+     * 
+     * @param ids User IDs, at most 1000
+     * @return Found users in request order and the IDs without a user
+     * @throws InvalidRequestException If no or too many IDs are given
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public MultiGetResponse<UserDto> getUsersByIds(List<Long> ids) {
+        List<Long> distinctIds = validateLookupIds(ids);
+        logger.debug("Retrieving {} users by ID", distinctIds.size());
+        Map<Long, UserDto> found = new HashMap<>();
+        Snapshot snapshot = snapshotStore.current();
+        List<Long> misses = new ArrayList<>();
+        for (Long id : distinctIds) {
+            UserDto snapshotUser = snapshot != null ? snapshot.findUser(id) : null;
+            if (snapshotUser != null) {
+                found.put(id, snapshotUser);
+            } else {
+                misses.add(id);
+            }
+        }
+        if (!misses.isEmpty()) {
+            readOnlyTransaction.executeWithoutResult(tx -> {
+                for (int from = 0; from < misses.size(); from += ID_LOOKUP_CHUNK_SIZE) {
+                    List<Long> chunk = misses.subList(from, Math.min(misses.size(), from + ID_LOOKUP_CHUNK_SIZE));
+                    userRepository.findAllById(chunk).forEach(user -> found.put(user.getId(), UserMapper.toDto(user)));
+                }
+            });
+        }
+        return MultiGetResponse.of(distinctIds, found);
+    }
+
+    /**
+     * Retrieves a user by ID together with the user's tasks.
+     * 
+     * <p>Loads the user and the tasks with one fetch-join query, or from the
+     * read-only snapshot or the user's shard when those are active.</p>
+     * 
+     * @param id User ID
+     * @return User DTO with tasks, newest first
+     * @throws ResourceNotFoundException If user not found
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public UserWithTasksDto getUserWithTasks(Long id) {
+        logger.debug("Retrieving user with tasks for ID: {}", id);
+        Snapshot snapshot = snapshotStore.current();
+        UserDto snapshotUser = snapshot != null ? snapshot.findUser(id) : null;
+        if (snapshotUser != null) {
+            return withTasks(snapshotUser, snapshot.findTasks(id, null));
+        }
+        if (shardedTasks.isEnabled()) {
+            return withTasks(getUserById(id), shardedTasks.findByUser(id, null));
+        }
+        return readOnlyTransaction.execute(tx -> {
+            User user = userRepository.findByIdWithTasks(id)
+                    .orElseThrow(() -> ResourceNotFoundException.user(id));
+            return withTasks(UserMapper.toDto(user), user.getTasks().stream().map(TaskMapper::toDto).toList());
+        });
+    }
+
+    /**
+     * Retrieves all users together with their tasks.
+     * 
+     * <p>Tasks are loaded for batches of users with one {@code IN} query each,
+     * or from the read-only snapshot or the shards when those are active.</p>
+     * 
+     * @return List of users with tasks, newest first
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<UserWithTasksDto> getAllUsersWithTasks() {
+        logger.debug("Retrieving all users with tasks");
+        Snapshot snapshot = snapshotStore.current();
+        if (snapshot != null) {
+            return snapshot.findUsers().stream()
+                    .map(user -> withTasks(user, snapshot.findTasks(user.id(), null)))
+                    .toList();
+        }
+        if (shardedTasks.isEnabled()) {
+            List<UserDto> users = getAllUsers();
+            Map<Long, List<TaskDto>> tasksByUser = shardedTasks.findByUsers(users.stream().map(UserDto::id).toList());
+            return users.stream()
+                    .map(user -> withTasks(user, tasksByUser.getOrDefault(user.id(), List.of())))
+                    .toList();
+        }
+        return readOnlyTransaction.execute(tx -> userRepository.findAll().stream()
+                .map(user -> withTasks(UserMapper.toDto(user),
+                        user.getTasks().stream().map(TaskMapper::toDto).toList()))
+                .toList());
     }
 
     /**
      * Creates a new user with validation.
      * 
+     * <p>The write runs through the group commit coordinator, which owns the
+     * transaction and may share it with concurrent creations.</p>
+     * 
      * @param userDto User data
      * @return Created user DTO
      * @throws ResourceConflictException If email already exists
      * @throws InvalidRequestException If validation fails
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserDto createUser(UserDto userDto) {
-        logger.debug("Creating user with email: {}", userDto.getEmail());
-        validateUserData(userDto);
-        
-        if (userRepository.existsByEmail(userDto.getEmail())) {
-            throw new ResourceConflictException("User with email " + userDto.getEmail() + " already exists");
-        }
+        logger.debug("Creating user with email: {}", userDto.email());
+        DtoValidation.USER.validate(userDto);
         
-        User user = convertToEntity(userDto);
-        User savedUser = userRepository.save(user);
-        logger.info("Created user with ID: {}", savedUser.getId());
-        return convertToDto(savedUser);
+        return groupCommit.execute(() -> {
+            // The index answers the common "email is free" case without a query
+            if (emailIndex.mightContain(userDto.email()) && userRepository.existsByEmail(userDto.email())) {
+                throw ResourceConflictException.duplicateEmail(userDto.email());
+            }
+            
+            User user = UserMapper.toEntity(userDto);
+            User savedUser = userRepository.save(user);
+            emailIndex.add(savedUser.getEmail());
+            snapshotStore.invalidate();
+            logger.info("Created user with ID: {}", savedUser.getId());
+            return UserMapper.toDto(savedUser);
+        });
     }
 
     /**
@@ -105,30 +269,34 @@ public class UserService {
      */
     public UserDto updateUser(Long id, UserDto userDto) {
         logger.debug("Updating user with ID: {}", id);
+        DtoValidation.USER.validate(userDto);
         User user = userRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("User with ID " + id + " not found"));
+                .orElseThrow(() -> ResourceNotFoundException.user(id));
         
-        if (userDto.getEmail() != null) {
-            validateEmail(userDto.getEmail());
+        if (userDto.email() != null) {
             // Check if email is already taken by another user
-            userRepository.findByEmail(userDto.getEmail())
-                    .ifPresent(existingUser -> {
-                        if (!existingUser.getId().equals(id)) {
-                            throw new ResourceConflictException("User with email " + userDto.getEmail() + " already exists");
-                        }
-                    });
+            if (emailIndex.mightContain(userDto.email())) {
+                userRepository.findByEmail(userDto.email())
+                        .ifPresent(existingUser -> {
+                            if (!existingUser.getId().equals(id)) {
+                                throw ResourceConflictException.duplicateEmail(userDto.email());
+                            }
+                        });
+            }
         }
         
-        if (userDto.getEmail() != null) {
-            user.setEmail(userDto.getEmail());
+        if (userDto.email() != null) {
+            emailIndex.replace(user.getEmail(), userDto.email());
+            user.setEmail(userDto.email());
         }
-        if (userDto.getName() != null) {
-            user.setName(userDto.getName());
+        if (userDto.name() != null) {
+            user.setName(userDto.name());
         }
         
         User updatedUser = userRepository.save(user);
+        snapshotStore.invalidate();
         logger.info("Updated user with ID: {}", updatedUser.getId());
-        return convertToDto(updatedUser);
+        return UserMapper.toDto(updatedUser);
     }
 
     /**
@@ -140,66 +308,48 @@ public class UserService {
     public void deleteUser(Long id) {
         logger.debug("Deleting user with ID: {}", id);
         User user = userRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("User with ID " + id + " not found"));
+                .orElseThrow(() -> ResourceNotFoundException.user(id));
         userRepository.delete(user);
+        archivedTaskRepository.deleteByUserId(id);
+        emailIndex.removeAfterCommit(user.getEmail());
+        snapshotStore.invalidate();
+        shardedTasks.deleteByUserAfterCommit(id);
         logger.info("Deleted user with ID: {}", id);
     }
 
     /**
-     * Validates user data.
+     * Validates the IDs of a multi-get request.
      * 
-     * @param userDto User data to validate
-     * @throws InvalidRequestException If validation fails
+     * @param ids Requested IDs
+     * @return IDs without nulls and duplicates, in request order
+     * @throws InvalidRequestException If no or too many IDs are given
      */
-    private void validateUserData(UserDto userDto) {
-        if (userDto.getEmail() == null || userDto.getEmail().trim().isEmpty()) {
-            throw new InvalidRequestException("Email is required");
-        }
-        if (userDto.getName() == null || userDto.getName().trim().isEmpty()) {
-            throw new InvalidRequestException("Name is required");
+    private static List<Long> validateLookupIds(List<Long> ids) {
+        List<Long> distinctIds = ids == null ? List.of() : ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distinctIds.isEmpty()) {
+            throw InvalidRequestException.of("At least one ID is required");
         }
-        validateEmail(userDto.getEmail());
-    }
-
-    /**
-     * Validates email format.
-     * 
-     * @param email Email to validate
-     * @throws InvalidRequestException If email format is invalid
-     */
-    private void validateEmail(String email) {
-        String emailRegex = "^[^\\s@]+@[^\\s@]+\\.[^\\s@]+$";
-        if (!email.matches(emailRegex)) {
-            throw new InvalidRequestException("Invalid email format");
+        if (distinctIds.size() > MAX_LOOKUP_IDS) {
+            throw InvalidRequestException.of("At most " + MAX_LOOKUP_IDS + " IDs can be requested at once");
         }
+        return distinctIds;
     }
 
     /**
-     * Converts User entity to UserDto.
-     * 
-     * @param user User entity
-     * @return UserDto
-     */
-    private UserDto convertToDto(User user) {
-        UserDto dto = new UserDto();
-        dto.setId(user.getId());
-        dto.setEmail(user.getEmail());
-        dto.setName(user.getName());
-        return dto;
-    }
-
-    /**
-     * Converts UserDto to User entity.
+     * Combines a user with its tasks, applying status updates that are not yet flushed.
      * 
-     * @param userDto UserDto
-     * @return User entity
+     * @param user User DTO
+     * @param tasks User's tasks as stored
+     * @return UserWithTasksDto
      */
-    private User convertToEntity(UserDto userDto) {
-        User user = new User();
-        user.setEmail(userDto.getEmail());
-        user.setName(userDto.getName());
-        return user;
+    private UserWithTasksDto withTasks(UserDto user, List<TaskDto> tasks) {
+        List<TaskDto> effectiveTasks = tasks.stream()
+                .map(task -> new TaskDto(task.id(), task.title(), task.description(),
+                        statusWriteBehind.effectiveStatus(task.id(), task.status()), task.userId(), task.dueAt()))
+                .toList();
+        return new UserWithTasksDto(user.id(), user.email(), user.name(), effectiveTasks);
     }
 }
-
-
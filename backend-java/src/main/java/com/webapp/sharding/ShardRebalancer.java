@@ -0,0 +1,80 @@
+package com.webapp.sharding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Moves tasks to the shard their owner currently maps to.
+ *
+ * <p>Needed after enabling sharding, to move the tasks still on the primary,
+ * and after appending a shard, which takes over part of the users of every
+ * existing shard. Every database is scanned in ID order in chunks; each chunk's
+ * misplaced rows are locked and read again on the source, copied to their target
+ * under the same ID and then deleted from the source. Tasks stay readable throughout, since user-scoped reads also
+ * cover the previous locations until a run completes; running it again after an
+ * interruption finishes the job.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Component
+public class ShardRebalancer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardRebalancer.class);
+    private static final int CHUNK_SIZE = 500;
+
+    private final ShardedTaskStore store;
+
+    /**
+     * Constructor with dependency injection.
+     *
+     * @param store Sharded task store
+     */
+    @Autowired
+    public ShardRebalancer(ShardedTaskStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Moves every misplaced task to its owner's shard.
+     *
+     * @return Number of tasks moved away from each database, keyed by "primary" or "shard-N"
+     */
+    public Map<String, Long> rebalance() {
+        if (!store.isEnabled()) {
+            throw new IllegalStateException("Sharding is not enabled");
+        }
+        Map<String, Long> moved = new LinkedHashMap<>();
+        for (TaskShard source : store.sources()) {
+            long count = 0;
+            long afterId = 0;
+            List<TaskShard.TaskRow> chunk;
+            do {
+                chunk = source.findPage(afterId, CHUNK_SIZE);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                afterId = chunk.get(chunk.size() - 1).id();
+                Map<TaskShard, List<TaskShard.TaskRow>> misplaced = chunk.stream()
+                        .filter(row -> store.shardFor(row.userId()) != source)
+                        .collect(Collectors.groupingBy(row -> store.shardFor(row.userId())));
+                for (Map.Entry<TaskShard, List<TaskShard.TaskRow>> entry : misplaced.entrySet()) {
+                    count += store.move(source, entry.getKey(),
+                            entry.getValue().stream().map(TaskShard.TaskRow::id).toList());
+                }
+            } while (chunk.size() == CHUNK_SIZE);
+            String name = source.getNumber() == 0 ? "primary" : "shard-" + source.getNumber();
+            moved.put(name, count);
+            logger.info("Rebalanced {}: moved {} tasks", name, count);
+        }
+        store.rebalanced();
+        return moved;
+    }
+}
@@ -0,0 +1,70 @@
+package com.webapp.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Consistent hash ring mapping user IDs to shard numbers.
+ *
+ * <p>Every shard is placed on the ring many times ("virtual nodes"), so users
+ * spread evenly and adding a shard only moves about 1/N of the users. Ring
+ * positions depend on the shard number alone, so shards must only ever be
+ * appended to the configuration, never reordered or removed.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+public final class ShardRouter {
+
+    private final TreeMap<Long, Integer> ring = new TreeMap<>();
+
+    /**
+     * Builds the ring.
+     *
+     * @param shardCount Number of shards, numbered from 1
+     * @param virtualNodes Ring positions per shard
+     */
+    public ShardRouter(int shardCount, int virtualNodes) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        for (int shard = 1; shard <= shardCount; shard++) {
+            for (int node = 0; node < virtualNodes; node++) {
+                ring.put(hash("shard-" + shard + "#" + node), shard);
+            }
+        }
+    }
+
+    /**
+     * Returns the shard owning a user's tasks.
+     *
+     * @param userId User ID
+     * @return Shard number, starting at 1
+     */
+    public int shardForUser(long userId) {
+        Map.Entry<Long, Integer> owner = ring.ceilingEntry(mix(userId));
+        return owner != null ? owner.getValue() : ring.firstEntry().getValue();
+    }
+
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Finalization step of MurmurHash3, spreading sequential IDs over the whole ring.
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,735 @@
+package com.webapp.sharding;
+
+import com.webapp.dto.TaskDto;
+import com.webapp.enums.TaskStatus;
+import com.webapp.exception.ResourceNotFoundException;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Opt-in horizontal partitioning of the tasks table by user.
+ *
+ * <p>When enabled, tasks live in the configured shard databases instead of the
+ * primary; users stay on the primary. A consistent hash of the user ID picks the
+ * shard holding all of a user's tasks, so once rebalanced, user-scoped reads and
+ * all writes touch exactly one shard and writes to different shards do not wait
+ * for each other. Unscoped reads query every shard in parallel and merge the
+ * results by ID.</p>
+ *
+ * <p>Tasks created before sharding was enabled stay on the primary, and tasks of
+ * users taken over by an appended shard stay on their previous shard, until
+ * {@link ShardRebalancer} moves them. Until a rebalance over the current shards
+ * has completed, which is recorded in the first shard, user-scoped reads and
+ * deletes also cover these previous locations. The primary is consulted for
+ * every lookup by ID that misses the shards. Shards may only be appended to
+ * {@code app.sharding.urls}; after appending one, run the rebalancer.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Component
+public class ShardedTaskStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardedTaskStore.class);
+
+    private static final int LOOKUP_CHUNK_SIZE = 500;
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
+    private static final String CREATE_TABLE = """
+            CREATE TABLE IF NOT EXISTS tasks (
+                id INTEGER PRIMARY KEY AUTOINCREMENT,
+                title VARCHAR(255) NOT NULL,
+                description TEXT,
+                status VARCHAR(255) NOT NULL,
+                user_id BIGINT NOT NULL,
+                due_at TIMESTAMP,
+                created_at TIMESTAMP NOT NULL,
+                updated_at TIMESTAMP NOT NULL
+            )""";
+    private static final String CREATE_USER_INDEX =
+            "CREATE INDEX IF NOT EXISTS idx_tasks_user_id ON tasks (user_id, created_at)";
+    private static final String CREATE_LAYOUT_TABLE = """
+            CREATE TABLE IF NOT EXISTS shard_layout (
+                id INTEGER PRIMARY KEY CHECK (id = 1),
+                rebalanced_shards INTEGER NOT NULL
+            )""";
+    private static final String SEED_SEQUENCE =
+            "INSERT INTO sqlite_sequence (name, seq) SELECT 'tasks', ? "
+                    + "WHERE NOT EXISTS (SELECT 1 FROM sqlite_sequence WHERE name = 'tasks')";
+
+    private final DataSource primaryDataSource;
+    private final boolean enabled;
+    private final List<String> urls;
+    private final int virtualNodes;
+    private final int poolSize;
+    private final List<String> incompatibleFeatures = new ArrayList<>();
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private final List<TaskShard> shards = new ArrayList<>();
+    private TaskShard primary;
+    private final List<ShardRouter> routers = new ArrayList<>();
+    private volatile int rebalancedShards;
+    private ExecutorService queryExecutor;
+
+    private final LongAdder routedReads = new LongAdder();
+    private final LongAdder scatterReads = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder primaryFallbacks = new LongAdder();
+
+    /**
+     * Constructor with dependency injection.
+     *
+     * @param primaryDataSource Application data source, holding tasks created before sharding
+     * @param enabled Whether tasks are sharded
+     * @param urls JDBC URLs of the shards, in append-only order
+     * @param virtualNodes Ring positions per shard
+     * @param poolSize Maximum connections per shard
+     * @param writeBehindEnabled Whether status write-behind is enabled
+     * @param taskIndexEnabled Whether the task ID index is enabled
+     * @param snapshotEnabled Whether the read-only snapshot is enabled
+     * @param backupEndpointEnabled Whether the backup endpoint is enabled
+     */
+    @Autowired
+    public ShardedTaskStore(DataSource primaryDataSource,
+                            @Value("${app.sharding.enabled:false}") boolean enabled,
+                            @Value("${app.sharding.urls:}") List<String> urls,
+                            @Value("${app.sharding.virtual-nodes:128}") int virtualNodes,
+                            @Value("${app.sharding.pool-size:4}") int poolSize,
+                            @Value("${app.write-behind.enabled:false}") boolean writeBehindEnabled,
+                            @Value("${app.task-index.enabled:false}") boolean taskIndexEnabled,
+                            @Value("${app.read-only-snapshot.enabled:false}") boolean snapshotEnabled,
+                            @Value("${app.backup.endpoint.enabled:false}") boolean backupEndpointEnabled) {
+        this.primaryDataSource = primaryDataSource;
+        this.enabled = enabled;
+        this.urls = urls.stream().map(String::trim).filter(url -> !url.isEmpty()).toList();
+        this.virtualNodes = Math.max(1, virtualNodes);
+        this.poolSize = Math.max(1, poolSize);
+        if (writeBehindEnabled) {
+            incompatibleFeatures.add("app.write-behind.enabled");
+        }
+        if (taskIndexEnabled) {
+            incompatibleFeatures.add("app.task-index.enabled");
+        }
+        if (snapshotEnabled) {
+            incompatibleFeatures.add("app.read-only-snapshot.enabled");
+        }
+        if (backupEndpointEnabled) {
+            incompatibleFeatures.add("app.backup.endpoint.enabled");
+        }
+    }
+
+    /**
+     * Opens the shards and creates their schema.
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        if (urls.isEmpty()) {
+            throw new IllegalStateException("app.sharding.urls must list at least one shard");
+        }
+        if (!incompatibleFeatures.isEmpty()) {
+            // These features read or write the tasks table of the primary directly
+            throw new IllegalStateException("Sharding cannot be combined with " + incompatibleFeatures);
+        }
+        primary = new TaskShard(0, new JdbcTemplate(primaryDataSource),
+                newTransactionTemplate(primaryDataSource));
+        for (int i = 0; i < urls.size(); i++) {
+            int number = i + 1;
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(urls.get(i))
+                    .build();
+            dataSource.setPoolName("shard-" + number);
+            dataSource.setMaximumPoolSize(poolSize);
+            pools.add(dataSource);
+            TaskShard shard = new TaskShard(number, new JdbcTemplate(dataSource), newTransactionTemplate(dataSource));
+            initializeSchema(shard);
+            shards.add(shard);
+        }
+        for (int count = 1; count <= shards.size(); count++) {
+            // Ring positions only depend on the shard number, so these are the layouts of earlier configurations
+            routers.add(new ShardRouter(count, virtualNodes));
+        }
+        JdbcTemplate layout = shards.get(0).getJdbcTemplate();
+        layout.execute(CREATE_LAYOUT_TABLE);
+        List<Integer> recorded = layout.queryForList("SELECT rebalanced_shards FROM shard_layout", Integer.class);
+        rebalancedShards = recorded.isEmpty() ? 0 : recorded.get(0);
+        AtomicInteger threadNumber = new AtomicInteger();
+        queryExecutor = Executors.newFixedThreadPool(shards.size() + 1, runnable -> {
+            Thread thread = new Thread(runnable, "shard-query-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        logger.info("Sharding tasks over {} shards", shards.size());
+        if (rebalancedShards != shards.size()) {
+            logger.warn("Tasks were last rebalanced over {} shards; user-scoped reads also cover previous "
+                    + "locations until POST /admin/shards/rebalance completes", rebalancedShards);
+        }
+    }
+
+    /**
+     * Stops the query threads and closes the shard connection pools.
+     */
+    @PreDestroy
+    public void stop() {
+        if (!enabled) {
+            return;
+        }
+        queryExecutor.shutdownNow();
+        pools.forEach(HikariDataSource::close);
+    }
+
+    /**
+     * Checks whether tasks are sharded.
+     *
+     * @return true if tasks are stored in the shards
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Retrieves a user's tasks from the user's shard, newest first.
+     *
+     * <p>Until the shards are rebalanced, the user's previous locations are read
+     * as well.</p>
+     *
+     * @param userId User ID
+     * @param status Optional status filter
+     * @return List of tasks as DTOs
+     */
+    public List<TaskDto> findByUser(long userId, TaskStatus status) {
+        List<TaskShard> locations = locationsFor(userId);
+        if (locations.size() == 1) {
+            routedReads.increment();
+            return locations.get(0).findByUser(userId, status).stream()
+                    .map(TaskShard.TaskRow::toDto)
+                    .toList();
+        }
+        scatterReads.increment();
+        List<Future<List<TaskShard.TaskRow>>> futures = new ArrayList<>(locations.size());
+        for (TaskShard location : locations) {
+            futures.add(queryExecutor.submit(() -> location.findByUser(userId, status)));
+        }
+        List<TaskShard.TaskRow> rows = new ArrayList<>();
+        for (Future<List<TaskShard.TaskRow>> future : futures) {
+            rows.addAll(await(future));
+        }
+        return newestFirst(rows);
+    }
+
+    /**
+     * Retrieves the tasks of several users, querying the shards involved in parallel.
+     *
+     * @param userIds User IDs
+     * @return Tasks per user ID, newest first; users without tasks are missing
+     */
+    public Map<Long, List<TaskDto>> findByUsers(Collection<Long> userIds) {
+        scatterReads.increment();
+        Map<TaskShard, List<Long>> usersByShard = new LinkedHashMap<>();
+        userIds.stream().distinct().forEach(userId -> locationsFor(userId).forEach(location ->
+                usersByShard.computeIfAbsent(location, shard -> new ArrayList<>()).add(userId)));
+        Map<Long, List<TaskShard.TaskRow>> rowsByUser = new HashMap<>();
+        for (TaskShard.TaskRow row : queryInChunks(usersByShard, TaskShard::findByUsers)) {
+            rowsByUser.computeIfAbsent(row.userId(), userId -> new ArrayList<>()).add(row);
+        }
+        Map<Long, List<TaskDto>> tasksByUser = new HashMap<>();
+        rowsByUser.forEach((userId, rows) -> tasksByUser.put(userId, newestFirst(rows)));
+        return tasksByUser;
+    }
+
+    /**
+     * Retrieves several tasks by ID, querying their home shards in parallel.
+     *
+     * @param ids Task IDs
+     * @return Found tasks by ID
+     */
+    public Map<Long, TaskDto> findByIds(Collection<Long> ids) {
+        routedReads.increment();
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        Map<TaskShard, List<Long>> idsByHome = distinctIds.stream()
+                .collect(Collectors.groupingBy(this::homeShardOf));
+        Map<Long, TaskDto> found = new HashMap<>();
+        queryInChunks(idsByHome, TaskShard::findByIds).forEach(row -> found.put(row.id(), row.toDto()));
+        List<Long> missing = distinctIds.stream().filter(id -> !found.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            // Tasks moved to another owner's shard, or not existing at all
+            primaryFallbacks.increment();
+            Map<TaskShard, List<Long>> everywhere = new LinkedHashMap<>();
+            sources().forEach(source -> everywhere.put(source, missing));
+            queryInChunks(everywhere, TaskShard::findByIds).forEach(row -> found.putIfAbsent(row.id(), row.toDto()));
+        }
+        return found;
+    }
+
+    /**
+     * Retrieves tasks from all shards and the primary in parallel, ordered by ID.
+     *
+     * @param status Optional status filter
+     * @return List of tasks as DTOs
+     */
+    public List<TaskDto> findAll(TaskStatus status) {
+        scatterReads.increment();
+        List<Future<List<TaskShard.TaskRow>>> futures = new ArrayList<>();
+        for (TaskShard source : sources()) {
+            futures.add(queryExecutor.submit(() -> source.findAllOrderedById(status)));
+        }
+        List<List<TaskShard.TaskRow>> results = new ArrayList<>(futures.size());
+        for (Future<List<TaskShard.TaskRow>> future : futures) {
+            results.add(await(future));
+        }
+        return mergeById(results);
+    }
+
+    /**
+     * Retrieves a task by ID, looking at its home shard first.
+     *
+     * @param id Task ID
+     * @return Task DTO
+     * @throws ResourceNotFoundException If task not found
+     */
+    public TaskDto findById(long id) {
+        routedReads.increment();
+        return locate(id).row().toDto();
+    }
+
+    /**
+     * Inserts a task into its user's shard.
+     *
+     * @param task Validated task data
+     * @return Created task DTO
+     */
+    public TaskDto create(TaskDto task) {
+        TaskShard shard = shardFor(task.userId());
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        TaskStatus status = task.status() != null ? task.status() : TaskStatus.PENDING;
+        Timestamp dueAt = task.dueAt() != null ? Timestamp.valueOf(task.dueAt()) : null;
+        Long id = shard.getTransactionTemplate().execute(tx -> {
+            shard.getJdbcTemplate().update(
+                    "INSERT INTO tasks (title, description, status, user_id, due_at, created_at, updated_at) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    task.title(), task.description(), status.name(), task.userId(), dueAt, now, now);
+            return shard.getJdbcTemplate().queryForObject("SELECT last_insert_rowid()", Long.class);
+        });
+        writes.increment();
+        logger.info("Created task with ID: {} on shard {}", id, shard.getNumber());
+        return new TaskDto(id, task.title(), task.description(), status, task.userId(), task.dueAt());
+    }
+
+    /**
+     * Applies the non-null fields of a partial update.
+     *
+     * <p>If the task changes owner and the new owner lives on another shard, the
+     * row is copied to that shard under the same ID and then removed from the old
+     * one. The copy commits first; a failure before the removal commits leaves a
+     * duplicate that reads collapse by ID and the rebalancer cleans up.</p>
+     *
+     * @param id Task ID
+     * @param changes Validated partial task data
+     * @return Updated task DTO
+     * @throws ResourceNotFoundException If task not found
+     */
+    public TaskDto update(long id, TaskDto changes) {
+        TaskShard.TaskRow updated = modify(id, current -> new TaskShard.TaskRow(
+                id,
+                changes.title() != null ? changes.title() : current.title(),
+                changes.description() != null ? changes.description() : current.description(),
+                changes.status() != null ? changes.status() : current.status(),
+                changes.userId() != null ? changes.userId() : current.userId(),
+                changes.dueAt() != null ? Timestamp.valueOf(changes.dueAt()) : current.dueAt(),
+                current.createdAt(),
+                new Timestamp(System.currentTimeMillis())));
+        logger.info("Updated task with ID: {}", id);
+        return updated.toDto();
+    }
+
+    /**
+     * Updates the status of a task.
+     *
+     * @param id Task ID
+     * @param status New status
+     * @return Updated task DTO
+     * @throws ResourceNotFoundException If task not found
+     */
+    public TaskDto updateStatus(long id, TaskStatus status) {
+        return modify(id, current -> new TaskShard.TaskRow(id, current.title(), current.description(), status,
+                current.userId(), current.dueAt(), current.createdAt(), new Timestamp(System.currentTimeMillis()))).toDto();
+    }
+
+    /**
+     * Deletes a task.
+     *
+     * @param id Task ID
+     * @throws ResourceNotFoundException If task not found
+     */
+    public void delete(long id) {
+        for (int attempt = 0; attempt < MAX_WRITE_ATTEMPTS; attempt++) {
+            TaskShard source = locate(id).shard();
+            int deleted = source.getTransactionTemplate().execute(tx ->
+                    source.getJdbcTemplate().update("DELETE FROM tasks WHERE id = ?", id));
+            if (deleted > 0) {
+                writes.increment();
+                return;
+            }
+            // Moved since it was located; look it up again
+        }
+        throw ResourceNotFoundException.task(id);
+    }
+
+    /**
+     * Deletes a user's tasks from every location that may hold them once the current transaction commits.
+     *
+     * @param userId User ID
+     */
+    public void deleteByUserAfterCommit(long userId) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteByUser(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteByUser(userId);
+            }
+        });
+    }
+
+    /**
+     * Returns sharding statistics.
+     *
+     * @return Map of statistics
+     */
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("enabled", enabled);
+        statistics.put("shards", shards.size());
+        statistics.put("routedReads", routedReads.sum());
+        statistics.put("scatterReads", scatterReads.sum());
+        statistics.put("writes", writes.sum());
+        statistics.put("primaryFallbacks", primaryFallbacks.sum());
+        return statistics;
+    }
+
+    /**
+     * Returns the shard owning a user's tasks.
+     *
+     * @param userId User ID
+     * @return Shard
+     */
+    TaskShard shardFor(long userId) {
+        return shards.get(routers.get(shards.size() - 1).shardForUser(userId) - 1);
+    }
+
+    /**
+     * Returns every database that may hold a user's tasks: the owning shard, and
+     * until the shards are rebalanced, the owners under the earlier shard counts
+     * and the primary.
+     *
+     * @param userId User ID
+     * @return Owning shard first, then the previous locations
+     */
+    List<TaskShard> locationsFor(long userId) {
+        TaskShard owner = shardFor(userId);
+        int rebalanced = rebalancedShards;
+        if (rebalanced >= shards.size()) {
+            return List.of(owner);
+        }
+        List<TaskShard> locations = new ArrayList<>(2);
+        locations.add(owner);
+        for (int count = Math.max(1, rebalanced); count < shards.size(); count++) {
+            TaskShard previous = shards.get(routers.get(count - 1).shardForUser(userId) - 1);
+            if (!locations.contains(previous)) {
+                locations.add(previous);
+            }
+        }
+        if (rebalanced == 0) {
+            locations.add(primary);
+        }
+        return locations;
+    }
+
+    /**
+     * Records that every task is stored on its owner's shard, so user-scoped
+     * reads only query that shard from now on.
+     */
+    void rebalanced() {
+        shards.get(0).getJdbcTemplate().update(
+                "INSERT OR REPLACE INTO shard_layout (id, rebalanced_shards) VALUES (1, ?)", shards.size());
+        rebalancedShards = shards.size();
+    }
+
+    /**
+     * Returns the primary followed by all shards.
+     *
+     * @return Every database that may hold tasks
+     */
+    List<TaskShard> sources() {
+        List<TaskShard> sources = new ArrayList<>(shards.size() + 1);
+        sources.add(primary);
+        sources.addAll(shards);
+        return sources;
+    }
+
+    /**
+     * Moves tasks to a shard under their IDs.
+     *
+     * <p>The rows are locked and read again in a transaction on the source, then
+     * copied to the target and deleted from the source before that transaction
+     * commits, so an update made after the caller read them is moved along
+     * instead of being overwritten. Rows that were deleted or no longer belong
+     * on the target are left alone.</p>
+     *
+     * @param source Shard currently holding the rows
+     * @param target Shard that should hold the rows
+     * @param ids IDs of the tasks to move
+     * @return Number of moved tasks
+     */
+    int move(TaskShard source, TaskShard target, List<Long> ids) {
+        return source.getTransactionTemplate().execute(tx -> {
+            source.lock(ids);
+            List<TaskShard.TaskRow> rows = source.findByIds(ids).stream()
+                    .filter(row -> shardFor(row.userId()) == target)
+                    .toList();
+            if (!rows.isEmpty()) {
+                copy(target, rows);
+                source.delete(rows);
+            }
+            return rows.size();
+        });
+    }
+
+    /**
+     * Applies a change to a task in one transaction on the shard holding it.
+     *
+     * <p>The row is locked and read again in that transaction, so concurrent
+     * changes are not overwritten. If the new owner lives on another shard, the
+     * changed row is copied there and deleted from its source before the source
+     * transaction commits. A task moved since it was located is looked up again.</p>
+     *
+     * @param id Task ID
+     * @param change Builds the changed row from the current one
+     * @return Changed row
+     * @throws ResourceNotFoundException If task not found
+     */
+    private TaskShard.TaskRow modify(long id, UnaryOperator<TaskShard.TaskRow> change) {
+        for (int attempt = 0; attempt < MAX_WRITE_ATTEMPTS; attempt++) {
+            TaskShard source = locate(id).shard();
+            TaskShard.TaskRow updated = source.getTransactionTemplate().execute(tx -> {
+                source.lock(List.of(id));
+                TaskShard.TaskRow current = source.findById(id);
+                if (current == null) {
+                    return null;
+                }
+                TaskShard.TaskRow row = change.apply(current);
+                TaskShard target = shardFor(row.userId());
+                if (target == source) {
+                    source.getJdbcTemplate().update("UPDATE tasks SET title = ?, description = ?, status = ?, "
+                                    + "user_id = ?, due_at = ?, updated_at = ? WHERE id = ?",
+                            row.title(), row.description(), row.status().name(), row.userId(), row.dueAt(),
+                            row.updatedAt(), id);
+                } else {
+                    copy(target, List.of(row));
+                    source.delete(List.of(row));
+                }
+                return row;
+            });
+            if (updated != null) {
+                writes.increment();
+                return updated;
+            }
+            // Moved since it was located; look it up again
+        }
+        throw ResourceNotFoundException.task(id);
+    }
+
+    /**
+     * Writes rows to a shard under their IDs, replacing any earlier copy.
+     *
+     * @param target Shard that should hold the rows
+     * @param rows Rows as they should be stored on the target
+     */
+    private void copy(TaskShard target, List<TaskShard.TaskRow> rows) {
+        target.getTransactionTemplate().executeWithoutResult(tx -> {
+            target.getJdbcTemplate().batchUpdate("DELETE FROM tasks WHERE id = ?",
+                    rows.stream().map(row -> new Object[] {row.id()}).toList());
+            target.insert(rows);
+            // Rows from a higher ID range must not drag the target's own sequence along
+            long base = TaskShard.idBase(target.getNumber());
+            target.getJdbcTemplate().update(
+                    "UPDATE sqlite_sequence SET seq = (SELECT COALESCE(MAX(id), ?) FROM tasks WHERE id >= ? AND id < ?) "
+                            + "WHERE name = 'tasks'",
+                    base, base, TaskShard.idBase(target.getNumber() + 1));
+        });
+    }
+
+    private TaskShard homeShardOf(long taskId) {
+        int home = TaskShard.homeShard(taskId);
+        return home >= 1 && home <= shards.size() ? shards.get(home - 1) : primary;
+    }
+
+    private List<TaskShard.TaskRow> queryInChunks(Map<TaskShard, List<Long>> keysByShard,
+                                                  BiFunction<TaskShard, List<Long>, List<TaskShard.TaskRow>> query) {
+        List<Future<List<TaskShard.TaskRow>>> futures = new ArrayList<>();
+        keysByShard.forEach((shard, keys) -> {
+            for (int from = 0; from < keys.size(); from += LOOKUP_CHUNK_SIZE) {
+                List<Long> chunk = keys.subList(from, Math.min(keys.size(), from + LOOKUP_CHUNK_SIZE));
+                futures.add(queryExecutor.submit(() -> query.apply(shard, chunk)));
+            }
+        });
+        List<TaskShard.TaskRow> rows = new ArrayList<>();
+        for (Future<List<TaskShard.TaskRow>> future : futures) {
+            rows.addAll(await(future));
+        }
+        return rows;
+    }
+
+    private void deleteByUser(long userId) {
+        for (TaskShard location : locationsFor(userId)) {
+            location.getTransactionTemplate().executeWithoutResult(tx ->
+                    location.getJdbcTemplate().update("DELETE FROM tasks WHERE user_id = ?", userId));
+        }
+    }
+
+    private Located locate(long id) {
+        int home = TaskShard.homeShard(id);
+        TaskShard homeShard = home >= 1 && home <= shards.size() ? shards.get(home - 1) : null;
+        if (homeShard != null) {
+            TaskShard.TaskRow row = homeShard.findById(id);
+            if (row != null) {
+                return new Located(homeShard, row);
+            }
+        }
+        // Tasks created before sharding, or moved to another owner's shard
+        primaryFallbacks.increment();
+        for (TaskShard source : sources()) {
+            if (source == homeShard) {
+                continue;
+            }
+            TaskShard.TaskRow row = source.findById(id);
+            if (row != null) {
+                return new Located(source, row);
+            }
+        }
+        throw ResourceNotFoundException.task(id);
+    }
+
+    private void initializeSchema(TaskShard shard) {
+        JdbcTemplate jdbcTemplate = shard.getJdbcTemplate();
+        // WAL lets the shard serve reads while its writer commits
+        jdbcTemplate.execute("PRAGMA journal_mode=WAL");
+        jdbcTemplate.execute(CREATE_TABLE);
+        boolean hasDueAt = jdbcTemplate.queryForList("PRAGMA table_info(tasks)").stream()
+                .anyMatch(column -> "due_at".equalsIgnoreCase((String) column.get("name")));
+        if (!hasDueAt) {
+            // Shards created before tasks had a due date
+            jdbcTemplate.execute("ALTER TABLE tasks ADD COLUMN due_at TIMESTAMP");
+        }
+        jdbcTemplate.execute(CREATE_USER_INDEX);
+        jdbcTemplate.update(SEED_SEQUENCE, TaskShard.idBase(shard.getNumber()));
+    }
+
+    private static TransactionTemplate newTransactionTemplate(DataSource dataSource) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        // Shard work may run inside or after a JPA transaction on the primary
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate;
+    }
+
+    private static List<TaskDto> mergeById(List<List<TaskShard.TaskRow>> results) {
+        int[] positions = new int[results.size()];
+        int total = results.stream().mapToInt(List::size).sum();
+        List<TaskDto> merged = new ArrayList<>(total);
+        long lastId = Long.MIN_VALUE;
+        while (true) {
+            int next = -1;
+            for (int i = 0; i < results.size(); i++) {
+                if (positions[i] < results.get(i).size() && (next < 0
+                        || results.get(i).get(positions[i]).id() < results.get(next).get(positions[next]).id())) {
+                    next = i;
+                }
+            }
+            if (next < 0) {
+                return merged;
+            }
+            TaskShard.TaskRow row = results.get(next).get(positions[next]++);
+            if (row.id() != lastId) { // a task caught mid-move is on two shards
+                merged.add(row.toDto());
+                lastId = row.id();
+            }
+        }
+    }
+
+    /**
+     * Collapses rows found in several locations by ID, keeping the most recently
+     * updated copy, and orders them newest first.
+     */
+    private static List<TaskDto> newestFirst(List<TaskShard.TaskRow> rows) {
+        Map<Long, TaskShard.TaskRow> byId = new HashMap<>();
+        for (TaskShard.TaskRow row : rows) {
+            byId.merge(row.id(), row, (kept, other) -> other.updatedAt().after(kept.updatedAt()) ? other : kept);
+        }
+        return byId.values().stream()
+                .sorted(Comparator.comparing(TaskShard.TaskRow::createdAt, Comparator.reverseOrder())
+                        .thenComparing(TaskShard.TaskRow::id, Comparator.reverseOrder()))
+                .map(TaskShard.TaskRow::toDto)
+                .toList();
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying shards", ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private record Located(TaskShard shard, TaskShard.TaskRow row) {
+    }
+}
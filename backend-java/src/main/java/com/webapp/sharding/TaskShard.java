@@ -0,0 +1,173 @@
+package com.webapp.sharding;
+
+import com.webapp.dto.TaskDto;
+import com.webapp.enums.TaskStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One database holding a part of the tasks table.
+ *
+ * <p>Shard 0 is the primary database, which only holds tasks created before
+ * sharding was enabled until they are rebalanced. Shards 1..N are the
+ * configured shard databases; shard n allocates task IDs starting at
+ * {@code n << 40}, so task IDs stay globally unique and reveal their home shard.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+final class TaskShard {
+
+    static final int ID_SHARD_SHIFT = 40;
+
+    private static final String COLUMNS = "id, title, description, status, user_id, due_at, created_at, updated_at";
+
+    static final RowMapper<TaskRow> ROW_MAPPER = (rs, rowNum) -> new TaskRow(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("description"),
+            TaskStatus.valueOf(rs.getString("status")),
+            rs.getLong("user_id"),
+            rs.getTimestamp("due_at"),
+            rs.getTimestamp("created_at"),
+            rs.getTimestamp("updated_at"));
+
+    private final int number;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    TaskShard(int number, JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.number = number;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    int getNumber() {
+        return number;
+    }
+
+    JdbcTemplate getJdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    TransactionTemplate getTransactionTemplate() {
+        return transactionTemplate;
+    }
+
+    /**
+     * Returns the first task ID allocated by a shard.
+     *
+     * @param shard Shard number
+     * @return First ID of the shard's range
+     */
+    static long idBase(int shard) {
+        return (long) shard << ID_SHARD_SHIFT;
+    }
+
+    /**
+     * Returns the shard whose ID range contains a task ID.
+     *
+     * @param taskId Task ID
+     * @return Shard number; 0 for IDs allocated before sharding
+     */
+    static int homeShard(long taskId) {
+        return (int) (taskId >>> ID_SHARD_SHIFT);
+    }
+
+    TaskRow findById(long id) {
+        List<TaskRow> rows = jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM tasks WHERE id = ?", ROW_MAPPER, id);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    List<TaskRow> findByUser(long userId, TaskStatus status) {
+        if (status == null) {
+            return jdbcTemplate.query(
+                    "SELECT " + COLUMNS + " FROM tasks WHERE user_id = ? ORDER BY created_at DESC",
+                    ROW_MAPPER, userId);
+        }
+        return jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM tasks WHERE user_id = ? AND status = ? ORDER BY created_at DESC",
+                ROW_MAPPER, userId, status.name());
+    }
+
+    List<TaskRow> findByIds(List<Long> ids) {
+        return jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM tasks WHERE id IN (" + placeholders(ids.size()) + ")",
+                ROW_MAPPER, ids.toArray());
+    }
+
+    List<TaskRow> findByUsers(List<Long> userIds) {
+        return jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM tasks WHERE user_id IN (" + placeholders(userIds.size()) + ") "
+                        + "ORDER BY created_at DESC",
+                ROW_MAPPER, userIds.toArray());
+    }
+
+    List<TaskRow> findAllOrderedById(TaskStatus status) {
+        if (status == null) {
+            return jdbcTemplate.query("SELECT " + COLUMNS + " FROM tasks ORDER BY id", ROW_MAPPER);
+        }
+        return jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM tasks WHERE status = ? ORDER BY id", ROW_MAPPER, status.name());
+    }
+
+    List<TaskRow> findPage(long afterId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM tasks WHERE id > ? ORDER BY id LIMIT ?", ROW_MAPPER, afterId, limit);
+    }
+
+    /**
+     * Takes the shard's write lock for the current transaction by touching the
+     * given rows, so they cannot change until it ends.
+     *
+     * @param ids Task IDs
+     * @return Number of rows found
+     */
+    int lock(List<Long> ids) {
+        return jdbcTemplate.update(
+                "UPDATE tasks SET updated_at = updated_at WHERE id IN (" + placeholders(ids.size()) + ")",
+                ids.toArray());
+    }
+
+    void insert(List<TaskRow> rows) {
+        jdbcTemplate.batchUpdate("INSERT INTO tasks (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                rows.stream().map(row -> new Object[] {row.id(), row.title(), row.description(),
+                        row.status().name(), row.userId(), row.dueAt(), row.createdAt(), row.updatedAt()}).toList());
+    }
+
+    void delete(List<TaskRow> rows) {
+        jdbcTemplate.batchUpdate("DELETE FROM tasks WHERE id = ?",
+                rows.stream().map(row -> new Object[] {row.id()}).toList());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    /**
+     * A task row as stored in a shard.
+     *
+     * @param id Task ID
+     * @param title Title
+     * @param description Description
+     * @param status Status
+     * @param userId Owning user ID
+     * @param dueAt Due date, or null
+     * @param createdAt Creation time
+     * @param updatedAt Last modification time
+     */
+    record TaskRow(long id, String title, String description, TaskStatus status, long userId,
+                   Timestamp dueAt, Timestamp createdAt, Timestamp updatedAt) {
+
+        TaskDto toDto() {
+            return new TaskDto(id, title, description, status, userId,
+                    dueAt != null ? dueAt.toLocalDateTime() : null);
+        }
+    }
+}
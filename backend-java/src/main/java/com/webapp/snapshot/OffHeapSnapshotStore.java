@@ -0,0 +1,291 @@
+package com.webapp.snapshot;
+
+import com.webapp.datasource.ReadYourWrites;
+import com.webapp.repository.TaskRepository;
+import com.webapp.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Read-only snapshot mode for read-mostly deployments.
+ *
+ * <p>When enabled, all task and user rows are copied into a memory-mapped
+ * {@link Snapshot} once the application is ready and again at a fixed interval.
+ * The read methods of the services are then answered from the snapshot without
+ * touching the database, and the dataset lives in the page cache instead of
+ * the heap. A new snapshot is built next to the current one and swapped in
+ * atomically, so readers never see a partial refresh.</p>
+ *
+ * <p>Replaced snapshots are deleted once their files can be removed. Where
+ * mapped files cannot be deleted (Windows), that is only after the old mappings
+ * have been garbage collected, so deletion is retried on every refresh, and
+ * directories left over from a previous run are removed on startup. The
+ * directory must therefore not be shared between instances.</p>
+ *
+ * <p>Writes made through this instance mark the snapshot stale after commit;
+ * reads fall back to the database until the next refresh, so callers always
+ * see their own changes. Callers inside a transaction are never served from
+ * the snapshot either.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Component
+public class OffHeapSnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(OffHeapSnapshotStore.class);
+    private static final String DIRECTORY_PREFIX = "snapshot-";
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final Path directory;
+
+    private final AtomicLong writeGeneration = new AtomicLong();
+    private final Object refreshLock = new Object();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleReads = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final Set<Path> retiredDirectories = ConcurrentHashMap.newKeySet();
+    private volatile Snapshot current;
+
+    /**
+     * Constructor with dependency injection.
+     *
+     * @param taskRepository Task repository
+     * @param userRepository User repository
+     * @param transactionManager Transaction manager for loading snapshots
+     * @param enabled Whether the snapshot mode is enabled
+     * @param directory Directory for the snapshot files
+     */
+    @Autowired
+    public OffHeapSnapshotStore(TaskRepository taskRepository,
+                                UserRepository userRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.read-only-snapshot.enabled:false}") boolean enabled,
+                                @Value("${app.read-only-snapshot.directory:${java.io.tmpdir}/webapp-snapshots}") String directory) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+    }
+
+    /**
+     * Loads the first snapshot once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (enabled) {
+            sweepStaleDirectories();
+            refresh();
+        }
+    }
+
+    /**
+     * Replaces the snapshot at a fixed interval.
+     */
+    @Scheduled(fixedDelayString = "${app.read-only-snapshot.refresh-interval-ms:60000}",
+               initialDelayString = "${app.read-only-snapshot.refresh-interval-ms:60000}")
+    public void scheduledRefresh() {
+        if (enabled) {
+            refresh();
+        }
+    }
+
+    /**
+     * Builds a new snapshot from the database and swaps it in.
+     */
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (refreshLock) {
+            long generation = writeGeneration.get();
+            Path snapshotDirectory = null;
+            try {
+                Files.createDirectories(directory);
+                snapshotDirectory = Files.createTempDirectory(directory, DIRECTORY_PREFIX);
+                try (SnapshotWriter writer = new SnapshotWriter(snapshotDirectory)) {
+                    // The snapshot serves reads until the next write, so it is built from the primary
+                    ReadYourWrites.runOnPrimary(() -> readOnlyTransaction.executeWithoutResult(status -> {
+                        try (Stream<Object[]> rows = taskRepository.streamSnapshotRows()) {
+                            rows.forEach(writer::writeTask);
+                        }
+                        try (Stream<Object[]> rows = taskRepository.streamIdsByUserNewestFirst()) {
+                            rows.forEach(writer::writeTaskByUser);
+                        }
+                        try (Stream<Object[]> rows = userRepository.streamSnapshotRows()) {
+                            rows.forEach(writer::writeUser);
+                        }
+                    }));
+                }
+                Snapshot snapshot = Snapshot.open(snapshotDirectory, generation);
+                Snapshot previous = current;
+                current = snapshot;
+                refreshes.increment();
+                logger.info("Loaded snapshot with {} tasks and {} users ({} bytes)",
+                        snapshot.getTaskCount(), snapshot.getUserCount(), snapshot.getSizeInBytes());
+                if (previous != null) {
+                    retiredDirectories.add(previous.getDirectory());
+                }
+            } catch (IOException | UncheckedIOException | DataAccessException ex) {
+                logger.error("Failed to refresh snapshot, keeping the previous one", ex);
+                if (snapshotDirectory != null) {
+                    retiredDirectories.add(snapshotDirectory);
+                }
+            }
+            deleteRetiredDirectories();
+        }
+    }
+
+    /**
+     * Returns the snapshot if reads may be served from it.
+     *
+     * @return Current snapshot, or null if disabled, not loaded, stale or inside a transaction
+     */
+    public Snapshot current() {
+        if (!enabled) {
+            return null;
+        }
+        Snapshot snapshot = current;
+        if (snapshot == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return null;
+        }
+        if (snapshot.getWriteGeneration() != writeGeneration.get()) {
+            staleReads.increment();
+            return null;
+        }
+        hits.increment();
+        return snapshot;
+    }
+
+    /**
+     * Marks the snapshot stale once the current transaction commits.
+     */
+    public void invalidate() {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            writeGeneration.incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                writeGeneration.incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Removes the snapshot files on shutdown.
+     */
+    @PreDestroy
+    public void stop() {
+        Snapshot snapshot = current;
+        if (snapshot != null) {
+            current = null;
+            retiredDirectories.add(snapshot.getDirectory());
+        }
+        deleteRetiredDirectories();
+    }
+
+    /**
+     * Returns snapshot statistics.
+     *
+     * @return Map of statistics
+     */
+    public Map<String, Object> getStatistics() {
+        Snapshot snapshot = current;
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("enabled", enabled);
+        statistics.put("loaded", snapshot != null);
+        statistics.put("stale", snapshot != null && snapshot.getWriteGeneration() != writeGeneration.get());
+        statistics.put("tasks", snapshot != null ? snapshot.getTaskCount() : 0);
+        statistics.put("users", snapshot != null ? snapshot.getUserCount() : 0);
+        statistics.put("sizeInBytes", snapshot != null ? snapshot.getSizeInBytes() : 0L);
+        statistics.put("hits", hits.sum());
+        statistics.put("staleReads", staleReads.sum());
+        statistics.put("refreshes", refreshes.sum());
+        statistics.put("retiredDirectories", retiredDirectories.size());
+        return statistics;
+    }
+
+    /**
+     * Removes snapshot directories left behind by a previous run.
+     */
+    private void sweepStaleDirectories() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> entries = Files.list(directory)) {
+            entries.filter(entry -> entry.getFileName().toString().startsWith(DIRECTORY_PREFIX))
+                    .forEach(retiredDirectories::add);
+        } catch (IOException ex) {
+            logger.warn("Failed to list snapshot directory {}: {}", directory, ex.getMessage());
+        }
+        deleteRetiredDirectories();
+    }
+
+    /**
+     * Deletes the directories of replaced snapshots; those still in use stay retired.
+     */
+    private void deleteRetiredDirectories() {
+        retiredDirectories.removeIf(OffHeapSnapshotStore::delete);
+        if (!retiredDirectories.isEmpty()) {
+            logger.debug("{} replaced snapshot directories are still in use", retiredDirectories.size());
+        }
+    }
+
+    /**
+     * Deletes a snapshot directory. Readers that still hold the old snapshot keep
+     * working, since the mappings stay valid until they are garbage collected.
+     *
+     * @param snapshotDirectory Directory to delete
+     * @return true if the directory is gone
+     */
+    private static boolean delete(Path snapshotDirectory) {
+        try (Stream<Path> files = Files.walk(snapshotDirectory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(file);
+            }
+            return true;
+        } catch (NoSuchFileException ex) {
+            return true;
+        } catch (IOException ex) {
+            logger.debug("Could not delete snapshot directory {} yet: {}", snapshotDirectory, ex.getMessage());
+            return false;
+        }
+    }
+}
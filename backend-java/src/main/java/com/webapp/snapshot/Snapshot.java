@@ -0,0 +1,287 @@
+package com.webapp.snapshot;
+
+import com.webapp.dto.TaskDto;
+import com.webapp.dto.UserDto;
+import com.webapp.enums.TaskStatus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Immutable, memory-mapped snapshot of the tasks and users tables.
+ *
+ * <p>Every column lives in its own file with fixed-width entries: IDs, user IDs
+ * and due dates as 8-byte longs, the task status as a 1-byte ordinal, and
+ * strings as 12-byte references (offset and length) into a shared UTF-8 string
+ * arena. Rows are stored in ID order, so lookups by ID are binary searches.
+ * A second pair of columns lists the task IDs ordered by user and creation date,
+ * which answers "tasks of user X" with one range search.</p>
+ *
+ * <p>Only the decoded result objects live on the heap; the data itself is paged
+ * in by the operating system. All reads use absolute positions, so a snapshot
+ * can be shared by any number of threads.</p>
+ *
+ * <p>Only the columns the DTOs expose are stored; creation and update
+ * timestamps are not part of the API and are left out.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+public final class Snapshot {
+
+    static final String TASK_IDS = "tasks.id";
+    static final String TASK_USER_IDS = "tasks.user_id";
+    static final String TASK_STATUSES = "tasks.status";
+    static final String TASK_TITLES = "tasks.title";
+    static final String TASK_DESCRIPTIONS = "tasks.description";
+    static final String TASK_DUE_AT = "tasks.due_at";
+    static final String TASKS_BY_USER_USER_IDS = "tasks_by_user.user_id";
+    static final String TASKS_BY_USER_TASK_IDS = "tasks_by_user.task_id";
+    static final String USER_IDS = "users.id";
+    static final String USER_EMAILS = "users.email";
+    static final String USER_NAMES = "users.name";
+    static final String STRINGS = "strings";
+
+    /** Size of a string reference: 8-byte arena offset and 4-byte length (-1 for null). */
+    static final int STRING_REF_SIZE = 12;
+    /** The string arena is mapped in segments; no string crosses a segment boundary. */
+    static final int ARENA_SEGMENT_SIZE = 1 << 30;
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+
+    private final Path directory;
+    private final long writeGeneration;
+    private final int taskCount;
+    private final int userCount;
+    private final int tasksByUserCount;
+
+    private final ByteBuffer taskIds;
+    private final ByteBuffer taskUserIds;
+    private final ByteBuffer taskStatuses;
+    private final ByteBuffer taskTitles;
+    private final ByteBuffer taskDescriptions;
+    private final ByteBuffer taskDueAt;
+    private final ByteBuffer tasksByUserUserIds;
+    private final ByteBuffer tasksByUserTaskIds;
+    private final ByteBuffer userIds;
+    private final ByteBuffer userEmails;
+    private final ByteBuffer userNames;
+    private final ByteBuffer[] strings;
+    private final long sizeInBytes;
+
+    private Snapshot(Path directory, long writeGeneration) throws IOException {
+        this.directory = directory;
+        this.writeGeneration = writeGeneration;
+        this.taskIds = map(TASK_IDS);
+        this.taskUserIds = map(TASK_USER_IDS);
+        this.taskStatuses = map(TASK_STATUSES);
+        this.taskTitles = map(TASK_TITLES);
+        this.taskDescriptions = map(TASK_DESCRIPTIONS);
+        this.taskDueAt = map(TASK_DUE_AT);
+        this.tasksByUserUserIds = map(TASKS_BY_USER_USER_IDS);
+        this.tasksByUserTaskIds = map(TASKS_BY_USER_TASK_IDS);
+        this.userIds = map(USER_IDS);
+        this.userEmails = map(USER_EMAILS);
+        this.userNames = map(USER_NAMES);
+        this.strings = mapSegments(STRINGS);
+        this.taskCount = taskIds.capacity() / Long.BYTES;
+        this.userCount = userIds.capacity() / Long.BYTES;
+        this.tasksByUserCount = tasksByUserUserIds.capacity() / Long.BYTES;
+        try (Stream<Path> files = Files.list(directory)) {
+            long total = 0;
+            for (Path file : (Iterable<Path>) files::iterator) {
+                total += Files.size(file);
+            }
+            this.sizeInBytes = total;
+        }
+    }
+
+    /**
+     * Maps a snapshot written by {@link SnapshotWriter}.
+     *
+     * @param directory Snapshot directory
+     * @param writeGeneration Local write generation the snapshot was taken at
+     * @return Mapped snapshot
+     * @throws IOException If a column cannot be mapped
+     */
+    static Snapshot open(Path directory, long writeGeneration) throws IOException {
+        return new Snapshot(directory, writeGeneration);
+    }
+
+    /**
+     * Finds a task by ID.
+     *
+     * @param id Task ID
+     * @return Task DTO, or null if the snapshot has no such task
+     */
+    public TaskDto findTask(long id) {
+        int row = search(taskIds, taskCount, id);
+        return row < 0 ? null : task(row);
+    }
+
+    /**
+     * Lists tasks, optionally filtered by user and status.
+     *
+     * <p>Tasks of one user are returned newest first, all tasks in ID order.</p>
+     *
+     * @param userId Optional user ID filter
+     * @param status Optional status filter
+     * @return Matching tasks
+     */
+    public List<TaskDto> findTasks(Long userId, TaskStatus status) {
+        List<TaskDto> tasks = new ArrayList<>();
+        if (userId == null) {
+            for (int row = 0; row < taskCount; row++) {
+                if (status == null || taskStatuses.get(row) == status.ordinal()) {
+                    tasks.add(task(row));
+                }
+            }
+            return tasks;
+        }
+        int entry = lowerBound(tasksByUserUserIds, tasksByUserCount, userId);
+        while (entry < tasksByUserCount && tasksByUserUserIds.getLong(entry * Long.BYTES) == userId) {
+            int row = search(taskIds, taskCount, tasksByUserTaskIds.getLong(entry * Long.BYTES));
+            if (row >= 0 && (status == null || taskStatuses.get(row) == status.ordinal())) {
+                tasks.add(task(row));
+            }
+            entry++;
+        }
+        return tasks;
+    }
+
+    /**
+     * Finds a user by ID.
+     *
+     * @param id User ID
+     * @return User DTO, or null if the snapshot has no such user
+     */
+    public UserDto findUser(long id) {
+        int row = search(userIds, userCount, id);
+        return row < 0 ? null : user(row);
+    }
+
+    /**
+     * Lists all users in ID order.
+     *
+     * @return All users
+     */
+    public List<UserDto> findUsers() {
+        List<UserDto> users = new ArrayList<>(userCount);
+        for (int row = 0; row < userCount; row++) {
+            users.add(user(row));
+        }
+        return users;
+    }
+
+    /**
+     * Returns the number of tasks in the snapshot.
+     *
+     * @return Task count
+     */
+    public int getTaskCount() {
+        return taskCount;
+    }
+
+    /**
+     * Returns the number of users in the snapshot.
+     *
+     * @return User count
+     */
+    public int getUserCount() {
+        return userCount;
+    }
+
+    long getWriteGeneration() {
+        return writeGeneration;
+    }
+
+    long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    private TaskDto task(int row) {
+        return new TaskDto(
+                taskIds.getLong(row * Long.BYTES),
+                string(taskTitles, row),
+                string(taskDescriptions, row),
+                STATUSES[taskStatuses.get(row)],
+                taskUserIds.getLong(row * Long.BYTES),
+                timestamp(taskDueAt.getLong(row * Long.BYTES)));
+    }
+
+    private UserDto user(int row) {
+        return new UserDto(userIds.getLong(row * Long.BYTES), string(userEmails, row), string(userNames, row));
+    }
+
+    private static LocalDateTime timestamp(long epochMillis) {
+        if (epochMillis == NULL_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private String string(ByteBuffer references, int row) {
+        int position = row * STRING_REF_SIZE;
+        long offset = references.getLong(position);
+        int length = references.getInt(position + Long.BYTES);
+        if (length <= 0) {
+            return length == 0 ? "" : null;
+        }
+        byte[] bytes = new byte[length];
+        strings[(int) (offset / ARENA_SEGMENT_SIZE)].get((int) (offset % ARENA_SEGMENT_SIZE), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int search(ByteBuffer column, int count, long value) {
+        int row = lowerBound(column, count, value);
+        return row < count && column.getLong(row * Long.BYTES) == value ? row : -1;
+    }
+
+    private static int lowerBound(ByteBuffer column, int count, long value) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (column.getLong(mid * Long.BYTES) < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private ByteBuffer map(String column) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory.resolve(column), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private ByteBuffer[] mapSegments(String column) throws IOException {
+        try (FileChannel channel = FileChannel.open(directory.resolve(column), StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer[] segments = new ByteBuffer[(int) Math.max(1, (size + ARENA_SEGMENT_SIZE - 1) / ARENA_SEGMENT_SIZE)];
+            for (int i = 0; i < segments.length; i++) {
+                long start = (long) i * ARENA_SEGMENT_SIZE;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(ARENA_SEGMENT_SIZE, size - start));
+            }
+            return segments;
+        }
+    }
+}
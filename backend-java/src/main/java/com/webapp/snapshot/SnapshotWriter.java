@@ -0,0 +1,152 @@
+package com.webapp.snapshot;
+
+import com.webapp.enums.TaskStatus;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes the column files of a {@link Snapshot}.
+ *
+ * <p>Rows are appended in the order they are streamed from the database, so
+ * task and user rows must arrive ordered by ID, and the tasks-by-user entries
+ * ordered by user ID. Only a small write buffer per column is kept on the heap.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+final class SnapshotWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+
+    private final Map<String, DataOutputStream> columns = new LinkedHashMap<>();
+    private long arenaOffset;
+
+    /**
+     * Creates the column files in the given directory.
+     *
+     * @param directory Empty snapshot directory
+     * @throws IOException If a column file cannot be created
+     */
+    SnapshotWriter(Path directory) throws IOException {
+        for (String column : new String[] {
+                Snapshot.TASK_IDS, Snapshot.TASK_USER_IDS, Snapshot.TASK_STATUSES,
+                Snapshot.TASK_TITLES, Snapshot.TASK_DESCRIPTIONS, Snapshot.TASK_DUE_AT,
+                Snapshot.TASKS_BY_USER_USER_IDS, Snapshot.TASKS_BY_USER_TASK_IDS,
+                Snapshot.USER_IDS, Snapshot.USER_EMAILS, Snapshot.USER_NAMES, Snapshot.STRINGS}) {
+            columns.put(column, new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(directory.resolve(column)), BUFFER_SIZE)));
+        }
+    }
+
+    /**
+     * Appends a task row: {id, userId, status, createdAt, updatedAt, title, description, dueAt}.
+     * The timestamps are skipped, since the snapshot does not serve them.
+     *
+     * @param row Task row
+     */
+    void writeTask(Object[] row) {
+        try {
+            column(Snapshot.TASK_IDS).writeLong((Long) row[0]);
+            column(Snapshot.TASK_USER_IDS).writeLong((Long) row[1]);
+            column(Snapshot.TASK_STATUSES).writeByte(((TaskStatus) row[2]).ordinal());
+            writeString(Snapshot.TASK_TITLES, (String) row[5]);
+            writeString(Snapshot.TASK_DESCRIPTIONS, (String) row[6]);
+            column(Snapshot.TASK_DUE_AT).writeLong(epochMillis((LocalDateTime) row[7]));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write task snapshot", ex);
+        }
+    }
+
+    /**
+     * Appends a tasks-by-user entry: {userId, taskId}.
+     *
+     * @param row Tasks-by-user entry
+     */
+    void writeTaskByUser(Object[] row) {
+        try {
+            column(Snapshot.TASKS_BY_USER_USER_IDS).writeLong((Long) row[0]);
+            column(Snapshot.TASKS_BY_USER_TASK_IDS).writeLong((Long) row[1]);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write task snapshot", ex);
+        }
+    }
+
+    /**
+     * Appends a user row: {id, email, name, createdAt, updatedAt}.
+     * The timestamps are skipped, since the snapshot does not serve them.
+     *
+     * @param row User row
+     */
+    void writeUser(Object[] row) {
+        try {
+            column(Snapshot.USER_IDS).writeLong((Long) row[0]);
+            writeString(Snapshot.USER_EMAILS, (String) row[1]);
+            writeString(Snapshot.USER_NAMES, (String) row[2]);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write user snapshot", ex);
+        }
+    }
+
+    /**
+     * Flushes and closes all column files.
+     *
+     * @throws IOException If a column file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (DataOutputStream column : columns.values()) {
+            try {
+                column.close();
+            } catch (IOException ex) {
+                failure = ex;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private DataOutputStream column(String name) {
+        return columns.get(name);
+    }
+
+    private void writeString(String referenceColumn, String value) throws IOException {
+        DataOutputStream references = column(referenceColumn);
+        if (value == null) {
+            references.writeLong(0);
+            references.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        long segmentEnd = (arenaOffset / Snapshot.ARENA_SEGMENT_SIZE + 1) * Snapshot.ARENA_SEGMENT_SIZE;
+        DataOutputStream arena = column(Snapshot.STRINGS);
+        if (arenaOffset + bytes.length > segmentEnd) {
+            // Pad to the next segment so that no string spans two mappings
+            for (long i = arenaOffset; i < segmentEnd; i++) {
+                arena.write(0);
+            }
+            arenaOffset = segmentEnd;
+        }
+        references.writeLong(arenaOffset);
+        references.writeInt(bytes.length);
+        arena.write(bytes);
+        arenaOffset += bytes.length;
+    }
+
+    private static long epochMillis(LocalDateTime timestamp) {
+        return timestamp == null ? NULL_TIMESTAMP : timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
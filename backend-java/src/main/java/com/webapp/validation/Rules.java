@@ -0,0 +1,89 @@
+package com.webapp.validation;
+
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Factories for the common field rules.
+ *
+ * <p>Each rule builds its {@link ValidationRule.Violation} once, so a failing
+ * check does not allocate. Length and pattern rules pass null values; combine
+ * them with {@link #required} or {@link #notBlank} where the field is mandatory.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+public final class Rules {
+
+    private Rules() {
+    }
+
+    /**
+     * Requires a field to be present.
+     *
+     * @param field Field name
+     * @param getter Accessor of the field
+     * @param message Error message
+     * @param <T> Type of the validated value
+     * @return The rule
+     */
+    public static <T> ValidationRule<T> required(String field, Function<T, ?> getter, String message) {
+        ValidationRule.Violation violation = new ValidationRule.Violation(field, message);
+        return value -> getter.apply(value) == null ? violation : null;
+    }
+
+    /**
+     * Requires a string field to contain a non-whitespace character.
+     *
+     * @param field Field name
+     * @param getter Accessor of the field
+     * @param message Error message
+     * @param <T> Type of the validated value
+     * @return The rule
+     */
+    public static <T> ValidationRule<T> notBlank(String field, Function<T, String> getter, String message) {
+        ValidationRule.Violation violation = new ValidationRule.Violation(field, message);
+        return value -> {
+            String text = getter.apply(value);
+            return text == null || text.isBlank() ? violation : null;
+        };
+    }
+
+    /**
+     * Limits the length of a string field.
+     *
+     * @param field Field name
+     * @param getter Accessor of the field
+     * @param maxLength Maximum number of characters
+     * @param message Error message
+     * @param <T> Type of the validated value
+     * @return The rule
+     */
+    public static <T> ValidationRule<T> maxLength(String field, Function<T, String> getter, int maxLength,
+                                                  String message) {
+        ValidationRule.Violation violation = new ValidationRule.Violation(field, message);
+        return value -> {
+            String text = getter.apply(value);
+            return text != null && text.length() > maxLength ? violation : null;
+        };
+    }
+
+    /**
+     * Requires a string field to match a pattern as a whole.
+     *
+     * @param field Field name
+     * @param getter Accessor of the field
+     * @param pattern Precompiled pattern
+     * @param message Error message
+     * @param <T> Type of the validated value
+     * @return The rule
+     */
+    public static <T> ValidationRule<T> matches(String field, Function<T, String> getter, Pattern pattern,
+                                                String message) {
+        ValidationRule.Violation violation = new ValidationRule.Violation(field, message);
+        return value -> {
+            String text = getter.apply(value);
+            return text != null && !pattern.matcher(text).matches() ? violation : null;
+        };
+    }
+}
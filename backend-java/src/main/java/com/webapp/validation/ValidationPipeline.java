@@ -0,0 +1,77 @@
+package com.webapp.validation;
+
+import com.webapp.exception.ValidationFailedException;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An ordered, immutable list of {@link ValidationRule}s for one type.
+ *
+ * <p>Rules run in the order they were added, in a single pass, and every
+ * invalid field is reported with its first violation, so presence checks
+ * should come before length checks and pattern matches of the same field.
+ * A valid value allocates nothing.
+ * {@link #with} returns an extended copy, which is how new rules are plugged
+ * into an existing pipeline.</p>
+ *
+ * @param <T> Type of the validated value
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+public final class ValidationPipeline<T> {
+
+    private final ValidationRule<? super T>[] rules;
+
+    private ValidationPipeline(ValidationRule<? super T>[] rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Creates a pipeline.
+     *
+     * @param rules Rules in the order they run
+     * @param <T> Type of the validated value
+     * @return The pipeline
+     */
+    @SafeVarargs
+    public static <T> ValidationPipeline<T> of(ValidationRule<? super T>... rules) {
+        return new ValidationPipeline<>(rules.clone());
+    }
+
+    /**
+     * Returns a copy of this pipeline with a rule appended.
+     *
+     * @param rule Rule to run after the existing ones
+     * @return The extended pipeline
+     */
+    public ValidationPipeline<T> with(ValidationRule<? super T> rule) {
+        ValidationRule<? super T>[] extended = Arrays.copyOf(rules, rules.length + 1);
+        extended[rules.length] = rule;
+        return new ValidationPipeline<>(extended);
+    }
+
+    /**
+     * Validates a value.
+     *
+     * @param value Value to validate, never null
+     * @throws ValidationFailedException With the first violation of every invalid field
+     */
+    public void validate(T value) {
+        Map<String, String> errors = null;
+        for (ValidationRule<? super T> rule : rules) {
+            ValidationRule.Violation violation = rule.check(value);
+            if (violation == null) {
+                continue;
+            }
+            if (errors == null) {
+                errors = new LinkedHashMap<>();
+            }
+            errors.putIfAbsent(violation.field(), violation.message());
+        }
+        if (errors != null) {
+            throw new ValidationFailedException(errors);
+        }
+    }
+}
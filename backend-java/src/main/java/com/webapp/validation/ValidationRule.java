@@ -0,0 +1,32 @@
+package com.webapp.validation;
+
+/**
+ * A single check of a {@link ValidationPipeline}.
+ *
+ * <p>Rules return their violation instead of throwing it, so a pipeline can
+ * collect the violations of all fields without exception handling per rule.</p>
+ *
+ * @param <T> Type of the validated value
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface ValidationRule<T> {
+
+    /**
+     * Checks a value.
+     *
+     * @param value Value to check, never null
+     * @return The violation, or null if the value passes
+     */
+    Violation check(T value);
+
+    /**
+     * A failed rule.
+     *
+     * @param field Name of the invalid field
+     * @param message Error message for the client
+     */
+    record Violation(String field, String message) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.webapp;
+
+import com.webapp.controller.HealthController;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+
+/**
+ * Reactive stack: WebFlux controllers on Netty, backed by R2DBC.
+ * 
+ * <p>Only part of builds with the Maven profile {@code reactive}, which
+ * registers it in {@code META-INF/spring/...AutoConfiguration.imports}, so the
+ * default build needs neither WebFlux nor R2DBC. Active with the Spring profile
+ * {@code reactive}, which also switches the web application type and the
+ * auto-configured data access.</p>
+ * 
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@AutoConfiguration
+@Profile("reactive")
+@ComponentScan("com.webapp.reactive")
+@EnableR2dbcRepositories("com.webapp.reactive.repository")
+@Import(HealthController.class)
+public class ReactiveStackConfiguration {
+}
@@ -0,0 +1,156 @@
+package com.webapp.reactive.controller;
+
+import com.webapp.dto.TaskDto;
+import com.webapp.dto.UpdateTaskStatusDto;
+import com.webapp.enums.TaskStatus;
+import com.webapp.exception.InvalidRequestException;
+import com.webapp.reactive.service.ReactiveTaskService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux controller for task-related HTTP endpoints.
+ * 
+ * <p>Same paths, payloads and status codes as {@link com.webapp.controller.TaskController},
+ * except for multi-get ({@code ?ids}, {@code POST /lookup}) and archived tasks
+ * ({@code ?includeArchived}), which only the servlet stack serves. Requests
+ * using them are rejected with 400 instead of being answered as if the
+ * parameter were absent.</p>
+ * 
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/tasks")
+@CrossOrigin(origins = "${spring.web.cors.allowed-origins}", allowCredentials = "true")
+public class ReactiveTaskController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveTaskController.class);
+
+    private final ReactiveTaskService taskService;
+
+    /**
+     * Constructor with dependency injection.
+     * 
+     * @param taskService Reactive task service
+     */
+    @Autowired
+    public ReactiveTaskController(ReactiveTaskService taskService) {
+        this.taskService = taskService;
+    }
+
+    /**
+     * GET /api/tasks
+     * Retrieves all tasks, optionally filtered by user ID and status.
+     * Query parameters: ?userId=123&status=PENDING
+     * 
+     * @param userId Optional user ID filter
+     * @param status Optional status filter
+     * @param ids Multi-get IDs; not supported
+     * @param includeArchived Archive flag; not supported
+     * @return Tasks
+     */
+    @GetMapping
+    public Flux<TaskDto> getAllTasks(@RequestParam(required = false) Long userId,
+                                     @RequestParam(required = false) TaskStatus status,
+                                     @RequestParam(required = false) String ids,
+                                     @RequestParam(required = false) String includeArchived) {
+        if (ids != null) {
+            return Flux.error(unsupported("?ids"));
+        }
+        if (includeArchived != null) {
+            return Flux.error(unsupported("?includeArchived"));
+        }
+        logger.debug("GET /api/tasks - Retrieving tasks with userId filter: {} and status filter: {}", userId, status);
+        return taskService.getAllTasks(userId, status);
+    }
+
+    /**
+     * GET /api/tasks/:id
+     * Retrieves a task by ID.
+     * 
+     * @param id Task ID
+     * @return Task DTO
+     */
+    @GetMapping("/{id}")
+    public Mono<TaskDto> getTaskById(@PathVariable Long id) {
+        logger.debug("GET /api/tasks/{} - Retrieving task by ID", id);
+        return taskService.getTaskById(id);
+    }
+
+    /**
+     * POST /api/tasks
+     * Creates a new task.
+     * 
+     * @param taskDto Task data
+     * @return Created task DTO
+     */
+    @PostMapping
+    public Mono<ResponseEntity<TaskDto>> createTask(@RequestBody TaskDto taskDto) {
+        logger.debug("POST /api/tasks - Creating task with title: {}", taskDto.title());
+        return taskService.createTask(taskDto)
+                .map(createdTask -> ResponseEntity.status(HttpStatus.CREATED).body(createdTask));
+    }
+
+    /**
+     * PUT /api/tasks/:id
+     * Updates an existing task.
+     * 
+     * @param id Task ID
+     * @param taskDto Updated task data
+     * @return Updated task DTO
+     */
+    @PutMapping("/{id}")
+    public Mono<TaskDto> updateTask(@PathVariable Long id, @RequestBody TaskDto taskDto) {
+        logger.debug("PUT /api/tasks/{} - Updating task", id);
+        return taskService.updateTask(id, taskDto);
+    }
+
+    /**
+     * PATCH /api/tasks/:id/status
+     * Updates task status.
+     * 
+     * @param id Task ID
+     * @param statusDto Status update data
+     * @return Updated task DTO
+     */
+    @PatchMapping("/{id}/status")
+    public Mono<TaskDto> updateTaskStatus(@PathVariable Long id, @RequestBody UpdateTaskStatusDto statusDto) {
+        logger.debug("PATCH /api/tasks/{}/status - Updating task status to: {}", id, statusDto.status());
+        return taskService.updateTaskStatus(id, statusDto);
+    }
+
+    /**
+     * DELETE /api/tasks/:id
+     * Deletes a task by ID.
+     * 
+     * @param id Task ID
+     * @return No content response
+     */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteTask(@PathVariable Long id) {
+        logger.debug("DELETE /api/tasks/{} - Deleting task", id);
+        return taskService.deleteTask(id).then(Mono.just(ResponseEntity.noContent().<Void>build()));
+    }
+
+    /**
+     * POST /api/tasks/lookup
+     * Multi-get by ID; not supported by the reactive stack.
+     * 
+     * @return Always an error
+     */
+    @PostMapping("/lookup")
+    public Mono<Void> lookupTasks() {
+        return Mono.error(unsupported("POST /api/tasks/lookup"));
+    }
+
+    private static InvalidRequestException unsupported(String feature) {
+        return InvalidRequestException.of(feature + " is not supported by the reactive API");
+    }
+}
@@ -0,0 +1,139 @@
+package com.webapp.reactive.controller;
+
+import com.webapp.dto.UserDto;
+import com.webapp.exception.InvalidRequestException;
+import com.webapp.reactive.service.ReactiveUserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux controller for user-related HTTP endpoints.
+ * 
+ * <p>Same paths, payloads and status codes as {@link com.webapp.controller.UserController},
+ * except for multi-get ({@code ?ids}, {@code POST /lookup}) and embedded tasks
+ * ({@code ?include=tasks}), which only the servlet stack serves. Requests using
+ * them are rejected with 400 instead of being answered as if the parameter
+ * were absent.</p>
+ * 
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/users")
+@CrossOrigin(origins = "${spring.web.cors.allowed-origins}", allowCredentials = "true")
+public class ReactiveUserController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveUserController.class);
+
+    private final ReactiveUserService userService;
+
+    /**
+     * Constructor with dependency injection.
+     * 
+     * @param userService Reactive user service
+     */
+    @Autowired
+    public ReactiveUserController(ReactiveUserService userService) {
+        this.userService = userService;
+    }
+
+    /**
+     * GET /api/users
+     * Retrieves all users.
+     * 
+     * @param ids Multi-get IDs; not supported
+     * @param include Embedded relations; not supported
+     * @return All users
+     */
+    @GetMapping
+    public Flux<UserDto> getAllUsers(@RequestParam(required = false) String ids,
+                                     @RequestParam(required = false) String include) {
+        if (ids != null) {
+            return Flux.error(unsupported("?ids"));
+        }
+        if (include != null) {
+            return Flux.error(unsupported("?include"));
+        }
+        logger.debug("GET /api/users - Retrieving all users");
+        return userService.getAllUsers();
+    }
+
+    /**
+     * GET /api/users/:id
+     * Retrieves a user by ID.
+     * 
+     * @param id User ID
+     * @param include Embedded relations; not supported
+     * @return User DTO
+     */
+    @GetMapping("/{id}")
+    public Mono<UserDto> getUserById(@PathVariable Long id, @RequestParam(required = false) String include) {
+        if (include != null) {
+            return Mono.error(unsupported("?include"));
+        }
+        logger.debug("GET /api/users/{} - Retrieving user by ID", id);
+        return userService.getUserById(id);
+    }
+
+    /**
+     * POST /api/users
+     * Creates a new user.
+     * 
+     * @param userDto User data
+     * @return Created user DTO
+     */
+    @PostMapping
+    public Mono<ResponseEntity<UserDto>> createUser(@RequestBody UserDto userDto) {
+        logger.debug("POST /api/users - Creating user with email: {}", userDto.email());
+        return userService.createUser(userDto)
+                .map(createdUser -> ResponseEntity.status(HttpStatus.CREATED).body(createdUser));
+    }
+
+    /**
+     * PUT /api/users/:id
+     * Updates an existing user.
+     * 
+     * @param id User ID
+     * @param userDto Updated user data
+     * @return Updated user DTO
+     */
+    @PutMapping("/{id}")
+    public Mono<UserDto> updateUser(@PathVariable Long id, @RequestBody UserDto userDto) {
+        logger.debug("PUT /api/users/{} - Updating user", id);
+        return userService.updateUser(id, userDto);
+    }
+
+    /**
+     * DELETE /api/users/:id
+     * Deletes a user by ID.
+     * 
+     * @param id User ID
+     * @return No content response
+     */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteUser(@PathVariable Long id) {
+        logger.debug("DELETE /api/users/{} - Deleting user", id);
+        return userService.deleteUser(id).then(Mono.just(ResponseEntity.noContent().<Void>build()));
+    }
+
+    /**
+     * POST /api/users/lookup
+     * Multi-get by ID; not supported by the reactive stack.
+     * 
+     * @return Always an error
+     */
+    @PostMapping("/lookup")
+    public Mono<Void> lookupUsers() {
+        return Mono.error(unsupported("POST /api/users/lookup"));
+    }
+
+    private static InvalidRequestException unsupported(String feature) {
+        return InvalidRequestException.of(feature + " is not supported by the reactive API");
+    }
+}
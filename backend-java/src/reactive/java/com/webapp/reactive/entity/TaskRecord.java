@@ -0,0 +1,37 @@
+package com.webapp.reactive.entity;
+
+import com.webapp.enums.TaskStatus;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Task row for the reactive stack.
+ * 
+ * <p>Maps the same 'tasks' table as the JPA {@code Task} entity. Immutable;
+ * changes are saved as a modified copy.</p>
+ * 
+ * @param id Task ID, null before insert
+ * @param title Task title
+ * @param description Task description
+ * @param status Task status
+ * @param userId User ID who owns the task
+ * @param dueAt Optional due date
+ * @param createdAt Creation time
+ * @param updatedAt Last modification time
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Table("tasks")
+public record TaskRecord(
+        @Id Long id,
+        String title,
+        String description,
+        TaskStatus status,
+        @Column("user_id") Long userId,
+        @Column("due_at") LocalDateTime dueAt,
+        @Column("created_at") LocalDateTime createdAt,
+        @Column("updated_at") LocalDateTime updatedAt) {
+}
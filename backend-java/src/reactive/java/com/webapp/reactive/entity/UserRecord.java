@@ -0,0 +1,30 @@
+package com.webapp.reactive.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * User row for the reactive stack.
+ * 
+ * <p>Maps the same 'users' table as the JPA {@code User} entity. Immutable;
+ * changes are saved as a modified copy.</p>
+ * 
+ * @param id User ID, null before insert
+ * @param email User's email address
+ * @param name User's full name
+ * @param createdAt Creation time
+ * @param updatedAt Last modification time
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Table("users")
+public record UserRecord(
+        @Id Long id,
+        String email,
+        String name,
+        @Column("created_at") LocalDateTime createdAt,
+        @Column("updated_at") LocalDateTime updatedAt) {
+}
@@ -0,0 +1,46 @@
+package com.webapp.reactive.repository;
+
+import com.webapp.enums.TaskStatus;
+import com.webapp.reactive.entity.TaskRecord;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reactive repository for task rows.
+ * 
+ * <p>Mirrors the queries of {@link com.webapp.repository.TaskRepository}.</p>
+ * 
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Repository
+public interface ReactiveTaskRepository extends R2dbcRepository<TaskRecord, Long> {
+
+    /**
+     * Finds all tasks for a specific user.
+     * 
+     * @param userId User ID to filter by
+     * @return Tasks for the user, ordered by creation date descending
+     */
+    @Query("SELECT * FROM tasks WHERE user_id = :userId ORDER BY created_at DESC")
+    Flux<TaskRecord> findByUserId(Long userId);
+
+    /**
+     * Finds all tasks with a specific status.
+     * 
+     * @param status Task status to filter by
+     * @return Tasks with the specified status
+     */
+    Flux<TaskRecord> findByStatus(TaskStatus status);
+
+    /**
+     * Finds all tasks for a specific user with a specific status.
+     * 
+     * @param userId User ID to filter by
+     * @param status Task status to filter by
+     * @return Tasks matching both criteria
+     */
+    Flux<TaskRecord> findByUserIdAndStatus(Long userId, TaskStatus status);
+}
@@ -0,0 +1,34 @@
+package com.webapp.reactive.repository;
+
+import com.webapp.reactive.entity.UserRecord;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive repository for user rows.
+ * 
+ * <p>Mirrors the queries of {@link com.webapp.repository.UserRepository}.</p>
+ * 
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Repository
+public interface ReactiveUserRepository extends R2dbcRepository<UserRecord, Long> {
+
+    /**
+     * Finds a user by email address.
+     * 
+     * @param email Email address to search for
+     * @return User if found, empty otherwise
+     */
+    Mono<UserRecord> findByEmail(String email);
+
+    /**
+     * Checks if a user exists with the given email address.
+     * 
+     * @param email Email address to check
+     * @return true if user exists, false otherwise
+     */
+    Mono<Boolean> existsByEmail(String email);
+}
@@ -0,0 +1,183 @@
+package com.webapp.reactive.service;
+
+import com.webapp.dto.TaskDto;
+import com.webapp.dto.UpdateTaskStatusDto;
+import com.webapp.enums.TaskStatus;
+import com.webapp.exception.ResourceNotFoundException;
+import com.webapp.reactive.entity.TaskRecord;
+import com.webapp.reactive.repository.ReactiveTaskRepository;
+import com.webapp.reactive.repository.ReactiveUserRepository;
+import com.webapp.validation.DtoValidation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reactive service for task business logic.
+ * 
+ * <p>Same operations, validation and errors as {@link com.webapp.service.TaskService},
+ * without blocking a thread while waiting for the database.</p>
+ * 
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class ReactiveTaskService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveTaskService.class);
+
+    private final ReactiveTaskRepository taskRepository;
+    private final ReactiveUserRepository userRepository;
+
+    /**
+     * Constructor with dependency injection.
+     * 
+     * @param taskRepository Reactive task repository
+     * @param userRepository Reactive user repository
+     */
+    @Autowired
+    public ReactiveTaskService(ReactiveTaskRepository taskRepository, ReactiveUserRepository userRepository) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Retrieves all tasks, optionally filtered by user ID and status.
+     * 
+     * @param userId Optional user ID filter
+     * @param status Optional status filter
+     * @return Tasks as DTOs
+     */
+    @Transactional(readOnly = true)
+    public Flux<TaskDto> getAllTasks(Long userId, TaskStatus status) {
+        logger.debug("Retrieving tasks with userId filter: {} and status filter: {}", userId, status);
+        Flux<TaskRecord> tasks;
+        if (userId != null && status != null) {
+            tasks = taskRepository.findByUserIdAndStatus(userId, status);
+        } else if (userId != null) {
+            tasks = taskRepository.findByUserId(userId);
+        } else if (status != null) {
+            tasks = taskRepository.findByStatus(status);
+        } else {
+            tasks = taskRepository.findAll();
+        }
+        return tasks.map(ReactiveTaskService::toDto);
+    }
+
+    /**
+     * Retrieves a task by ID.
+     * 
+     * @param id Task ID
+     * @return Task DTO, or an error if the task is not found
+     */
+    @Transactional(readOnly = true)
+    public Mono<TaskDto> getTaskById(Long id) {
+        logger.debug("Retrieving task with ID: {}", id);
+        return findTask(id).map(ReactiveTaskService::toDto);
+    }
+
+    /**
+     * Creates a new task with validation.
+     * 
+     * @param taskDto Task data
+     * @return Created task DTO, or an error if the user is not found or validation fails
+     */
+    public Mono<TaskDto> createTask(TaskDto taskDto) {
+        logger.debug("Creating task with title: {}", taskDto.title());
+        return Mono.fromRunnable(() -> DtoValidation.TASK.validate(taskDto))
+                .then(requireUser(taskDto.userId()))
+                .then(Mono.defer(() -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    TaskStatus status = taskDto.status() != null ? taskDto.status() : TaskStatus.PENDING;
+                    return taskRepository.save(new TaskRecord(null, taskDto.title(), taskDto.description(),
+                            status, taskDto.userId(), taskDto.dueAt(), now, now));
+                }))
+                .doOnNext(task -> logger.info("Created task with ID: {}", task.id()))
+                .map(ReactiveTaskService::toDto);
+    }
+
+    /**
+     * Updates an existing task.
+     * 
+     * @param id Task ID
+     * @param taskDto Updated task data
+     * @return Updated task DTO, or an error if the task or user is not found or validation fails
+     */
+    public Mono<TaskDto> updateTask(Long id, TaskDto taskDto) {
+        logger.debug("Updating task with ID: {}", id);
+        return Mono.fromRunnable(() -> DtoValidation.TASK.validate(taskDto))
+                .then(findTask(id))
+                .flatMap(task -> {
+                    Mono<Void> userCheck = taskDto.userId() != null && !taskDto.userId().equals(task.userId())
+                            ? requireUser(taskDto.userId())
+                            : Mono.empty();
+                    return userCheck.then(Mono.fromCallable(() -> new TaskRecord(
+                            task.id(),
+                            taskDto.title() != null ? taskDto.title() : task.title(),
+                            taskDto.description() != null ? taskDto.description() : task.description(),
+                            taskDto.status() != null ? taskDto.status() : task.status(),
+                            taskDto.userId() != null ? taskDto.userId() : task.userId(),
+                            taskDto.dueAt() != null ? taskDto.dueAt() : task.dueAt(),
+                            task.createdAt(),
+                            LocalDateTime.now())));
+                })
+                .flatMap(taskRepository::save)
+                .doOnNext(task -> logger.info("Updated task with ID: {}", task.id()))
+                .map(ReactiveTaskService::toDto);
+    }
+
+    /**
+     * Updates task status.
+     * 
+     * @param id Task ID
+     * @param statusDto Status update data
+     * @return Updated task DTO, or an error if the task is not found or the status is invalid
+     */
+    public Mono<TaskDto> updateTaskStatus(Long id, UpdateTaskStatusDto statusDto) {
+        logger.debug("Updating task status for ID: {} to status: {}", id, statusDto.status());
+        return Mono.fromRunnable(() -> DtoValidation.TASK_STATUS.validate(statusDto))
+                .then(findTask(id))
+                .map(task -> new TaskRecord(task.id(), task.title(), task.description(), statusDto.status(),
+                        task.userId(), task.dueAt(), task.createdAt(), LocalDateTime.now()))
+                .flatMap(taskRepository::save)
+                .doOnNext(task -> logger.info("Updated task status for ID: {} to status: {}", task.id(), task.status()))
+                .map(ReactiveTaskService::toDto);
+    }
+
+    /**
+     * Deletes a task by ID.
+     * 
+     * @param id Task ID
+     * @return Completion, or an error if the task is not found
+     */
+    public Mono<Void> deleteTask(Long id) {
+        logger.debug("Deleting task with ID: {}", id);
+        return findTask(id)
+                .flatMap(taskRepository::delete)
+                .doOnSuccess(done -> logger.info("Deleted task with ID: {}", id));
+    }
+
+    private Mono<TaskRecord> findTask(Long id) {
+        return taskRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> ResourceNotFoundException.task(id)));
+    }
+
+    private Mono<Void> requireUser(Long userId) {
+        return Mono.defer(() -> userRepository.existsById(userId))
+                .flatMap(exists -> exists
+                        ? Mono.<Void>empty()
+                        : Mono.error(ResourceNotFoundException.user(userId)));
+    }
+
+    private static TaskDto toDto(TaskRecord task) {
+        return new TaskDto(task.id(), task.title(), task.description(), task.status(), task.userId(),
+                task.dueAt());
+    }
+}
@@ -0,0 +1,143 @@
+package com.webapp.reactive.service;
+
+import com.webapp.dto.UserDto;
+import com.webapp.exception.ResourceConflictException;
+import com.webapp.exception.ResourceNotFoundException;
+import com.webapp.reactive.entity.UserRecord;
+import com.webapp.reactive.repository.ReactiveUserRepository;
+import com.webapp.validation.DtoValidation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reactive service for user business logic.
+ * 
+ * <p>Same operations, validation and errors as {@link com.webapp.service.UserService},
+ * without blocking a thread while waiting for the database.</p>
+ * 
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class ReactiveUserService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveUserService.class);
+
+    private final ReactiveUserRepository userRepository;
+
+    /**
+     * Constructor with dependency injection.
+     * 
+     * @param userRepository Reactive user repository
+     */
+    @Autowired
+    public ReactiveUserService(ReactiveUserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Retrieves all users.
+     * 
+     * @return All users as DTOs
+     */
+    @Transactional(readOnly = true)
+    public Flux<UserDto> getAllUsers() {
+        logger.debug("Retrieving all users");
+        return userRepository.findAll().map(ReactiveUserService::toDto);
+    }
+
+    /**
+     * Retrieves a user by ID.
+     * 
+     * @param id User ID
+     * @return User DTO, or an error if the user is not found
+     */
+    @Transactional(readOnly = true)
+    public Mono<UserDto> getUserById(Long id) {
+        logger.debug("Retrieving user with ID: {}", id);
+        return findUser(id).map(ReactiveUserService::toDto);
+    }
+
+    /**
+     * Creates a new user with validation.
+     * 
+     * @param userDto User data
+     * @return Created user DTO, or an error if the email already exists or validation fails
+     */
+    public Mono<UserDto> createUser(UserDto userDto) {
+        logger.debug("Creating user with email: {}", userDto.email());
+        return Mono.fromRunnable(() -> DtoValidation.USER.validate(userDto))
+                .then(Mono.defer(() -> userRepository.existsByEmail(userDto.email())))
+                .flatMap(exists -> {
+                    if (exists) {
+                        return Mono.error(ResourceConflictException.duplicateEmail(userDto.email()));
+                    }
+                    LocalDateTime now = LocalDateTime.now();
+                    return userRepository.save(new UserRecord(null, userDto.email(), userDto.name(), now, now));
+                })
+                .doOnNext(user -> logger.info("Created user with ID: {}", user.id()))
+                .map(ReactiveUserService::toDto);
+    }
+
+    /**
+     * Updates an existing user.
+     * 
+     * @param id User ID
+     * @param userDto Updated user data
+     * @return Updated user DTO, or an error if the user is not found, the email is taken or validation fails
+     */
+    public Mono<UserDto> updateUser(Long id, UserDto userDto) {
+        logger.debug("Updating user with ID: {}", id);
+        return Mono.fromRunnable(() -> DtoValidation.USER.validate(userDto))
+                .then(findUser(id))
+                .flatMap(user -> {
+                    if (userDto.email() == null) {
+                        return Mono.just(user);
+                    }
+                    return userRepository.findByEmail(userDto.email())
+                            .filter(existingUser -> !existingUser.id().equals(id))
+                            .flatMap(existingUser -> Mono.<UserRecord>error(
+                                    ResourceConflictException.duplicateEmail(userDto.email())))
+                            .defaultIfEmpty(user);
+                })
+                .map(user -> new UserRecord(
+                        user.id(),
+                        userDto.email() != null ? userDto.email() : user.email(),
+                        userDto.name() != null ? userDto.name() : user.name(),
+                        user.createdAt(),
+                        LocalDateTime.now()))
+                .flatMap(userRepository::save)
+                .doOnNext(user -> logger.info("Updated user with ID: {}", user.id()))
+                .map(ReactiveUserService::toDto);
+    }
+
+    /**
+     * Deletes a user by ID; the user's tasks are removed by the foreign key cascade.
+     * 
+     * @param id User ID
+     * @return Completion, or an error if the user is not found
+     */
+    public Mono<Void> deleteUser(Long id) {
+        logger.debug("Deleting user with ID: {}", id);
+        return findUser(id)
+                .flatMap(userRepository::delete)
+                .doOnSuccess(done -> logger.info("Deleted user with ID: {}", id));
+    }
+
+    private Mono<UserRecord> findUser(Long id) {
+        return userRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> ResourceNotFoundException.user(id)));
+    }
+
+    private static UserDto toDto(UserRecord user) {
+        return new UserDto(user.id(), user.email(), user.name());
+    }
+}
@@ -0,0 +1,123 @@
+package com.webapp.deadline;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link HierarchicalTimingWheel}.
+ *
+ * <p>The wheel has a 10 ms tick, 8 slots and 3 levels, so level 0 covers 80 ms,
+ * level 1 640 ms and level 2 5120 ms.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+class HierarchicalTimingWheelTest {
+
+    private final HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 3, 0);
+
+    @Test
+    void expiresTimerInTheTickOfItsExpiration() {
+        wheel.add(35, "a");
+
+        assertEquals(List.of(), wheel.advance(29));
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("a"), wheel.advance(39));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void returnsTimersInExpirationOrder() {
+        wheel.add(55, "c");
+        wheel.add(25, "a");
+        wheel.add(45, "b");
+
+        assertEquals(List.of("a", "b", "c"), wheel.advance(100));
+    }
+
+    @Test
+    void cascadesTimersFromHigherLevels() {
+        wheel.add(165, "level 1");
+        wheel.add(4_005, "level 2");
+
+        assertEquals(List.of(), wheel.advance(159));
+        assertEquals(List.of("level 1"), wheel.advance(169));
+        assertEquals(List.of(), wheel.advance(3_999));
+        assertEquals(List.of("level 2"), wheel.advance(4_009));
+    }
+
+    @Test
+    void keepsTimersBeyondTheTopLevelUntilTheyComeIntoRange() {
+        wheel.add(12_345, "far");
+
+        assertEquals(List.of(), wheel.advance(5_120));
+        assertEquals(List.of(), wheel.advance(12_339));
+        assertEquals(List.of("far"), wheel.advance(12_349));
+    }
+
+    @Test
+    void advancesInSeveralSteps() {
+        wheel.add(2_000, "x");
+
+        for (long now = 0; now < 2_000; now += 7) {
+            assertEquals(List.of(), wheel.advance(now));
+        }
+        assertEquals(List.of("x"), wheel.advance(2_000));
+    }
+
+    @Test
+    void returnsOverdueTimersOnTheNextAdvance() {
+        HierarchicalTimingWheel<String> started = new HierarchicalTimingWheel<>(10, 8, 3, 1_000);
+
+        started.add(500, "overdue");
+
+        assertEquals(0, started.size());
+        assertEquals(List.of("overdue"), started.advance(1_000));
+        assertEquals(List.of(), started.advance(1_000));
+    }
+
+    @Test
+    void cancelledTimersDoNotExpire() {
+        HierarchicalTimingWheel.Timer<String> timer = wheel.add(500, "cancelled");
+        wheel.add(600, "kept");
+
+        assertTrue(wheel.cancel(timer));
+        assertFalse(timer.isPending());
+        assertFalse(wheel.cancel(timer));
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("kept"), wheel.advance(1_000));
+    }
+
+    @Test
+    void expiredTimersCannotBeCancelled() {
+        HierarchicalTimingWheel.Timer<String> timer = wheel.add(50, "a");
+
+        wheel.advance(100);
+
+        assertFalse(wheel.cancel(timer));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void acceptsTimersAfterIdleTime() {
+        assertEquals(List.of(), wheel.advance(1_000_000));
+
+        wheel.add(1_000_050, "late");
+
+        assertEquals(List.of(), wheel.advance(1_000_049));
+        assertEquals(List.of("late"), wheel.advance(1_000_059));
+    }
+
+    @Test
+    void rejectsInvalidDimensions() {
+        assertThrows(IllegalArgumentException.class, () -> new HierarchicalTimingWheel<>(0, 8, 3, 0));
+        assertThrows(IllegalArgumentException.class, () -> new HierarchicalTimingWheel<>(10, 1, 3, 0));
+        assertThrows(IllegalArgumentException.class, () -> new HierarchicalTimingWheel<>(10, 8, 0, 0));
+    }
+}
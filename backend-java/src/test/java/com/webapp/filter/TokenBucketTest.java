@@ -0,0 +1,116 @@
+package com.webapp.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link TokenBucket}.
+ *
+ * <p>The buckets refill 10 tokens per second, one every 100 ms.</p>
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+class TokenBucketTest {
+
+    private static final long START = 1_000_000_000L;
+    private static final long INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    void allowsABurstUpToTheCapacity() {
+        TokenBucket bucket = new TokenBucket(10, 3, START);
+
+        assertEquals(0, bucket.tryConsume(START));
+        assertEquals(0, bucket.tryConsume(START));
+        assertEquals(0, bucket.tryConsume(START));
+        assertEquals(INTERVAL, bucket.tryConsume(START));
+    }
+
+    @Test
+    void refillsAtTheConfiguredRate() {
+        TokenBucket bucket = new TokenBucket(10, 1, START);
+
+        assertEquals(0, bucket.tryConsume(START));
+        assertEquals(INTERVAL / 2, bucket.tryConsume(START + INTERVAL / 2));
+        assertEquals(0, bucket.tryConsume(START + INTERVAL));
+        assertTrue(bucket.tryConsume(START + INTERVAL) > 0);
+    }
+
+    @Test
+    void rejectedAttemptsDoNotTakeTokens() {
+        TokenBucket bucket = new TokenBucket(10, 1, START);
+
+        bucket.tryConsume(START);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(bucket.tryConsume(START) > 0);
+        }
+
+        assertEquals(0, bucket.tryConsume(START + INTERVAL));
+    }
+
+    @Test
+    void neverStoresMoreThanTheCapacity() {
+        TokenBucket bucket = new TokenBucket(10, 2, START);
+        long later = START + 100 * INTERVAL;
+
+        assertEquals(0, bucket.tryConsume(later));
+        assertEquals(0, bucket.tryConsume(later));
+        assertTrue(bucket.tryConsume(later) > 0);
+    }
+
+    @Test
+    void isFullOnceAllTokensAreBack() {
+        TokenBucket bucket = new TokenBucket(10, 2, START);
+        assertTrue(bucket.isFull(START));
+
+        bucket.tryConsume(START);
+        bucket.tryConsume(START);
+
+        assertFalse(bucket.isFull(START + INTERVAL));
+        assertTrue(bucket.isFull(START + 2 * INTERVAL));
+    }
+
+    @Test
+    void grantsExactlyTheCapacityToConcurrentCallers() throws Exception {
+        int capacity = 50;
+        int threads = 8;
+        TokenBucket bucket = new TokenBucket(10, capacity, START);
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 100; i++) {
+                        if (bucket.tryConsume(START) == 0) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(capacity, granted.get());
+    }
+}
@@ -0,0 +1,136 @@
+package com.webapp.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.webapp.enums.ImportFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link CsvRecordReader}.
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+class CsvRecordReaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsRecordsByHeaderName() throws IOException {
+        try (RecordReader reader = open("email,name\na@example.com,Ann\nb@example.com,Bob\n")) {
+            assertEquals(Map.of("email", "a@example.com", "name", "Ann"), reader.next());
+            assertEquals(Map.of("email", "b@example.com", "name", "Bob"), reader.next());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void readsEmptyAndMissingFieldsAsAbsent() throws IOException {
+        try (RecordReader reader = open("title,description,status\nFirst,,PENDING\nSecond\n")) {
+            Map<String, String> first = new HashMap<>();
+            first.put("title", "First");
+            first.put("description", null);
+            first.put("status", "PENDING");
+            assertEquals(first, reader.next());
+            assertEquals(Map.of("title", "Second"), reader.next());
+        }
+    }
+
+    @Test
+    void readsQuotedFields() throws IOException {
+        String csv = "title,description\n"
+                + "\"Comma, inside\",\"Line one\nline two\"\n"
+                + "\"Say \"\"hi\"\"\",\"\"\n";
+        try (RecordReader reader = open(csv)) {
+            assertEquals(Map.of("title", "Comma, inside", "description", "Line one\nline two"), reader.next());
+            Map<String, String> second = new HashMap<>();
+            second.put("title", "Say \"hi\"");
+            second.put("description", null);
+            assertEquals(second, reader.next());
+        }
+    }
+
+    @Test
+    void handlesCrLfByteOrderMarkAndBlankLines() throws IOException {
+        byte[] bom = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+        byte[] body = " email , name \r\n\r\nä@example.com,Jürgen\r\n\n".getBytes(StandardCharsets.UTF_8);
+        byte[] content = new byte[bom.length + body.length];
+        System.arraycopy(bom, 0, content, 0, bom.length);
+        System.arraycopy(body, 0, content, bom.length, body.length);
+        Path file = directory.resolve("bom.csv");
+        Files.write(file, content);
+
+        try (RecordReader reader = RecordReader.open(ImportFormat.CSV, file, 0, new ObjectMapper())) {
+            assertEquals(Map.of("email", "ä@example.com", "name", "Jürgen"), reader.next());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void rejectsRecordsWithTooManyFieldsAndContinues() throws IOException {
+        try (RecordReader reader = open("email,name\na@example.com,Ann,extra\nb@example.com,Bob\n")) {
+            assertThrows(MalformedRecordException.class, reader::next);
+            assertEquals(Map.of("email", "b@example.com", "name", "Bob"), reader.next());
+        }
+    }
+
+    @Test
+    void rejectsUnterminatedQuotedFields() throws IOException {
+        try (RecordReader reader = open("email,name\na@example.com,\"Ann\n")) {
+            assertThrows(MalformedRecordException.class, reader::next);
+        }
+    }
+
+    @Test
+    void skipsRecordsLongerThanTheLimit() throws IOException {
+        String longName = "x".repeat(RecordReader.MAX_RECORD_BYTES + 10);
+        try (RecordReader reader = open("email,name\na@example.com," + longName + "\nb@example.com,Bob\n")) {
+            assertThrows(MalformedRecordException.class, reader::next);
+            assertEquals(Map.of("email", "b@example.com", "name", "Bob"), reader.next());
+        }
+    }
+
+    @Test
+    void continuesAtACheckpoint() throws IOException {
+        Path file = write("email,name\na@example.com,Ann\nb@example.com,Bob\n");
+        long checkpoint;
+        try (RecordReader reader = RecordReader.open(ImportFormat.CSV, file, 0, new ObjectMapper())) {
+            reader.next();
+            checkpoint = reader.position();
+        }
+
+        try (RecordReader reader = RecordReader.open(ImportFormat.CSV, file, checkpoint, new ObjectMapper())) {
+            assertEquals(Map.of("email", "b@example.com", "name", "Bob"), reader.next());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void rejectsFilesWithoutHeader() throws IOException {
+        Path file = write("");
+
+        assertThrows(IOException.class, () -> RecordReader.open(ImportFormat.CSV, file, 0, new ObjectMapper()));
+    }
+
+    private RecordReader open(String content) throws IOException {
+        return RecordReader.open(ImportFormat.CSV, write(content), 0, new ObjectMapper());
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = Files.createTempFile(directory, "import", ".csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+}
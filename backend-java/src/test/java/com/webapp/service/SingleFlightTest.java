@@ -0,0 +1,182 @@
+package com.webapp.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Unit tests for {@link SingleFlight}.
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+class SingleFlightTest {
+
+    private static final int FOLLOWERS = 5;
+
+    private final SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+    private final List<Thread> threads = new ArrayList<>();
+    private final List<Thread> followerThreads = new ArrayList<>();
+
+    @Test
+    void runsTheLoaderForASingleCall() {
+        assertEquals(42, singleFlight.execute("key", () -> 42));
+
+        assertEquals(1, singleFlight.getCalls());
+        assertEquals(1, singleFlight.getExecutions());
+        assertEquals(0, singleFlight.getCoalesced());
+    }
+
+    @Test
+    void doesNotCacheCompletedExecutions() {
+        AtomicInteger executions = new AtomicInteger();
+
+        assertEquals(1, singleFlight.execute("key", executions::incrementAndGet));
+        assertEquals(2, singleFlight.execute("key", executions::incrementAndGet));
+    }
+
+    @Test
+    void callersArrivingDuringAnExecutionShareTheNextOne() throws Exception {
+        CountDownLatch leaderRunning = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        Supplier<Integer> loader = () -> {
+            int execution = executions.incrementAndGet();
+            if (execution == 1) {
+                leaderRunning.countDown();
+                await(releaseLeader);
+            }
+            return execution;
+        };
+
+        Future<Integer> leader = call("key", loader);
+        await(leaderRunning);
+        List<Future<Integer>> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followers.add(follow(loader));
+        }
+        awaitFollowersWaiting();
+        releaseLeader.countDown();
+
+        assertEquals(1, leader.get(10, TimeUnit.SECONDS));
+        for (Future<Integer> follower : followers) {
+            assertEquals(2, follower.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(2, executions.get());
+        assertEquals(2, singleFlight.getExecutions());
+        assertEquals(FOLLOWERS - 1, singleFlight.getCoalesced());
+    }
+
+    @Test
+    void sharesTheExceptionOfAnExecution() throws Exception {
+        CountDownLatch leaderRunning = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        IllegalStateException failure = new IllegalStateException("loader failed");
+        Supplier<Integer> loader = () -> {
+            if (executions.incrementAndGet() == 1) {
+                leaderRunning.countDown();
+                await(releaseLeader);
+                return 1;
+            }
+            throw failure;
+        };
+
+        Future<Integer> leader = call("key", loader);
+        await(leaderRunning);
+        List<Future<Integer>> followers = new ArrayList<>();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            followers.add(follow(loader));
+        }
+        awaitFollowersWaiting();
+        releaseLeader.countDown();
+
+        assertEquals(1, leader.get(10, TimeUnit.SECONDS));
+        for (Future<Integer> follower : followers) {
+            ExecutionException ex = assertThrows(ExecutionException.class,
+                    () -> follower.get(10, TimeUnit.SECONDS));
+            assertSame(failure, ex.getCause());
+        }
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    void recoversAfterAFailedExecution() {
+        assertInstanceOf(IllegalStateException.class, assertThrows(RuntimeException.class,
+                () -> singleFlight.execute("key", () -> {
+                    throw new IllegalStateException("loader failed");
+                })));
+
+        assertEquals(7, singleFlight.execute("key", () -> 7));
+    }
+
+    @Test
+    void doesNotCoalesceDifferentKeys() throws Exception {
+        CountDownLatch bothRunning = new CountDownLatch(2);
+        Supplier<Integer> loader = () -> {
+            bothRunning.countDown();
+            await(bothRunning);
+            return 1;
+        };
+
+        Future<Integer> first = call("a", loader);
+        Future<Integer> second = call("b", loader);
+
+        assertEquals(1, first.get(10, TimeUnit.SECONDS));
+        assertEquals(1, second.get(10, TimeUnit.SECONDS));
+        assertEquals(2, singleFlight.getExecutions());
+    }
+
+    private Future<Integer> call(String key, Supplier<Integer> loader) {
+        FutureTask<Integer> task = new FutureTask<>(() -> singleFlight.execute(key, loader));
+        Thread thread = new Thread(task);
+        thread.setDaemon(true);
+        thread.start();
+        threads.add(thread);
+        return task;
+    }
+
+    private Future<Integer> follow(Supplier<Integer> loader) {
+        Future<Integer> follower = call("key", loader);
+        followerThreads.add(threads.get(threads.size() - 1));
+        return follower;
+    }
+
+    /**
+     * Waits until every follower has registered and blocks on its execution.
+     */
+    private void awaitFollowersWaiting() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!followerThreads.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING)) {
+            if (System.nanoTime() > deadline) {
+                fail("Followers did not block on the running execution");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out waiting for the latch");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.webapp.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link ShardRouter}.
+ *
+ * @author Web Application Team
+ * @version 1.0.0
+ */
+class ShardRouterTest {
+
+    private static final int USERS = 20_000;
+    private static final int VIRTUAL_NODES = 128;
+
+    @Test
+    void routesEveryUserToTheSameShardAcrossInstances() {
+        ShardRouter router = new ShardRouter(4, VIRTUAL_NODES);
+        ShardRouter other = new ShardRouter(4, VIRTUAL_NODES);
+
+        for (long userId = 1; userId <= USERS; userId++) {
+            assertEquals(router.shardForUser(userId), other.shardForUser(userId));
+        }
+    }
+
+    @Test
+    void spreadsUsersEvenlyOverAllShards() {
+        ShardRouter router = new ShardRouter(4, VIRTUAL_NODES);
+        int[] counts = new int[5];
+
+        for (long userId = 1; userId <= USERS; userId++) {
+            int shard = router.shardForUser(userId);
+            assertTrue(shard >= 1 && shard <= 4, "shard " + shard + " out of range");
+            counts[shard]++;
+        }
+
+        for (int shard = 1; shard <= 4; shard++) {
+            double share = counts[shard] / (double) USERS;
+            assertTrue(share > 0.15 && share < 0.35, "shard " + shard + " has " + share + " of the users");
+        }
+    }
+
+    @Test
+    void appendingAShardOnlyMovesUsersToTheNewShard() {
+        ShardRouter before = new ShardRouter(4, VIRTUAL_NODES);
+        ShardRouter after = new ShardRouter(5, VIRTUAL_NODES);
+        int moved = 0;
+
+        for (long userId = 1; userId <= USERS; userId++) {
+            int oldShard = before.shardForUser(userId);
+            int newShard = after.shardForUser(userId);
+            if (oldShard != newShard) {
+                assertEquals(5, newShard, "user " + userId + " moved between existing shards");
+                moved++;
+            }
+        }
+
+        double share = moved / (double) USERS;
+        assertTrue(share > 0.1 && share < 0.3, share + " of the users moved");
+    }
+
+    @Test
+    void routesEverythingToASingleShard() {
+        ShardRouter router = new ShardRouter(1, VIRTUAL_NODES);
+
+        for (long userId = -100; userId <= 100; userId++) {
+            assertEquals(1, router.shardForUser(userId));
+        }
+    }
+
+    @Test
+    void rejectsZeroShards() {
+        assertThrows(IllegalArgumentException.class, () -> new ShardRouter(0, VIRTUAL_NODES));
+    }
+}